@@ -0,0 +1,41 @@
+#!/bin/bash
+
+# Compares two JMH JSON reports, e.g. the target/jmh-result-<version>.json files
+# written by `make benchmark` for two releases. For every benchmark and parameter
+# set present in both, prints the score and the bytes allocated per operation
+# (from the gc profiler) before and after, with the relative change.
+#
+# Requires: jq
+
+if [ $# -ne 2 ]; then
+    echo "Usage: $0 <before.json> <after.json>"
+    exit 1
+fi
+
+if ! command -v jq > /dev/null; then
+    echo "jq is not installed"
+    exit 1
+fi
+
+# One line per benchmark: key, unit, score, allocated bytes per op (or null)
+summarize() {
+    jq -r '.[] | [
+        (.benchmark | sub("^.*\\.benchmark\\."; "")) + ((.params // {}) | to_entries | map(" " + .key + "=" + .value) | join("")),
+        .primaryMetric.scoreUnit,
+        .primaryMetric.score,
+        (.secondaryMetrics["gc.alloc.rate.norm"].score // "null")
+    ] | @tsv' "$1" | sort
+}
+
+join -t $'\t' <(summarize "$1") <(summarize "$2") | awk -F'\t' '
+    function change(before, after) {
+        if (before == "null" || after == "null" || before == 0) return "n/a"
+        return sprintf("%+.1f%%", (after - before) * 100 / before)
+    }
+    BEGIN {
+        printf "%-60s %14s %14s %9s %12s %12s %9s\n", "Benchmark", "Before", "After", "Change", "B/op before", "B/op after", "Change"
+    }
+    {
+        printf "%-60s %9.3f %-4s %9.3f %-4s %9s %12s %12s %9s\n", $1, $3, $2, $6, $5, change($3, $6),
+            ($4 == "null" ? "-" : sprintf("%.0f", $4)), ($7 == "null" ? "-" : sprintf("%.0f", $7)), change($4, $7)
+    }'
@@ -0,0 +1,69 @@
+#!/bin/bash
+
+# Compares throughput and p99 latency of the thread-per-request model against
+# virtual threads. Each mode starts the packaged app, warms it up, then drives
+# GET /v1/api/users with `hey` at a fixed concurrency.
+#
+# Requires: a running PostgreSQL (docker-compose up db), `hey` on the PATH,
+# Java 21+ for the virtual-thread run.
+#
+# To reproduce a slow database, point DB_HOST/DB_PORT at a latency proxy
+# (e.g. toxiproxy with a latency toxic) before running.
+#
+# Recorded results and the connection gate gauges are in docs/load-testing.md.
+
+# Colors for output
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+YELLOW='\033[1;33m'
+NC='\033[0m' # No Color
+
+PORT=${PORT:-8080}
+CONCURRENCY=${CONCURRENCY:-400}
+DURATION=${DURATION:-60s}
+WARMUP=${WARMUP:-15s}
+TARGET_PATH=${TARGET_PATH:-/v1/api/users?limit=20}
+JAR=$(ls target/*.jar 2>/dev/null | grep -v original | head -1)
+
+if ! command -v hey > /dev/null; then
+    echo -e "${RED}hey is not installed: go install github.com/rakyll/hey@latest${NC}"
+    exit 1
+fi
+
+if [ -z "$JAR" ]; then
+    echo "Building the project..."
+    ./mvnw clean package -DskipTests || exit 1
+    JAR=$(ls target/*.jar | grep -v original | head -1)
+fi
+
+run_mode() {
+    local mode=$1
+    local virtual=$2
+
+    echo -e "${YELLOW}=== ${mode} ===${NC}" >&2
+    SERVER_PORT=$PORT VIRTUAL_THREADS_ENABLED=$virtual JWT_ENABLED=false LOG_LEVEL=WARN \
+        java -jar "$JAR" --spring.jpa.show-sql=false > "target/load-test-${mode}.log" 2>&1 &
+    local pid=$!
+
+    for _ in $(seq 1 60); do
+        curl -sf "http://localhost:${PORT}${TARGET_PATH}" > /dev/null && break
+        sleep 1
+    done
+
+    hey -z "$WARMUP" -c "$CONCURRENCY" "http://localhost:${PORT}${TARGET_PATH}" > /dev/null
+    local report
+    report=$(hey -z "$DURATION" -c "$CONCURRENCY" "http://localhost:${PORT}${TARGET_PATH}")
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null
+
+    local rps p99 errors
+    rps=$(echo "$report" | awk '/Requests\/sec/ {print $2}')
+    p99=$(echo "$report" | awk '/99% in/ {print $3 * 1000}')
+    errors=$(echo "$report" | awk '/^  \[[^2][0-9][0-9]\]/ {sum += $2} END {print sum + 0}')
+    printf "%-10s %12s %12s %10s\n" "$mode" "$rps" "$p99" "$errors"
+}
+
+printf "%-10s %12s %12s %10s\n" "mode" "req/s" "p99 (ms)" "non-2xx"
+run_mode platform false
+run_mode virtual true
@@ -0,0 +1,321 @@
+package com.shopdevjava.springboot.benchmark;
+
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.model.UserField;
+import com.shopdevjava.springboot.domain.model.UserProjection;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * UserRepository kept in maps, so service benchmarks measure the service rather than a
+ * database. Reads hand out copies, as the JDBC adapter materializes new users per call.
+ */
+class InMemoryUserRepository implements UserRepository {
+
+    private static final Comparator<UserCursor> POSITION_ORDER =
+            Comparator.comparing(UserCursor::createdAt).thenComparing(UserCursor::id);
+
+    private final NavigableMap<UserCursor, User> byPosition = new TreeMap<>(POSITION_ORDER);
+    private final Map<Long, User> byId = new HashMap<>();
+    private final Map<String, User> byEmail = new HashMap<>();
+    private long nextId = 1;
+
+    @Override
+    public synchronized List<User> findAll() {
+        return copies(byPosition.values(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized List<User> findPage(UserCursor after, int limit) {
+        return copies(after == null ? byPosition.values() : byPosition.tailMap(after, false).values(), limit);
+    }
+
+    @Override
+    public synchronized List<UserProjection> findProjectedPage(UserCursor after, int limit, Set<UserField> fields) {
+        Collection<User> users = after == null ? byPosition.values() : byPosition.tailMap(after, false).values();
+        List<UserProjection> page = new ArrayList<>(Math.min(limit, users.size()));
+        for (User user : users) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(new UserProjection(UserCursor.of(user), project(user, fields)));
+        }
+        return page;
+    }
+
+    @Override
+    public synchronized void streamAll(Consumer<User> action) {
+        for (User user : byPosition.values()) {
+            User copy = copy(user);
+            copy.setPassword(null);
+            action.accept(copy);
+        }
+    }
+
+    @Override
+    public synchronized void streamAllEmails(Consumer<String> action) {
+        byEmail.keySet().forEach(action);
+    }
+
+    @Override
+    public synchronized Optional<User> findById(Long id) {
+        return Optional.ofNullable(byId.get(id)).map(InMemoryUserRepository::copy);
+    }
+
+    @Override
+    public synchronized Optional<Map<String, Object>> findProjectedById(Long id, Set<UserField> fields) {
+        return Optional.ofNullable(byId.get(id)).map(user -> project(user, fields));
+    }
+
+    @Override
+    public synchronized List<User> findAllByIds(Collection<Long> ids) {
+        List<User> users = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            User user = byId.get(id);
+            if (user != null) {
+                users.add(copy(user));
+            }
+        }
+        return users;
+    }
+
+    @Override
+    public synchronized Optional<User> findByEmail(String email) {
+        return Optional.ofNullable(byEmail.get(email)).map(InMemoryUserRepository::copy);
+    }
+
+    @Override
+    public synchronized List<User> search(String query, int offset, int limit) {
+        List<User> matches = new ArrayList<>();
+        int skipped = 0;
+        for (User user : byPosition.values()) {
+            if (matches.size() == limit) {
+                break;
+            }
+            if (contains(user.getFirstName(), query) || contains(user.getLastName(), query)
+                    || contains(user.getEmail(), query)) {
+                if (skipped++ >= offset) {
+                    matches.add(copy(user));
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public synchronized List<UserSuggestion> suggest(String query, int limit) {
+        List<UserSuggestion> suggestions = new ArrayList<>();
+        for (User user : byPosition.values()) {
+            if (suggestions.size() == limit) {
+                break;
+            }
+            if (startsWith(user.getFirstName(), query) || startsWith(user.getLastName(), query)
+                    || startsWith(user.getEmail(), query)) {
+                suggestions.add(UserSuggestion.of(user));
+            }
+        }
+        return suggestions;
+    }
+
+    @Override
+    public synchronized Optional<Long> findVersionById(Long id) {
+        return Optional.ofNullable(byId.get(id)).map(User::getVersion);
+    }
+
+    @Override
+    public synchronized User save(User user) {
+        User existing = user.getId() == null ? null : byId.get(user.getId());
+        User sameEmail = byEmail.get(user.getEmail());
+        if (sameEmail != null && sameEmail != existing) {
+            throw new UserException("Email already in use", UserException.UserExceptionType.DUPLICATE_EMAIL);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        User stored;
+        if (existing == null) {
+            stored = new User(user.getId() == null ? nextId++ : user.getId(), user.getFirstName(), user.getLastName(),
+                    user.getEmail(), user.getPassword(), now, now, 0L);
+        } else {
+            remove(existing);
+            stored = new User(existing.getId(), user.getFirstName(), user.getLastName(), user.getEmail(),
+                    user.getPassword(), existing.getCreatedAt(), now, existing.getVersion() + 1);
+        }
+        put(stored);
+        return copy(stored);
+    }
+
+    @Override
+    public synchronized List<User> saveAll(List<User> users) {
+        List<User> saved = new ArrayList<>(users.size());
+        for (User user : users) {
+            saved.add(save(user));
+        }
+        return saved;
+    }
+
+    @Override
+    public synchronized Optional<User> update(Long id, User changes) {
+        User existing = byId.get(id);
+        return existing == null ? Optional.empty() : Optional.of(apply(existing, changes));
+    }
+
+    @Override
+    public synchronized Optional<User> updateIfVersionMatches(Long id, User changes, long expectedVersion) {
+        User existing = byId.get(id);
+        return existing == null || existing.getVersion() != expectedVersion
+                ? Optional.empty()
+                : Optional.of(apply(existing, changes));
+    }
+
+    @Override
+    public synchronized boolean deleteById(Long id) {
+        User existing = byId.get(id);
+        if (existing == null) {
+            return false;
+        }
+        remove(existing);
+        return true;
+    }
+
+    @Override
+    public synchronized int deleteAllByIds(Collection<Long> ids) {
+        int deleted = 0;
+        for (Long id : ids) {
+            if (deleteById(id)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public synchronized List<Long> deleteCreatedBefore(LocalDateTime cutoff, int limit) {
+        List<Long> deleted = new ArrayList<>();
+        for (User user : byPosition.headMap(new UserCursor(cutoff, Long.MIN_VALUE), false).values()) {
+            if (deleted.size() == limit) {
+                break;
+            }
+            deleted.add(user.getId());
+        }
+        deleted.forEach(this::deleteById);
+        return deleted;
+    }
+
+    @Override
+    public synchronized boolean existsById(Long id) {
+        return byId.containsKey(id);
+    }
+
+    @Override
+    public synchronized boolean existsByEmail(String email) {
+        return byEmail.containsKey(email);
+    }
+
+    @Override
+    public synchronized Set<String> findExistingEmails(Collection<String> emails) {
+        Set<String> existing = new HashSet<>();
+        for (String email : emails) {
+            if (byEmail.containsKey(email)) {
+                existing.add(email);
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public synchronized void deleteAll() {
+        byPosition.clear();
+        byId.clear();
+        byEmail.clear();
+    }
+
+    @Override
+    public synchronized long count() {
+        return byId.size();
+    }
+
+    private User apply(User existing, User changes) {
+        String email = changes.getEmail() != null ? changes.getEmail() : existing.getEmail();
+        User sameEmail = byEmail.get(email);
+        if (sameEmail != null && sameEmail != existing) {
+            throw new UserException("Email already in use", UserException.UserExceptionType.DUPLICATE_EMAIL);
+        }
+        remove(existing);
+        User updated = new User(existing.getId(),
+                changes.getFirstName() != null ? changes.getFirstName() : existing.getFirstName(),
+                changes.getLastName() != null ? changes.getLastName() : existing.getLastName(),
+                email,
+                changes.getPassword() != null ? changes.getPassword() : existing.getPassword(),
+                existing.getCreatedAt(), LocalDateTime.now(), existing.getVersion() + 1);
+        put(updated);
+        return copy(updated);
+    }
+
+    private void put(User user) {
+        byPosition.put(UserCursor.of(user), user);
+        byId.put(user.getId(), user);
+        byEmail.put(user.getEmail(), user);
+    }
+
+    private void remove(User user) {
+        byPosition.remove(UserCursor.of(user));
+        byId.remove(user.getId());
+        byEmail.remove(user.getEmail());
+    }
+
+    private static List<User> copies(Collection<User> users, int limit) {
+        List<User> copies = new ArrayList<>(Math.min(limit, users.size()));
+        for (User user : users) {
+            if (copies.size() == limit) {
+                break;
+            }
+            copies.add(copy(user));
+        }
+        return copies;
+    }
+
+    private static User copy(User user) {
+        return new User(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getPassword(),
+                user.getCreatedAt(), user.getUpdatedAt(), user.getVersion());
+    }
+
+    private static Map<String, Object> project(User user, Set<UserField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (UserField field : fields) {
+            values.put(field.fieldName(), switch (field) {
+                case ID -> user.getId();
+                case FIRST_NAME -> user.getFirstName();
+                case LAST_NAME -> user.getLastName();
+                case EMAIL -> user.getEmail();
+                case CREATED_AT -> user.getCreatedAt();
+                case UPDATED_AT -> user.getUpdatedAt();
+                case VERSION -> user.getVersion();
+            });
+        }
+        return values;
+    }
+
+    private static boolean contains(String value, String query) {
+        return value != null && value.toLowerCase().contains(query);
+    }
+
+    private static boolean startsWith(String value, String query) {
+        return value != null && value.toLowerCase().startsWith(query);
+    }
+}
@@ -0,0 +1,52 @@
+package com.shopdevjava.springboot.benchmark;
+
+import com.shopdevjava.springboot.infrastructure.adapter.security.BCryptPasswordHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of one password hash and one credential check per BCrypt strength, used to
+ * pick {@code user.password.bcrypt-strength} and size the hashing pool: a core sustains
+ * about 1000 / score hashes per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private BCryptPasswordHasher hasher;
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        hasher = new BCryptPasswordHasher(strength);
+        storedHash = hasher.hash("password123");
+    }
+
+    @Benchmark
+    public String hash() {
+        return hasher.hash("password123");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return hasher.matches("password123", storedHash);
+    }
+}
@@ -0,0 +1,150 @@
+package com.shopdevjava.springboot.benchmark;
+
+import com.shopdevjava.springboot.SpringbootApplication;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.UserRepositoryAdapter;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Latency and allocation of {@link UserRepositoryAdapter} as the application wires it
+ * (JPA, JdbcTemplate, outbox, user count and transactions), against an embedded
+ * PostgreSQL 16 migrated by Flyway and filled with synthetic users. Reads run in a
+ * read-only transaction, as the service runs them.
+ *
+ * <p>Embedded PostgreSQL refuses to start as root; there, or to measure a real server,
+ * point the benchmark at a database with
+ * {@code -Djmh.args="-jvmArgs -Dbenchmark.jdbc.url=... UserRepositoryAdapterBenchmark"}.
+ * It then migrates and refills its own schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserRepositoryAdapterBenchmark {
+
+    private static final String SCHEMA = "user_adapter_benchmark";
+
+    @Param({"100000"})
+    private int rows;
+
+    private EmbeddedPostgres embeddedPostgres;
+    private ConfigurableApplicationContext context;
+    private UserRepositoryAdapter repository;
+    private TransactionTemplate readOnly;
+    private SplittableRandom random;
+    private long created;
+
+    @Setup
+    public void setUp() throws IOException {
+        String url = System.getProperty("benchmark.jdbc.url");
+        String username = System.getProperty("benchmark.jdbc.username", "postgres");
+        String password = System.getProperty("benchmark.jdbc.password", "postgres");
+        if (url == null) {
+            embeddedPostgres = EmbeddedPostgres.builder().start();
+            url = embeddedPostgres.getJdbcUrl("postgres", "postgres");
+        }
+        url += (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA + ",public&reWriteBatchedInserts=true";
+
+        context = new SpringApplicationBuilder(SpringbootApplication.class).run(
+                "--spring.profiles.active=benchmark",
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password,
+                "--spring.flyway.schemas=" + SCHEMA,
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.shopdevjava.springboot=WARN",
+                // Keep background jobs from competing with the measured statements
+                "--user.events.relay-interval=1h",
+                "--security.jwt.revocation-refresh-interval=1h");
+        populate(context.getBean(JdbcTemplate.class));
+
+        repository = context.getBean(UserRepositoryAdapter.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        random = new SplittableRandom(42);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        if (embeddedPostgres != null) {
+            embeddedPostgres.close();
+        }
+    }
+
+    @Benchmark
+    public Optional<User> findById() {
+        long id = randomId();
+        return readOnly.execute(status -> repository.findById(id));
+    }
+
+    /**
+     * A first page as the list endpoint reads it: 20 users and one more to detect the next page
+     */
+    @Benchmark
+    public List<User> findPage() {
+        return readOnly.execute(status -> repository.findPage(null, 21));
+    }
+
+    @Benchmark
+    public List<User> findAllByIds() {
+        long first = randomId();
+        List<Long> ids = LongStream.range(first, first + 20).map(id -> 1 + (id - 1) % rows).boxed().toList();
+        return readOnly.execute(status -> repository.findAllByIds(ids));
+    }
+
+    /**
+     * Both write transactions of a user's lifetime, each with its outbox row and count
+     * update; deleting keeps the table at its size across iterations
+     */
+    @Benchmark
+    public User saveAndDelete() {
+        User user = repository.save(new User("New", "User", "new" + created++ + "@example.com", "hash"));
+        repository.deleteById(user.getId());
+        return user;
+    }
+
+    private void populate(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("TRUNCATE users, user_outbox, user_counts");
+        // Ids 1..rows, so lookups can pick existing users at random
+        jdbcTemplate.update("INSERT INTO users (id, first_name, last_name, email, password, created_at, updated_at, version) "
+                + "SELECT i, 'First' || i, 'Last' || i, 'user' || i || '@example.com', 'x', "
+                + "now() - make_interval(secs => ? - i), now(), 0 FROM generate_series(1, ?) AS i", rows, rows);
+        jdbcTemplate.queryForList("SELECT setval('users_id_seq', ?)", (long) rows);
+        jdbcTemplate.update("INSERT INTO user_counts (shard, user_count) VALUES (0, ?)", (long) rows);
+        jdbcTemplate.execute("ANALYZE users");
+    }
+
+    private long randomId() {
+        return 1 + random.nextInt(rows);
+    }
+}
@@ -0,0 +1,101 @@
+package com.shopdevjava.springboot.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.application.service.UserService;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.ForwardingUserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.web.UserController;
+import com.shopdevjava.springboot.infrastructure.adapter.web.UserEventStream;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.ApiResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.PageResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap allocated per request between the repository and the response bytes: service,
+ * controller mapping and JSON serialization, over a repository that hands out the same
+ * users every call. {@link #serializePage()} writes an already mapped page, so the gap to
+ * {@link #listUsers()} is what the controller adds. Read gc.alloc.rate.norm, the bytes
+ * allocated per operation, from the gc profiler the benchmark profile enables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserResponseAllocationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private UserController controller;
+    private ObjectMapper objectMapper;
+    private ApiResponse<PageResponse<UserResponse>> mappedPage;
+
+    @Setup
+    public void setUp() {
+        List<User> users = new ArrayList<>();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (long id = 1; id <= pageSize + 1; id++) {
+            User user = new User("First" + id, "Last" + id, "user" + id + "@example.com", "hash");
+            user.setId(id);
+            user.setCreatedAt(createdAt.plusSeconds(id));
+            user.setUpdatedAt(createdAt.plusSeconds(id));
+            user.setVersion(0L);
+            users.add(user);
+        }
+        ForwardingUserRepository repository = new ForwardingUserRepository(null) {
+            @Override
+            public List<User> findPage(UserCursor after, int limit) {
+                return users;
+            }
+
+            @Override
+            public Optional<User> findById(Long id) {
+                return Optional.of(users.get(0));
+            }
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        controller = new UserController(new UserService(repository, null, null), new UserEventStream(1, 1, 1), objectMapper);
+        // Copied out of the controller's lazily mapped view, so serializing it maps nothing
+        PageResponse<UserResponse> page = controller.listUsers(null, pageSize).getBody().getData();
+        mappedPage = ApiResponse.success("Users retrieved successfully",
+                new PageResponse<>(List.copyOf(page.getItems()), page.getNextCursor()));
+    }
+
+    @Benchmark
+    public void listUsers() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), controller.listUsers(null, pageSize).getBody());
+    }
+
+    @Benchmark
+    public void serializePage() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), mappedPage);
+    }
+
+    @Benchmark
+    public void getUserById() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), controller.getUserById(1L, null).getBody());
+    }
+}
@@ -0,0 +1,161 @@
+package com.shopdevjava.springboot.benchmark;
+
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.UserRepositoryAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Latency of {@link UserRepositoryAdapter#search} against a synthetic multi-million-row
+ * users table carrying the V7 trigram indexes. Setup runs the candidate scan under
+ * EXPLAIN ANALYZE and refuses to continue if it reads more than a small fraction of the
+ * table: rare terms must come from the indexes, and common ones may only use a sequential
+ * scan the candidate limit cuts short.
+ *
+ * <p>Needs a PostgreSQL with pg_trgm; the table lives in its own schema and is reused
+ * across runs. Override the connection with
+ * {@code -Djmh.args="-jvmArgs -Dbenchmark.jdbc.url=... UserSearchBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserSearchBenchmark {
+
+    private static final String SCHEMA = "user_search_benchmark";
+
+    /**
+     * Share of the table the candidate scan may discard before the run is rejected
+     */
+    private static final double MAX_ROWS_READ_RATIO = 0.05;
+
+    private static final Pattern ROWS_REMOVED = Pattern.compile("Rows Removed by (?:Filter|Index Recheck): (\\d+)");
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William",
+            "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah",
+            "Charles", "Karen", "Jonathan", "Nancy", "Daniel", "Lisa", "Matthew", "Betty", "Anthony",
+            "Margaret", "Mark", "Sandra", "Son", "Thao", "Minh", "Huong", "Tuan", "Lan"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez",
+            "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Taylor", "Moore",
+            "Jackson", "Martin", "Lee", "Thompson", "White", "Harris", "Clark", "Lewis", "Robinson",
+            "Walker", "Young", "Allen", "Blacksmith", "Tran", "Nguyen", "Pham", "Le", "Hoang", "Vu"
+    };
+
+    @Param({"2000000"})
+    private int rows;
+
+    /**
+     * A common name prefix, a rare exact email, an email fragment and a typo
+     */
+    @Param({"smi", "user1234567@example.com", "1234567", "jonathon"})
+    private String query;
+
+    private UserRepositoryAdapter repository;
+    private TransactionTemplate readOnly;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getProperty("benchmark.jdbc.url",
+                "jdbc:postgresql://localhost:5432/shopdevjava_test");
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA + ",public",
+                System.getProperty("benchmark.jdbc.username", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "postgres"));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        populate(jdbcTemplate, dataSource);
+
+        repository = new UserRepositoryAdapter(null, jdbcTemplate, null, null, Duration.ofSeconds(5));
+        readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+        assertIndexBound(jdbcTemplate);
+    }
+
+    @Benchmark
+    public List<User> search() {
+        return readOnly.execute(status -> repository.search(query, 0, 20));
+    }
+
+    private void populate(JdbcTemplate jdbcTemplate, DriverManagerDataSource dataSource) throws SQLException {
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm SCHEMA public");
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+        Integer existing = jdbcTemplate.queryForObject("SELECT count(*) FROM information_schema.tables "
+                + "WHERE table_schema = ? AND table_name = 'users'", Integer.class, SCHEMA);
+        if (existing != null && existing > 0) {
+            Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM users", Long.class);
+            if (count != null && count == rows) {
+                return;
+            }
+            jdbcTemplate.execute("DROP TABLE users");
+        }
+        jdbcTemplate.execute("CREATE TABLE users (id BIGSERIAL PRIMARY KEY, "
+                + "first_name VARCHAR(255) NOT NULL, last_name VARCHAR(255) NOT NULL, "
+                + "email VARCHAR(255) UNIQUE NOT NULL, password VARCHAR(255) NOT NULL, "
+                + "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, "
+                + "updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, version BIGINT NOT NULL DEFAULT 0)");
+        // Names cycle through independent strides so most first/last pairs occur; emails are unique
+        jdbcTemplate.update("INSERT INTO users (first_name, last_name, email, password) "
+                + "SELECT f[1 + i % array_length(f, 1)], l[1 + (i / 7) % array_length(l, 1)], "
+                + "'user' || i || '@example.com', 'x' "
+                + "FROM generate_series(1, ?) AS i, (SELECT ?::text[] AS f, ?::text[] AS l) AS names",
+                rows, FIRST_NAMES, LAST_NAMES);
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection,
+                    new ClassPathResource("db/migration/V7__Add_User_Search_Indexes.sql"));
+        }
+        jdbcTemplate.execute("ANALYZE users");
+    }
+
+    private void assertIndexBound(JdbcTemplate jdbcTemplate) {
+        String plan = readOnly.execute(status -> String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN (ANALYZE) " + searchSql(), String.class)));
+        long removed = 0;
+        Matcher matcher = ROWS_REMOVED.matcher(plan);
+        while (matcher.find()) {
+            removed += Long.parseLong(matcher.group(1));
+        }
+        if (removed > rows * MAX_ROWS_READ_RATIO) {
+            throw new IllegalStateException("Search for '" + query + "' read " + removed
+                    + " non-matching rows; it is not index-bound:\n" + plan);
+        }
+    }
+
+    /**
+     * The candidate scan of the adapter's search statement with this run's query inlined, for EXPLAIN
+     */
+    private String searchSql() {
+        String literal = query.replace("'", "''");
+        return "SELECT id FROM users u WHERE lower(u.first_name) LIKE '%" + literal + "%' "
+                + "OR lower(u.last_name) LIKE '%" + literal + "%' OR lower(u.email) LIKE '%" + literal + "%' "
+                + "OR '" + literal + "' <% lower(u.first_name) OR '" + literal + "' <% lower(u.last_name) "
+                + "LIMIT 1000";
+    }
+}
@@ -0,0 +1,105 @@
+package com.shopdevjava.springboot.benchmark;
+
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
+import com.shopdevjava.springboot.application.service.UserService;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserLookup;
+import com.shopdevjava.springboot.domain.model.UserPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Cost of the {@link UserService} flows themselves over an {@link InMemoryUserRepository},
+ * with a pass-through password hasher: BCrypt has its own benchmark and would dwarf
+ * everything else here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserServiceBenchmark {
+
+    private static final PasswordHasher PLAIN_TEXT = new PasswordHasher() {
+        @Override
+        public String hash(String rawPassword) {
+            return rawPassword;
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String hash) {
+            return rawPassword.equals(hash);
+        }
+    };
+
+    @Param({"10000"})
+    private int users;
+
+    private UserService userService;
+    private SplittableRandom random;
+    private long created;
+
+    @Setup
+    public void setUp() {
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        for (int i = 1; i <= users; i++) {
+            repository.save(new User("First" + i, "Last" + i, "user" + i + "@example.com", "password123"));
+        }
+        userService = new UserService(repository, null, PLAIN_TEXT);
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public User getUserById() {
+        return userService.getUserById(randomId());
+    }
+
+    @Benchmark
+    public UserPage listUsers() {
+        return userService.listUsers(null, 20);
+    }
+
+    @Benchmark
+    public UserLookup getUsersByIds() {
+        long first = randomId();
+        return userService.getUsersByIds(LongStream.range(first, first + 20).map(id -> 1 + (id - 1) % users)
+                .boxed()
+                .toList());
+    }
+
+    @Benchmark
+    public User patchUser() {
+        User changes = new User();
+        changes.setFirstName("Patched");
+        return userService.patchUser(randomId(), changes);
+    }
+
+    /**
+     * Deletes what it creates, so the repository keeps its size across iterations
+     */
+    @Benchmark
+    public User createAndDeleteUser() {
+        User user = userService.createUser(new User("New", "User", "new" + created++ + "@example.com", "password123"));
+        userService.deleteUser(user.getId());
+        return user;
+    }
+
+    private long randomId() {
+        return 1 + random.nextInt(users);
+    }
+}
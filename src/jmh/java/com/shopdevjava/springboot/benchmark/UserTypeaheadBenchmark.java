@@ -0,0 +1,94 @@
+package com.shopdevjava.springboot.benchmark;
+
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.UserTypeaheadIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of {@link UserTypeaheadIndex} over synthetic users, and its retained heap:
+ * setup prints the heap held by the built index, per user and per million users.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class UserTypeaheadBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William",
+            "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah",
+            "Charles", "Karen", "Jonathan", "Nancy", "Daniel", "Lisa", "Matthew", "Betty", "Anthony",
+            "Margaret", "Mark", "Sandra", "Sơn", "Thảo", "Minh", "Hương", "Tuấn", "Lan"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez",
+            "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Taylor", "Moore",
+            "Jackson", "Martin", "Lee", "Thompson", "White", "Harris", "Clark", "Lewis", "Robinson",
+            "Walker", "Young", "Allen", "Blacksmith", "Trần", "Nguyễn", "Phạm", "Lê", "Hoàng", "Vũ"
+    };
+
+    private static final String[] DOMAINS = {"gmail.com", "yahoo.com", "outlook.com", "example.com"};
+
+    @Param({"1000000"})
+    private int users;
+
+    /**
+     * A single letter, a common name prefix, two words, an email with its domain, and a miss
+     */
+    @Param({"j", "smi", "jo sm", "mary.smith12@gm", "zzz"})
+    private String query;
+
+    private UserTypeaheadIndex index;
+
+    @Setup
+    public void setUp() {
+        long before = usedHeap();
+        index = new UserTypeaheadIndex();
+        SplittableRandom random = new SplittableRandom(42);
+        for (long id = 1; id <= users; id++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            // Local parts repeat names with a per-user number, as real addresses do
+            String email = (firstName + "." + lastName).toLowerCase() + id + "@" + DOMAINS[random.nextInt(DOMAINS.length)];
+            User user = new User(firstName, lastName, email, null);
+            user.setId(id);
+            user.setVersion(0L);
+            index.put(user);
+        }
+        index.trimToSize();
+        long retained = usedHeap() - before;
+        System.out.printf("%nTypeahead index of %d users retains %d MB: %d bytes per user, %d MB per million users%n",
+                users, retained >> 20, retained / users, retained * 1_000_000L / users >> 20);
+    }
+
+    @Benchmark
+    public List<UserSuggestion> suggest() {
+        return index.suggest(query, 10);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
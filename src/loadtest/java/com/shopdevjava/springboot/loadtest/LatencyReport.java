@@ -0,0 +1,117 @@
+package com.shopdevjava.springboot.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latency histograms and error counts per operation, recorded by one worker without
+ * synchronization and merged once the run is over
+ */
+final class LatencyReport {
+
+    /**
+     * Longest latency tracked exactly; slower requests are recorded as this value
+     */
+    private static final long MAX_LATENCY_MICROS = Duration.ofMinutes(1).toNanos() / 1000;
+
+    private final Map<LoadOperation, Histogram> latencies = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, Long> errors = new EnumMap<>(LoadOperation.class);
+
+    LatencyReport() {
+        for (LoadOperation operation : LoadOperation.values()) {
+            latencies.put(operation, new Histogram(MAX_LATENCY_MICROS, 3));
+            errors.put(operation, 0L);
+        }
+    }
+
+    void record(LoadOperation operation, long latencyNanos, boolean failed) {
+        latencies.get(operation).recordValue(Math.min(Math.max(latencyNanos / 1000, 1), MAX_LATENCY_MICROS));
+        if (failed) {
+            errors.merge(operation, 1L, Long::sum);
+        }
+    }
+
+    void add(LatencyReport other) {
+        for (LoadOperation operation : LoadOperation.values()) {
+            latencies.get(operation).add(other.latencies.get(operation));
+            errors.merge(operation, other.errors.get(operation), Long::sum);
+        }
+    }
+
+    /**
+     * Prints requests, errors, throughput and latency percentiles per operation and in total
+     */
+    void print(PrintStream out, Duration measured) {
+        out.printf("%n%-8s %10s %8s %10s %10s %10s %10s %10s%n",
+                "", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(MAX_LATENCY_MICROS, 3);
+        long totalErrors = 0;
+        for (LoadOperation operation : LoadOperation.values()) {
+            Histogram histogram = latencies.get(operation);
+            if (histogram.getTotalCount() > 0) {
+                printRow(out, operation.key(), histogram, errors.get(operation), measured);
+                total.add(histogram);
+                totalErrors += errors.get(operation);
+            }
+        }
+        printRow(out, "total", total, totalErrors, measured);
+    }
+
+    /**
+     * Writes each operation's full percentile distribution as an .hgrm file, in
+     * milliseconds, and the printed summary as summary.json for comparing runs
+     */
+    void write(Path directory, Duration measured, Map<String, Object> settings) throws IOException {
+        Files.createDirectories(directory);
+        List<Map<String, Object>> operations = new ArrayList<>();
+        for (LoadOperation operation : LoadOperation.values()) {
+            Histogram histogram = latencies.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(operation.key() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("operation", operation.key());
+            summary.put("requests", histogram.getTotalCount());
+            summary.put("errors", errors.get(operation));
+            summary.put("throughput", throughput(histogram, measured));
+            summary.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+            summary.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+            summary.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+            summary.put("maxMs", millis(histogram.getMaxValue()));
+            operations.add(summary);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("operations", operations);
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(directory.resolve("summary.json").toFile(), report);
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errors, Duration measured) {
+        out.printf("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n", name, histogram.getTotalCount(), errors,
+                throughput(histogram, measured), millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double throughput(Histogram histogram, Duration measured) {
+        return histogram.getTotalCount() * 1000.0 / measured.toMillis();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
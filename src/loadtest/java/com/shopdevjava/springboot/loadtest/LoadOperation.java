@@ -0,0 +1,57 @@
+package com.shopdevjava.springboot.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Requests the harness sends, named by the keys used in the {@code mix} setting
+ */
+enum LoadOperation {
+    /** GET /v1/api/users/{id} of a random seeded user */
+    GET("get"),
+    /** GET /v1/api/users, following nextCursor like a client paging through the list */
+    LIST("list"),
+    /** GET /v1/api/users/search for the start of a common first name */
+    SEARCH("search"),
+    /** POST /v1/api/users with a fresh email, password hashing included */
+    CREATE("create"),
+    /** PATCH /v1/api/users/{id} renaming a random seeded user */
+    UPDATE("update");
+
+    private final String key;
+
+    LoadOperation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    /**
+     * Parses weights such as {@code get:60,list:20,create:20}; operations left out are not sent
+     */
+    static Map<LoadOperation, Integer> parseMix(String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like get:60, not '" + entry + "'");
+            }
+            weights.put(fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Mix '" + mix + "' has no positive weight");
+        }
+        return weights;
+    }
+
+    private static LoadOperation fromKey(String key) {
+        for (LoadOperation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "'");
+    }
+}
@@ -0,0 +1,330 @@
+package com.shopdevjava.springboot.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.SpringbootApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a mix of user API requests at a running application and reports throughput and
+ * p50/p99/p99.9 latency per operation. Without a {@code target} it starts everything on
+ * this machine: an embedded PostgreSQL (or the database at {@code jdbc.url}, in its own
+ * schema), Flyway migrations, {@link SyntheticUserGenerator} seeding and the application
+ * on a random port, so a run needs no network and no Docker.
+ *
+ * <p>Settings are {@code key=value} arguments, passed through {@code -Dload.args="..."}:
+ * <ul>
+ *   <li>{@code target} - base URL of an application to load instead of starting one</li>
+ *   <li>{@code users} - users to seed and pick from (default 1000000)</li>
+ *   <li>{@code seed} - whether to reseed first (default true, false with a target)</li>
+ *   <li>{@code jdbc.url}, {@code jdbc.username}, {@code jdbc.password} - database to seed
+ *       and, without a target, to run the application against</li>
+ *   <li>{@code mix} - operation weights (default get:60,list:20,search:5,create:5,update:10)</li>
+ *   <li>{@code threads} - concurrent clients (default 32)</li>
+ *   <li>{@code rate} - total requests per second; 0 (default) sends each request as soon
+ *       as the previous one returns</li>
+ *   <li>{@code warmup}, {@code duration} - unrecorded warmup and measured time (default 15s, 60s)</li>
+ * </ul>
+ *
+ * <p>At a fixed rate each request's latency is measured from when it was scheduled, not
+ * when it was sent, so a stalled server shows up in the percentiles instead of simply
+ * delaying the clients (coordinated omission). Histograms are written to
+ * {@code target/load-test} as .hgrm files next to a summary.json.
+ */
+public final class LoadTest {
+
+    private static final String SCHEMA = "load_test";
+
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load-test");
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final URI baseUri;
+    private final long users;
+    private final Map<LoadOperation, Integer> mix;
+    private final int totalWeight;
+    private final String token;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private LoadTest(URI baseUri, long users, Map<LoadOperation, Integer> mix) throws IOException, InterruptedException {
+        this.baseUri = baseUri;
+        this.users = users;
+        this.mix = mix;
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.token = login();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> settings = parse(args);
+        String target = settings.get("target");
+        long users = Long.parseLong(settings.getOrDefault("users", "1000000"));
+        boolean seed = Boolean.parseBoolean(settings.getOrDefault("seed", String.valueOf(target == null)));
+        Map<LoadOperation, Integer> mix = LoadOperation.parseMix(
+                settings.getOrDefault("mix", "get:60,list:20,search:5,create:5,update:10"));
+        int threads = Integer.parseInt(settings.getOrDefault("threads", "32"));
+        double rate = Double.parseDouble(settings.getOrDefault("rate", "0"));
+        Duration warmup = DurationStyle.detectAndParse(settings.getOrDefault("warmup", "15s"));
+        Duration duration = DurationStyle.detectAndParse(settings.getOrDefault("duration", "60s"));
+        String jdbcUrl = settings.get("jdbc.url");
+        String username = settings.getOrDefault("jdbc.username", "postgres");
+        String password = settings.getOrDefault("jdbc.password", "postgres");
+
+        EmbeddedPostgres embeddedPostgres = null;
+        ConfigurableApplicationContext context = null;
+        try {
+            if (target == null) {
+                if (jdbcUrl == null) {
+                    embeddedPostgres = EmbeddedPostgres.builder().start();
+                    jdbcUrl = embeddedPostgres.getJdbcUrl("postgres", "postgres");
+                }
+                jdbcUrl += (jdbcUrl.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA + ",public";
+                Flyway.configure().dataSource(jdbcUrl, username, password).schemas(SCHEMA).load().migrate();
+            }
+            if (seed) {
+                if (jdbcUrl == null) {
+                    throw new IllegalArgumentException("Seeding a target needs its jdbc.url");
+                }
+                long started = System.nanoTime();
+                try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+                    SyntheticUserGenerator.seed(connection, users);
+                }
+                System.out.printf("Seeded %d users in %.1f s%n", users, (System.nanoTime() - started) / 1e9);
+            }
+            if (target == null) {
+                context = startApplication(jdbcUrl, username, password);
+                target = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            }
+
+            LoadTest loadTest = new LoadTest(URI.create(target), users, mix);
+            System.out.printf("Loading %s with %d threads at %s for %s after %s of warmup%n", target, threads,
+                    rate > 0 ? rate + " req/s" : "full speed", duration, warmup);
+            LatencyReport report = loadTest.run(threads, rate, warmup, duration);
+
+            report.print(System.out, duration);
+            Map<String, Object> recorded = new LinkedHashMap<>(settings);
+            recorded.putIfAbsent("target", target);
+            report.write(REPORT_DIRECTORY, duration, recorded);
+            System.out.println("\nHistograms written to " + REPORT_DIRECTORY.toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (embeddedPostgres != null) {
+                embeddedPostgres.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(String jdbcUrl, String username, String password) {
+        return new SpringApplicationBuilder(SpringbootApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password,
+                "--spring.flyway.schemas=" + SCHEMA,
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.shopdevjava.springboot=WARN");
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> settings = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Settings look like key=value, not '" + arg + "'");
+            }
+            settings.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return settings;
+    }
+
+    /**
+     * Runs {@code threads} clients for warmup plus duration and merges what they recorded
+     * after the warmup
+     */
+    private LatencyReport run(int threads, double rate, Duration warmup, Duration duration) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        // Each client sends every threads-th request of the schedule
+        long interval = rate > 0 ? (long) (threads * 1e9 / rate) : 0;
+
+        List<LatencyReport> reports = new ArrayList<>();
+        List<Thread> clients = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            LatencyReport report = new LatencyReport();
+            Client client = new Client(i, new SplittableRandom(i), report);
+            long first = start + (interval * i) / threads;
+            reports.add(report);
+            Thread thread = new Thread(() -> client.run(first, interval, measureFrom, end), "load-client-" + i);
+            thread.start();
+            clients.add(thread);
+        }
+        for (Thread thread : clients) {
+            thread.join();
+        }
+        LatencyReport merged = new LatencyReport();
+        reports.forEach(merged::add);
+        return merged;
+    }
+
+    private String login() throws IOException, InterruptedException {
+        String body = JSON.writeValueAsString(Map.of(
+                "email", SyntheticUserGenerator.email(1), "password", SyntheticUserGenerator.PASSWORD));
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(baseUri.resolve("/v1/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            // Applications running without JWT reject nothing, so go on unauthenticated
+            System.out.println("Login as " + SyntheticUserGenerator.email(1) + " returned "
+                    + response.statusCode() + ", sending requests without a token");
+            return null;
+        }
+        return JSON.readTree(response.body()).path("data").path("accessToken").asText();
+    }
+
+    /**
+     * One simulated client; its random source and report are its own
+     */
+    private final class Client {
+
+        private final int index;
+        private final SplittableRandom random;
+        private final LatencyReport report;
+        private String cursor;
+        private long created;
+
+        Client(int index, SplittableRandom random, LatencyReport report) {
+            this.index = index;
+            this.random = random;
+            this.report = report;
+        }
+
+        void run(long first, long interval, long measureFrom, long end) {
+            long scheduled = first;
+            while (true) {
+                long intended = interval > 0 ? scheduled : System.nanoTime();
+                if (intended >= end) {
+                    return;
+                }
+                if (interval > 0) {
+                    waitUntil(intended);
+                    scheduled += interval;
+                }
+                LoadOperation operation = pick();
+                HttpResponse<byte[]> response = send(request(operation));
+                long latency = System.nanoTime() - intended;
+                if (intended >= measureFrom) {
+                    report.record(operation, latency, response == null || response.statusCode() >= 400);
+                }
+                if (operation == LoadOperation.LIST) {
+                    cursor = response == null ? null : nextCursor(response);
+                }
+            }
+        }
+
+        private LoadOperation pick() {
+            int ticket = random.nextInt(totalWeight);
+            for (Map.Entry<LoadOperation, Integer> entry : mix.entrySet()) {
+                ticket -= entry.getValue();
+                if (ticket < 0) {
+                    return entry.getKey();
+                }
+            }
+            throw new IllegalStateException("Weights changed during the run");
+        }
+
+        private HttpRequest request(LoadOperation operation) {
+            return switch (operation) {
+                case GET -> authorized("/v1/api/users/" + randomId()).GET().build();
+                case LIST -> authorized("/v1/api/users?limit=20"
+                        + (cursor == null ? "" : "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8)))
+                        .GET().build();
+                case SEARCH -> authorized("/v1/api/users/search?q="
+                        + SyntheticUserGenerator.firstName(randomId()).substring(0, 3).toLowerCase()).GET().build();
+                case CREATE -> HttpRequest.newBuilder(baseUri.resolve("/v1/api/users"))
+                        .header("Content-Type", "application/json")
+                        .POST(json(Map.of("firstName", "Load", "lastName", "Client" + index,
+                                "email", "load." + index + "." + created++ + "." + System.nanoTime() + "@example.com",
+                                "password", SyntheticUserGenerator.PASSWORD)))
+                        .build();
+                case UPDATE -> authorized("/v1/api/users/" + randomId())
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", json(Map.of("firstName", "Renamed" + random.nextInt(1000))))
+                        .build();
+            };
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(Duration.ofSeconds(30));
+            return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+        }
+
+        private HttpResponse<byte[]> send(HttpRequest request) {
+            try {
+                return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+
+        private String nextCursor(HttpResponse<byte[]> response) {
+            try {
+                JsonNode next = JSON.readTree(response.body()).path("data").path("nextCursor");
+                return next.isTextual() ? next.asText() : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        private long randomId() {
+            return 1 + random.nextLong(users);
+        }
+
+        private HttpRequest.BodyPublisher json(Map<String, String> body) {
+            try {
+                return HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static void waitUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.shopdevjava.springboot.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Seeds the users table with synthetic users through COPY, streaming rows as they are
+ * generated so millions of them never sit in memory. Every field of user {@code n} is a
+ * function of {@code n}: id {@code n}, names cycling through independent strides so most
+ * first/last pairs occur, {@link #email(long)}, the password {@link #PASSWORD}, and
+ * creation times one second apart.
+ */
+final class SyntheticUserGenerator {
+
+    /**
+     * Password of every generated user, so the harness can log in as any of them
+     */
+    static final String PASSWORD = "password123";
+
+    private static final String COPY_SQL = "COPY users (id, first_name, last_name, email, password, "
+            + "created_at, updated_at, version) FROM STDIN";
+
+    private static final int COPY_BUFFER_BYTES = 1 << 20;
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William",
+            "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah",
+            "Charles", "Karen", "Jonathan", "Nancy", "Daniel", "Lisa", "Matthew", "Betty", "Anthony",
+            "Margaret", "Mark", "Sandra", "Son", "Thao", "Minh", "Huong", "Tuan", "Lan"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez",
+            "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Taylor", "Moore",
+            "Jackson", "Martin", "Lee", "Thompson", "White", "Harris", "Clark", "Lewis", "Robinson",
+            "Walker", "Young", "Allen", "Blacksmith", "Tran", "Nguyen", "Pham", "Le", "Hoang", "Vu"
+    };
+
+    private static final String[] DOMAINS = {"gmail.com", "yahoo.com", "outlook.com", "example.com"};
+
+    private static final LocalDateTime FIRST_CREATED_AT = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private SyntheticUserGenerator() {
+    }
+
+    /**
+     * Replaces every user, outbox row and count with {@code users} generated users, then
+     * refreshes the statistics the planner and the approximate count read
+     */
+    static void seed(Connection connection, long users) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE users, user_outbox, user_counts");
+            copyUsers(connection, users);
+            // The id generator hands out blocks above the sequence value
+            try (PreparedStatement setval = connection.prepareStatement("SELECT setval('users_id_seq', ?)")) {
+                setval.setLong(1, Math.max(users, 1));
+                setval.execute();
+            }
+            try (PreparedStatement count = connection.prepareStatement(
+                    "INSERT INTO user_counts (shard, user_count) VALUES (0, ?)")) {
+                count.setLong(1, users);
+                count.execute();
+            }
+            connection.commit();
+            statement.execute("ANALYZE users");
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static void copyUsers(Connection connection, long users) throws SQLException {
+        // One hash for everyone: hashing millions of passwords would dominate the seeding
+        String passwordHash = new BCryptPasswordEncoder(10).encode(PASSWORD);
+        CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        try {
+            StringBuilder rows = new StringBuilder(COPY_BUFFER_BYTES + 1024);
+            for (long id = 1; id <= users; id++) {
+                String createdAt = TIMESTAMP.format(FIRST_CREATED_AT.plusSeconds(id));
+                rows.append(id).append('\t')
+                        .append(firstName(id)).append('\t')
+                        .append(lastName(id)).append('\t')
+                        .append(email(id)).append('\t')
+                        .append(passwordHash).append('\t')
+                        .append(createdAt).append('\t')
+                        .append(createdAt).append('\t')
+                        .append('0').append('\n');
+                if (rows.length() >= COPY_BUFFER_BYTES) {
+                    write(copy, rows);
+                }
+            }
+            write(copy, rows);
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    static String firstName(long id) {
+        return FIRST_NAMES[(int) (id % FIRST_NAMES.length)];
+    }
+
+    static String lastName(long id) {
+        return LAST_NAMES[(int) (id / 7 % LAST_NAMES.length)];
+    }
+
+    static String email(long id) {
+        return (firstName(id) + "." + lastName(id) + "." + id).toLowerCase() + "@" + DOMAINS[(int) (id % DOMAINS.length)];
+    }
+
+    private static void write(CopyIn copy, StringBuilder rows) throws SQLException {
+        byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        rows.setLength(0);
+    }
+}
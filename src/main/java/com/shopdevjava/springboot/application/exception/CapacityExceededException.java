@@ -0,0 +1,11 @@
+package com.shopdevjava.springboot.application.exception;
+
+/**
+ * Raised when a bounded resource is saturated and the request is rejected instead of queued
+ */
+public class CapacityExceededException extends RuntimeException {
+
+    public CapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -2,12 +2,15 @@ package com.shopdevjava.springboot.application.exception;
 
 import com.shopdevjava.springboot.domain.exception.UserException;
 import com.shopdevjava.springboot.infrastructure.adapter.web.dto.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -29,6 +32,12 @@ public class GlobalExceptionHandler {
             case VALIDATION_ERROR:
                 status = HttpStatus.BAD_REQUEST;
                 break;
+            case VERSION_CONFLICT:
+                status = HttpStatus.PRECONDITION_FAILED;
+                break;
+            case UNAUTHORIZED:
+                status = HttpStatus.UNAUTHORIZED;
+                break;
             default:
                 status = HttpStatus.INTERNAL_SERVER_ERROR;
         }
@@ -53,6 +62,38 @@ public class GlobalExceptionHandler {
         );
     }
     
+    /**
+     * WebFlux counterpart of {@link MethodArgumentNotValidException}, raised under the reactive profile
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiResponse<Void>> handleReactiveValidationExceptions(WebExchangeBindException ex) {
+        return new ResponseEntity<>(
+            ApiResponse.error("Validation failed"),
+            HttpStatus.BAD_REQUEST
+        );
+    }
+    
+    /**
+     * A saturated resource rejected the request; clients should back off and retry
+     */
+    @ExceptionHandler(CapacityExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleCapacityExceeded(CapacityExceededException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(ApiResponse.error(ex.getMessage()));
+    }
+    
+    /**
+     * Query parameters that cannot be converted, such as a malformed timestamp or id
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        return new ResponseEntity<>(
+            ApiResponse.error("Invalid value for parameter '" + ex.getName() + "'"),
+            HttpStatus.BAD_REQUEST
+        );
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGenericException(Exception ex) {
         return new ResponseEntity<>(
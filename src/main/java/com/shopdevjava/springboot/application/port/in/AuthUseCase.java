@@ -0,0 +1,12 @@
+package com.shopdevjava.springboot.application.port.in;
+
+import com.shopdevjava.springboot.domain.model.AccessToken;
+import com.shopdevjava.springboot.domain.model.TokenClaims;
+
+/**
+ * Input port for authentication use cases
+ */
+public interface AuthUseCase {
+    AccessToken login(String email, String password);
+    void logout(TokenClaims claims);
+}
@@ -0,0 +1,32 @@
+package com.shopdevjava.springboot.application.port.in;
+
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.model.UserField;
+import com.shopdevjava.springboot.domain.model.UserLookup;
+import com.shopdevjava.springboot.domain.model.UserPage;
+import com.shopdevjava.springboot.domain.model.UserProjectionPage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Non-blocking input port for User use cases, mirroring {@link UserUseCase}
+ */
+public interface ReactiveUserUseCase {
+    Mono<UserPage> listUsers(UserCursor after, int limit);
+    Mono<UserProjectionPage> listUsers(UserCursor after, int limit, Set<UserField> fields);
+    Flux<User> exportUsers();
+    Mono<User> getUserById(Long id);
+    Mono<Map<String, Object>> getUserById(Long id, Set<UserField> fields);
+    Mono<Long> getUserVersion(Long id);
+    Mono<UserLookup> getUsersByIds(List<Long> ids);
+    Mono<User> getUserByEmail(String email);
+    Mono<User> createUser(User user);
+    Mono<User> updateUser(Long id, User user);
+    Mono<User> updateUser(Long id, User user, long expectedVersion);
+    Mono<Void> deleteUser(Long id);
+}
@@ -1,17 +1,47 @@
 package com.shopdevjava.springboot.application.port.in;
 
 import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserBatchResult;
+import com.shopdevjava.springboot.domain.model.UserCount;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.model.UserDeletion;
+import com.shopdevjava.springboot.domain.model.UserField;
+import com.shopdevjava.springboot.domain.model.UserLookup;
+import com.shopdevjava.springboot.domain.model.UserPage;
+import com.shopdevjava.springboot.domain.model.UserProjectionPage;
+import com.shopdevjava.springboot.domain.model.UserSearchPage;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Input port for User use cases
  */
 public interface UserUseCase {
     List<User> getAllUsers();
+    UserPage listUsers(UserCursor after, int limit);
+    UserProjectionPage listUsers(UserCursor after, int limit, Set<UserField> fields);
+    void exportUsers(Consumer<User> sink);
     User getUserById(Long id);
+    Map<String, Object> getUserById(Long id, Set<UserField> fields);
+    long getUserVersion(Long id);
+    UserLookup getUsersByIds(List<Long> ids);
     User getUserByEmail(String email);
+    boolean isEmailRegistered(String email);
+    UserSearchPage searchUsers(String query, int offset, int limit);
+    List<UserSuggestion> suggestUsers(String query, int limit);
+    UserCount countUsers(boolean exact);
     User createUser(User user);
+    List<UserBatchResult> createUsers(List<User> users);
     User updateUser(Long id, User user);
+    User updateUser(Long id, User user, long expectedVersion);
+    User patchUser(Long id, User changes);
+    User patchUser(Long id, User changes, long expectedVersion);
     void deleteUser(Long id);
+    int deleteUsers(List<Long> ids);
+    UserDeletion deleteUsersCreatedBefore(LocalDateTime cutoff);
 } 
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.shopdevjava.springboot.application.port.out;
+
+import java.util.List;
+
+/**
+ * Output port for one-way password hashing
+ */
+public interface PasswordHasher {
+
+    /**
+     * Returns a salted hash of {@code rawPassword} suitable for storage
+     */
+    String hash(String rawPassword);
+
+    /**
+     * Hashes each of {@code rawPasswords}, returning the hashes in the same order.
+     * Implementations may hash them in parallel.
+     */
+    default List<String> hashAll(List<String> rawPasswords) {
+        return rawPasswords.stream().map(this::hash).toList();
+    }
+
+    /**
+     * Checks {@code rawPassword} against a hash previously returned by {@link #hash(String)}
+     */
+    boolean matches(String rawPassword, String hash);
+}
@@ -0,0 +1,11 @@
+package com.shopdevjava.springboot.application.port.out;
+
+import com.shopdevjava.springboot.domain.model.AccessToken;
+
+/**
+ * Output port for issuing signed access tokens
+ */
+public interface TokenIssuer {
+
+    AccessToken issue(long userId);
+}
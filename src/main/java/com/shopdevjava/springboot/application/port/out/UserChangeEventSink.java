@@ -0,0 +1,19 @@
+package com.shopdevjava.springboot.application.port.out;
+
+import com.shopdevjava.springboot.domain.model.UserChangeEvent;
+
+import java.util.List;
+
+/**
+ * Output port receiving committed user change events from the outbox relay.
+ * Delivery is at least once: a batch is handed out again if any sink throws.
+ */
+public interface UserChangeEventSink {
+
+    /**
+     * Publishes a batch of events, in outbox order. Called on the relay's thread, which
+     * relays the events of every instance, so it must hand the events off rather than
+     * wait on slow consumers.
+     */
+    void publish(List<UserChangeEvent> events);
+}
@@ -0,0 +1,64 @@
+package com.shopdevjava.springboot.application.service;
+
+import com.shopdevjava.springboot.application.port.in.AuthUseCase;
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
+import com.shopdevjava.springboot.application.port.out.TokenIssuer;
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.domain.model.AccessToken;
+import com.shopdevjava.springboot.domain.model.TokenClaims;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.repository.RevokedTokenRepository;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service implementation for authentication use cases
+ */
+@Service
+@Profile("!reactive")
+public class AuthService implements AuthUseCase {
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final TokenIssuer tokenIssuer;
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    /**
+     * Checked against when the email is unknown, so both failures cost one password
+     * verification and response times do not reveal which emails are registered.
+     * Hashed once by the configured hasher, so its cost matches the stored hashes.
+     */
+    private final String unknownUserHash;
+
+    @Autowired
+    public AuthService(UserRepository userRepository, PasswordHasher passwordHasher, TokenIssuer tokenIssuer,
+                       RevokedTokenRepository revokedTokenRepository) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.tokenIssuer = tokenIssuer;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.unknownUserHash = passwordHasher.hash(UUID.randomUUID().toString());
+    }
+
+    @Override
+    public AccessToken login(String email, String password) {
+        Optional<User> user = userRepository.findByEmail(email);
+        String hash = user.map(User::getPassword).orElse(unknownUserHash);
+        
+        if (!passwordHasher.matches(password, hash) || user.isEmpty()) {
+            throw new UserException("Invalid email or password", 
+                    UserException.UserExceptionType.UNAUTHORIZED);
+        }
+        return tokenIssuer.issue(user.get().getId());
+    }
+
+    @Override
+    public void logout(TokenClaims claims) {
+        revokedTokenRepository.revoke(claims.tokenId(), claims.expiresAt());
+    }
+}
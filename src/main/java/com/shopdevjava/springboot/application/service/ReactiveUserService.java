@@ -0,0 +1,228 @@
+package com.shopdevjava.springboot.application.service;
+
+import com.shopdevjava.springboot.application.port.in.ReactiveUserUseCase;
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.model.UserField;
+import com.shopdevjava.springboot.domain.model.UserLookup;
+import com.shopdevjava.springboot.domain.model.UserPage;
+import com.shopdevjava.springboot.domain.model.UserProjection;
+import com.shopdevjava.springboot.domain.model.UserProjectionPage;
+import com.shopdevjava.springboot.domain.repository.ReactiveUserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Non-blocking service implementation for User use cases, with the same rules and
+ * limits as {@link UserService}
+ */
+@Service
+@Profile("reactive")
+public class ReactiveUserService implements ReactiveUserUseCase {
+
+    private final ReactiveUserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+
+    @Autowired
+    public ReactiveUserService(ReactiveUserRepository reactiveUserRepository, PasswordHasher passwordHasher) {
+        this.userRepository = reactiveUserRepository;
+        this.passwordHasher = passwordHasher;
+    }
+
+    @Override
+    public Mono<UserPage> listUsers(UserCursor after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, UserService.MAX_PAGE_SIZE));
+        
+        // Fetch one extra row to know whether another page follows
+        return userRepository.findPage(after, pageSize + 1)
+                .collectList()
+                .map(users -> {
+                    if (users.size() <= pageSize) {
+                        return new UserPage(users, null);
+                    }
+                    List<User> page = List.copyOf(users.subList(0, pageSize));
+                    return new UserPage(page, UserCursor.of(page.get(pageSize - 1)));
+                });
+    }
+
+    @Override
+    public Mono<UserProjectionPage> listUsers(UserCursor after, int limit, Set<UserField> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return Mono.error(noFieldsSelected());
+        }
+        int pageSize = Math.max(1, Math.min(limit, UserService.MAX_PAGE_SIZE));
+        
+        return userRepository.findProjectedPage(after, pageSize + 1, fields)
+                .collectList()
+                .map(rows -> {
+                    boolean hasMore = rows.size() > pageSize;
+                    List<UserProjection> page = hasMore ? rows.subList(0, pageSize) : rows;
+                    List<Map<String, Object>> users = page.stream()
+                            .map(UserProjection::values)
+                            .toList();
+                    return new UserProjectionPage(users, hasMore ? page.get(pageSize - 1).position() : null);
+                });
+    }
+
+    @Override
+    public Flux<User> exportUsers() {
+        return userRepository.streamAll();
+    }
+
+    @Override
+    public Mono<User> getUserById(Long id) {
+        return userRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getUserById(Long id, Set<UserField> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return Mono.error(noFieldsSelected());
+        }
+        return userRepository.findProjectedById(id, fields)
+                .switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    @Override
+    public Mono<Long> getUserVersion(Long id) {
+        return userRepository.findVersionById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    @Override
+    public Mono<UserLookup> getUsersByIds(List<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.size() > UserService.MAX_LOOKUP_IDS) {
+            return Mono.error(new UserException("Cannot look up more than " + UserService.MAX_LOOKUP_IDS 
+                    + " users at once", UserException.UserExceptionType.VALIDATION_ERROR));
+        }
+        if (uniqueIds.isEmpty()) {
+            return Mono.just(new UserLookup(List.of(), List.of()));
+        }
+        
+        return userRepository.findAllByIds(uniqueIds)
+                .collectMap(User::getId)
+                .map(usersById -> {
+                    // Preserve the order the ids were requested in
+                    List<User> users = new ArrayList<>(usersById.size());
+                    List<Long> missingIds = new ArrayList<>();
+                    for (Long id : uniqueIds) {
+                        User user = usersById.get(id);
+                        if (user != null) {
+                            users.add(user);
+                        } else {
+                            missingIds.add(id);
+                        }
+                    }
+                    return new UserLookup(users, missingIds);
+                });
+    }
+
+    @Override
+    public Mono<User> getUserByEmail(String email) {
+        return userRepository.findByEmail(email)
+                .switchIfEmpty(Mono.error(() -> new UserException("User not found with email: " + email, 
+                        UserException.UserExceptionType.NOT_FOUND)));
+    }
+
+    @Override
+    public Mono<User> createUser(User user) {
+        return userRepository.existsByEmail(user.getEmail())
+                .flatMap(exists -> exists
+                        ? Mono.error(duplicateEmail())
+                        : hash(user.getPassword()).flatMap(hash -> {
+                            user.setPassword(hash);
+                            return userRepository.save(user);
+                        }));
+    }
+
+    @Override
+    public Mono<User> updateUser(Long id, User user) {
+        return getUserById(id)
+                .flatMap(existingUser -> {
+                    if (existingUser.getEmail().equals(user.getEmail())) {
+                        return Mono.just(existingUser);
+                    }
+                    // Check if new email already exists for another user
+                    return userRepository.existsByEmail(user.getEmail())
+                            .flatMap(exists -> exists ? Mono.error(duplicateEmail()) : Mono.just(existingUser));
+                })
+                .flatMap(existingUser -> {
+                    existingUser.setFirstName(user.getFirstName());
+                    existingUser.setLastName(user.getLastName());
+                    existingUser.setEmail(user.getEmail());
+                    
+                    // Only update password if provided
+                    if (user.getPassword() != null && !user.getPassword().isEmpty()) {
+                        return hash(user.getPassword()).flatMap(hash -> {
+                            existingUser.setPassword(hash);
+                            return userRepository.save(existingUser);
+                        });
+                    }
+                    return userRepository.save(existingUser);
+                });
+    }
+
+    @Override
+    public Mono<User> updateUser(Long id, User user, long expectedVersion) {
+        // Only update password if provided
+        Mono<String> password = user.getPassword() == null || user.getPassword().isEmpty()
+                ? Mono.empty()
+                : hash(user.getPassword());
+        
+        return password
+                .map(hash -> new User(user.getFirstName(), user.getLastName(), user.getEmail(), hash))
+                .defaultIfEmpty(new User(user.getFirstName(), user.getLastName(), user.getEmail(), null))
+                .flatMap(changes -> userRepository.updateIfVersionMatches(id, changes, expectedVersion))
+                .switchIfEmpty(Mono.defer(() -> userRepository.existsById(id)
+                        .flatMap(exists -> Mono.error(exists
+                                ? new UserException("User was modified by another request", 
+                                        UserException.UserExceptionType.VERSION_CONFLICT)
+                                : notFound(id)))));
+    }
+
+    @Override
+    public Mono<Void> deleteUser(Long id) {
+        return userRepository.existsById(id)
+                .flatMap(exists -> exists
+                        ? userRepository.deleteById(id)
+                        : Mono.error(notFound(id)));
+    }
+
+    /**
+     * Hashes on the bounded hashing pool; the caller blocks until the hash is ready,
+     * so the wait happens on a worker rather than an event loop thread
+     */
+    private Mono<String> hash(String rawPassword) {
+        return Mono.fromCallable(() -> passwordHasher.hash(rawPassword))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static UserException notFound(Long id) {
+        return new UserException("User not found with id: " + id, 
+                UserException.UserExceptionType.NOT_FOUND);
+    }
+
+    private static UserException duplicateEmail() {
+        return new UserException("Email already in use", 
+                UserException.UserExceptionType.DUPLICATE_EMAIL);
+    }
+
+    private static UserException noFieldsSelected() {
+        return new UserException("At least one field must be selected", 
+                UserException.UserExceptionType.VALIDATION_ERROR);
+    }
+}
@@ -0,0 +1,66 @@
+package com.shopdevjava.springboot.application.service;
+
+import com.shopdevjava.springboot.application.port.out.UserChangeEventSink;
+import com.shopdevjava.springboot.domain.model.UserChangeEvent;
+import com.shopdevjava.springboot.domain.model.UserOutboxBatch;
+import com.shopdevjava.springboot.domain.model.UserOutboxPosition;
+import com.shopdevjava.springboot.domain.repository.UserOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Moves user change events from the outbox to every registered sink. Each instance tails
+ * the outbox from a position of its own, so the sinks of every instance receive every
+ * event, whichever instance wrote it. The position starts at the outbox head on the
+ * first relay; events written before that are not relayed.
+ */
+@Service
+@Profile("!reactive")
+public class UserEventRelay {
+
+    /**
+     * Events read per round trip
+     */
+    public static final int BATCH_SIZE = 100;
+
+    private final UserOutboxRepository userOutboxRepository;
+    private final List<UserChangeEventSink> sinks;
+    private UserOutboxPosition position;
+
+    @Autowired
+    public UserEventRelay(UserOutboxRepository userOutboxRepository, List<UserChangeEventSink> sinks) {
+        this.userOutboxRepository = userOutboxRepository;
+        this.sinks = List.copyOf(sinks);
+    }
+
+    /**
+     * Relays batches until caught up, returning the number of events relayed. The
+     * position only moves past a batch once every sink has taken it, so a batch a sink
+     * failed on is relayed again.
+     */
+    public synchronized int relayPending() {
+        if (position == null) {
+            position = userOutboxRepository.head();
+        }
+        int relayed = 0;
+        UserOutboxBatch batch;
+        do {
+            batch = userOutboxRepository.readAfter(position, BATCH_SIZE);
+            if (!batch.events().isEmpty()) {
+                publish(batch.events());
+            }
+            position = batch.end();
+            relayed += batch.events().size();
+        } while (batch.events().size() == BATCH_SIZE);
+        return relayed;
+    }
+
+    private void publish(List<UserChangeEvent> events) {
+        for (UserChangeEventSink sink : sinks) {
+            sink.publish(events);
+        }
+    }
+}
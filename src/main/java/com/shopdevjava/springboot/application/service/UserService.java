@@ -1,33 +1,128 @@
 package com.shopdevjava.springboot.application.service;
 
 import com.shopdevjava.springboot.application.port.in.UserUseCase;
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
 import com.shopdevjava.springboot.domain.exception.UserException;
 import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserBatchResult;
+import com.shopdevjava.springboot.domain.model.UserCount;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.model.UserDeletion;
+import com.shopdevjava.springboot.domain.model.UserField;
+import com.shopdevjava.springboot.domain.model.UserLookup;
+import com.shopdevjava.springboot.domain.model.UserPage;
+import com.shopdevjava.springboot.domain.model.UserProjection;
+import com.shopdevjava.springboot.domain.model.UserProjectionPage;
+import com.shopdevjava.springboot.domain.model.UserSearchPage;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
+import com.shopdevjava.springboot.domain.repository.UserCountRepository;
 import com.shopdevjava.springboot.domain.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
- * Service implementation for User use cases
+ * Service implementation for User use cases.
+ * Reads run in read-only transactions, which skip Hibernate's dirty checking and may be
+ * served by a read replica; writes run on the primary.
  */
 @Service
+@Profile("!reactive")
 public class UserService implements UserUseCase {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int MAX_LOOKUP_IDS = 100;
+    public static final int MAX_DELETE_IDS = 1000;
+    public static final int MIN_SEARCH_LENGTH = 3;
+    public static final int MAX_SEARCH_LENGTH = 100;
+    
+    /**
+     * Search pages past this many results are refused; deep pages of a ranked search
+     * cost as much as the whole result set
+     */
+    public static final int MAX_SEARCH_RESULTS = 1000;
+    public static final int MAX_SUGGESTIONS = 20;
+    
+    /**
+     * Rows removed per statement by bulk deletes, so each chunk holds its locks and
+     * connection only briefly
+     */
+    public static final int DELETE_CHUNK_SIZE = 500;
+
     private final UserRepository userRepository;
+    private final UserCountRepository userCountRepository;
+    private final PasswordHasher passwordHasher;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, UserCountRepository userCountRepository,
+                       PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
+        this.userCountRepository = userCountRepository;
+        this.passwordHasher = passwordHasher;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public UserPage listUsers(UserCursor after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        
+        // Fetch one extra row to know whether another page follows
+        List<User> users = userRepository.findPage(after, pageSize + 1);
+        if (users.size() <= pageSize) {
+            return new UserPage(users, null);
+        }
+        
+        List<User> page = users.subList(0, pageSize);
+        return new UserPage(page, UserCursor.of(page.get(pageSize - 1)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserProjectionPage listUsers(UserCursor after, int limit, Set<UserField> fields) {
+        requireFields(fields);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        
+        // Fetch one extra row to know whether another page follows
+        List<UserProjection> rows = userRepository.findProjectedPage(after, pageSize + 1, fields);
+        boolean hasMore = rows.size() > pageSize;
+        List<UserProjection> page = hasMore ? rows.subList(0, pageSize) : rows;
+        
+        List<Map<String, Object>> users = page.stream()
+                .map(UserProjection::values)
+                .toList();
+        return new UserProjectionPage(users, hasMore ? page.get(pageSize - 1).position() : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUsers(Consumer<User> sink) {
+        userRepository.streamAll(sink);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public User getUserById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new UserException("User not found with id: " + id, 
@@ -35,12 +130,120 @@ public class UserService implements UserUseCase {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUserById(Long id, Set<UserField> fields) {
+        requireFields(fields);
+        return userRepository.findProjectedById(id, fields)
+                .orElseThrow(() -> new UserException("User not found with id: " + id, 
+                        UserException.UserExceptionType.NOT_FOUND));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getUserVersion(Long id) {
+        return userRepository.findVersionById(id)
+                .orElseThrow(() -> new UserException("User not found with id: " + id, 
+                        UserException.UserExceptionType.NOT_FOUND));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserLookup getUsersByIds(List<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.size() > MAX_LOOKUP_IDS) {
+            throw new UserException("Cannot look up more than " + MAX_LOOKUP_IDS + " users at once", 
+                    UserException.UserExceptionType.VALIDATION_ERROR);
+        }
+        if (uniqueIds.isEmpty()) {
+            return new UserLookup(List.of(), List.of());
+        }
+        
+        Map<Long, User> usersById = userRepository.findAllByIds(uniqueIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        
+        // Preserve the order the ids were requested in
+        List<User> users = new ArrayList<>(usersById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            User user = usersById.get(id);
+            if (user != null) {
+                users.add(user);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new UserLookup(users, missingIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public User getUserByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserException("User not found with email: " + email, 
                         UserException.UserExceptionType.NOT_FOUND));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isEmailRegistered(String email) {
+        // An exact lookup: existsByEmail may answer from a filter that lags other writers
+        return userRepository.findByEmail(email).isPresent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserSearchPage searchUsers(String query, int offset, int limit) {
+        String normalized = query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+        if (normalized.length() < MIN_SEARCH_LENGTH || normalized.length() > MAX_SEARCH_LENGTH) {
+            throw new UserException("Search query must be between " + MIN_SEARCH_LENGTH + " and " 
+                    + MAX_SEARCH_LENGTH + " characters", UserException.UserExceptionType.VALIDATION_ERROR);
+        }
+        if (offset < 0 || offset >= MAX_SEARCH_RESULTS) {
+            throw new UserException("Search results are limited to the first " + MAX_SEARCH_RESULTS 
+                    + " matches; refine the query", UserException.UserExceptionType.VALIDATION_ERROR);
+        }
+        int pageSize = Math.max(1, Math.min(Math.min(limit, MAX_PAGE_SIZE), MAX_SEARCH_RESULTS - offset));
+        
+        // Fetch one extra row to know whether another page follows
+        List<User> users = userRepository.search(normalized, offset, pageSize + 1);
+        if (users.size() <= pageSize) {
+            return new UserSearchPage(users, null);
+        }
+        
+        List<User> page = users.subList(0, pageSize);
+        int nextOffset = offset + pageSize;
+        return new UserSearchPage(page, nextOffset < MAX_SEARCH_RESULTS ? nextOffset : null);
+    }
+
+    /**
+     * Not transactional, so both modes read the primary: replicas keep table statistics
+     * of their own, and the count should include the caller's latest writes
+     */
+    @Override
+    public UserCount countUsers(boolean exact) {
+        if (!exact) {
+            Optional<UserCount> estimate = userCountRepository.estimate();
+            if (estimate.isPresent()) {
+                return estimate.get();
+            }
+        }
+        return new UserCount(userCountRepository.count(), true, 0, Instant.now());
+    }
+
+    /**
+     * Not transactional: suggestions normally come from memory, and the database
+     * fallback opens its own read-only transaction
+     */
+    @Override
+    public List<UserSuggestion> suggestUsers(String query, int limit) {
+        String normalized = query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty() || normalized.length() > MAX_SEARCH_LENGTH) {
+            throw new UserException("Typeahead query must be between 1 and " + MAX_SEARCH_LENGTH 
+                    + " characters", UserException.UserExceptionType.VALIDATION_ERROR);
+        }
+        return userRepository.suggest(normalized, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
     @Override
     public User createUser(User user) {
         // Check if email already exists
@@ -49,39 +252,160 @@ public class UserService implements UserUseCase {
                     UserException.UserExceptionType.DUPLICATE_EMAIL);
         }
         
+        user.setPassword(passwordHasher.hash(user.getPassword()));
         return userRepository.save(user);
     }
 
     @Override
-    public User updateUser(Long id, User user) {
-        User existingUser = getUserById(id);
-        
-        // Check if new email already exists for another user
-        if (!existingUser.getEmail().equals(user.getEmail()) && 
-                userRepository.existsByEmail(user.getEmail())) {
-            throw new UserException("Email already in use", 
-                    UserException.UserExceptionType.DUPLICATE_EMAIL);
+    public List<UserBatchResult> createUsers(List<User> users) {
+        if (users.size() > MAX_BATCH_SIZE) {
+            throw new UserException("Batch size exceeds maximum of " + MAX_BATCH_SIZE, 
+                    UserException.UserExceptionType.VALIDATION_ERROR);
         }
         
-        // Update fields
-        existingUser.setFirstName(user.getFirstName());
-        existingUser.setLastName(user.getLastName());
-        existingUser.setEmail(user.getEmail());
+        // One query for all emails instead of one existsByEmail per user
+        Set<String> takenEmails = new HashSet<>(userRepository.findExistingEmails(
+                users.stream().map(User::getEmail).toList()));
+        
+        List<UserBatchResult> results = new ArrayList<>(users.size());
+        List<User> toInsert = new ArrayList<>(users.size());
+        List<Integer> insertIndexes = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            // Rejects emails already registered as well as repeats within this batch
+            if (!takenEmails.add(user.getEmail())) {
+                results.add(UserBatchResult.failure(i, UserException.UserExceptionType.DUPLICATE_EMAIL, 
+                        "Email already in use"));
+            } else {
+                toInsert.add(user);
+                insertIndexes.add(i);
+                results.add(null);
+            }
+        }
         
-        // Only update password if provided
-        if (user.getPassword() != null && !user.getPassword().isEmpty()) {
-            existingUser.setPassword(user.getPassword());
+        if (!toInsert.isEmpty()) {
+            List<String> hashes = passwordHasher.hashAll(toInsert.stream().map(User::getPassword).toList());
+            for (int i = 0; i < toInsert.size(); i++) {
+                toInsert.get(i).setPassword(hashes.get(i));
+            }
+            List<User> saved = userRepository.saveAll(toInsert);
+            for (int i = 0; i < saved.size(); i++) {
+                int index = insertIndexes.get(i);
+                results.set(index, UserBatchResult.success(index, saved.get(i)));
+            }
         }
         
-        return userRepository.save(existingUser);
+        return results;
+    }
+
+    @Override
+    public User updateUser(Long id, User user) {
+        return userRepository.update(id, hashPassword(replacementOf(user)))
+                .orElseThrow(() -> notFound(id));
+    }
+
+    @Override
+    public User updateUser(Long id, User user, long expectedVersion) {
+        return updateIfVersionMatches(id, hashPassword(replacementOf(user)), expectedVersion);
+    }
+
+    @Override
+    public User patchUser(Long id, User changes) {
+        requireChanges(changes);
+        return userRepository.update(id, hashPassword(changes))
+                .orElseThrow(() -> notFound(id));
+    }
+
+    @Override
+    public User patchUser(Long id, User changes, long expectedVersion) {
+        requireChanges(changes);
+        return updateIfVersionMatches(id, hashPassword(changes), expectedVersion);
+    }
+
+    private User updateIfVersionMatches(Long id, User changes, long expectedVersion) {
+        // Conditional single-statement update; the version check replaces the read-then-write
+        return userRepository.updateIfVersionMatches(id, changes, expectedVersion)
+                .orElseThrow(() -> userRepository.existsById(id)
+                        ? new UserException("User was modified by another request", 
+                                UserException.UserExceptionType.VERSION_CONFLICT)
+                        : notFound(id));
+    }
+
+    /**
+     * Full replacement of the editable fields; the password is only changed if provided
+     */
+    private static User replacementOf(User user) {
+        return new User(user.getFirstName(), user.getLastName(), user.getEmail(),
+                user.getPassword() == null || user.getPassword().isEmpty() ? null : user.getPassword());
+    }
+
+    /**
+     * Replaces a changed password with its hash; a null password stays unchanged
+     */
+    private User hashPassword(User changes) {
+        if (changes.getPassword() != null) {
+            changes.setPassword(passwordHasher.hash(changes.getPassword()));
+        }
+        return changes;
+    }
+
+    private static void requireChanges(User changes) {
+        if (changes.getFirstName() == null && changes.getLastName() == null 
+                && changes.getEmail() == null && changes.getPassword() == null) {
+            throw new UserException("At least one field must be changed", 
+                    UserException.UserExceptionType.VALIDATION_ERROR);
+        }
+    }
+
+    private static UserException notFound(Long id) {
+        return new UserException("User not found with id: " + id, 
+                UserException.UserExceptionType.NOT_FOUND);
     }
 
     @Override
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new UserException("User not found with id: " + id, 
-                    UserException.UserExceptionType.NOT_FOUND);
+        if (!userRepository.deleteById(id)) {
+            throw notFound(id);
+        }
+    }
+
+    @Override
+    public int deleteUsers(List<Long> ids) {
+        List<Long> uniqueIds = List.copyOf(new LinkedHashSet<>(ids));
+        if (uniqueIds.size() > MAX_DELETE_IDS) {
+            throw new UserException("Cannot delete more than " + MAX_DELETE_IDS + " users at once", 
+                    UserException.UserExceptionType.VALIDATION_ERROR);
+        }
+        
+        int deleted = 0;
+        for (int from = 0; from < uniqueIds.size(); from += DELETE_CHUNK_SIZE) {
+            int to = Math.min(from + DELETE_CHUNK_SIZE, uniqueIds.size());
+            deleted += userRepository.deleteAllByIds(uniqueIds.subList(from, to));
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes at most {@value #MAX_DELETE_IDS} users per call, in chunks, so a large
+     * cleanup never ties up the calling thread; the caller repeats while more remain
+     */
+    @Override
+    public UserDeletion deleteUsersCreatedBefore(LocalDateTime cutoff) {
+        int deleted = 0;
+        int limit;
+        int chunk;
+        do {
+            limit = Math.min(DELETE_CHUNK_SIZE, MAX_DELETE_IDS - deleted);
+            chunk = userRepository.deleteCreatedBefore(cutoff, limit).size();
+            deleted += chunk;
+        } while (chunk == limit && deleted < MAX_DELETE_IDS);
+        return new UserDeletion(deleted, chunk == limit);
+    }
+
+    private static void requireFields(Set<UserField> fields) {
+        if (fields == null || fields.isEmpty()) {
+            throw new UserException("At least one field must be selected", 
+                    UserException.UserExceptionType.VALIDATION_ERROR);
         }
-        userRepository.deleteById(id);
     }
-} 
\ No newline at end of file
+}
@@ -18,6 +18,8 @@ public class UserException extends RuntimeException {
     public enum UserExceptionType {
         NOT_FOUND,
         DUPLICATE_EMAIL,
-        VALIDATION_ERROR
+        VALIDATION_ERROR,
+        VERSION_CONFLICT,
+        UNAUTHORIZED
     }
 } 
\ No newline at end of file
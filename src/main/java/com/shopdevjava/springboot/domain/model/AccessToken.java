@@ -0,0 +1,7 @@
+package com.shopdevjava.springboot.domain.model;
+
+/**
+ * An issued access token in its encoded form, together with the claims it carries
+ */
+public record AccessToken(String value, TokenClaims claims) {
+}
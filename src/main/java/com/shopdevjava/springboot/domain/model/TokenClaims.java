@@ -0,0 +1,9 @@
+package com.shopdevjava.springboot.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Verified contents of an access token: who it was issued to, its unique id and its lifetime
+ */
+public record TokenClaims(long userId, String tokenId, Instant issuedAt, Instant expiresAt) {
+}
@@ -13,6 +13,7 @@ public class User {
     private String password;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
     
     // Constructors
     public User() {
@@ -28,6 +29,21 @@ public class User {
         this.password = password;
     }
     
+    /**
+     * Restores a stored user, without the timestamps the other constructors fill in
+     */
+    public User(Long id, String firstName, String lastName, String email, String password,
+                LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.password = password;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+    
     // Getters and Setters
     public Long getId() {
         return id;
@@ -84,4 +100,12 @@ public class User {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-} 
\ No newline at end of file
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.shopdevjava.springboot.domain.model;
+
+import com.shopdevjava.springboot.domain.exception.UserException.UserExceptionType;
+
+/**
+ * Outcome of one item in a batch operation.
+ * Exactly one of {@code user} or {@code errorType} is set.
+ */
+public record UserBatchResult(int index, User user, UserExceptionType errorType, String errorMessage) {
+
+    public static UserBatchResult success(int index, User user) {
+        return new UserBatchResult(index, user, null, null);
+    }
+
+    public static UserBatchResult failure(int index, UserExceptionType errorType, String errorMessage) {
+        return new UserBatchResult(index, null, errorType, errorMessage);
+    }
+
+    public boolean succeeded() {
+        return errorType == null;
+    }
+}
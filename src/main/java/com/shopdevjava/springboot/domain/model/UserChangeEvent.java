@@ -0,0 +1,11 @@
+package com.shopdevjava.springboot.domain.model;
+
+import java.time.Instant;
+
+/**
+ * A committed change to a user. The sequence number identifies the event to consumers;
+ * it increases from one change of a user to the next, but events of concurrent
+ * transactions may be relayed out of sequence order.
+ */
+public record UserChangeEvent(long sequence, UserChangeType type, long userId, Instant occurredAt) {
+}
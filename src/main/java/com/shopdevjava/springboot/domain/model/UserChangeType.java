@@ -0,0 +1,10 @@
+package com.shopdevjava.springboot.domain.model;
+
+/**
+ * Kinds of change published about a user
+ */
+public enum UserChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
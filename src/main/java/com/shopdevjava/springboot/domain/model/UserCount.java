@@ -0,0 +1,11 @@
+package com.shopdevjava.springboot.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Number of users, with how far it may be off: the true count was within
+ * {@code maxError} of {@code count} at {@code asOf}. An exact count has no error and is
+ * current; an estimate is as of the statistics it was read from, or null if unknown.
+ */
+public record UserCount(long count, boolean exact, long maxError, Instant asOf) {
+}
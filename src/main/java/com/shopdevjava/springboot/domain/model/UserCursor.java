@@ -0,0 +1,14 @@
+package com.shopdevjava.springboot.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keyset position in the (createdAt, id) ordering of users.
+ * A page continues strictly after the row identified by this cursor.
+ */
+public record UserCursor(LocalDateTime createdAt, Long id) {
+
+    public static UserCursor of(User user) {
+        return new UserCursor(user.getCreatedAt(), user.getId());
+    }
+}
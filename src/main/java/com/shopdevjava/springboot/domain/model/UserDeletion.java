@@ -0,0 +1,8 @@
+package com.shopdevjava.springboot.domain.model;
+
+/**
+ * Outcome of one bounded bulk delete: how many users it removed, and whether it stopped
+ * at its limit, in which case matching users may remain and the delete should be repeated
+ */
+public record UserDeletion(long deletedCount, boolean moreRemaining) {
+}
@@ -0,0 +1,39 @@
+package com.shopdevjava.springboot.domain.model;
+
+import java.util.Optional;
+
+/**
+ * User attributes that clients may select individually.
+ * The password is deliberately not selectable.
+ */
+public enum UserField {
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    EMAIL("email"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    VERSION("version");
+
+    private final String fieldName;
+
+    UserField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * Name of the attribute as exposed to clients
+     */
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public static Optional<UserField> fromFieldName(String fieldName) {
+        for (UserField field : values()) {
+            if (field.fieldName.equals(fieldName)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,10 @@
+package com.shopdevjava.springboot.domain.model;
+
+import java.util.List;
+
+/**
+ * Result of looking up several users by id: the users found, in request order,
+ * and the requested ids that do not exist
+ */
+public record UserLookup(List<User> users, List<Long> missingIds) {
+}
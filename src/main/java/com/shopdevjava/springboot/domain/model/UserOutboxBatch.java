@@ -0,0 +1,9 @@
+package com.shopdevjava.springboot.domain.model;
+
+import java.util.List;
+
+/**
+ * Events read from the user outbox, in outbox order, and the position to read on from
+ */
+public record UserOutboxBatch(List<UserChangeEvent> events, UserOutboxPosition end) {
+}
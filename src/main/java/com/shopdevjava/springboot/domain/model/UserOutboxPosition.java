@@ -0,0 +1,9 @@
+package com.shopdevjava.springboot.domain.model;
+
+/**
+ * Position of a reader in the user outbox, which is read in order of the transaction
+ * that wrote each event, then of the event's sequence number. Everything up to and
+ * including the position has been read.
+ */
+public record UserOutboxPosition(long transactionId, long sequence) {
+}
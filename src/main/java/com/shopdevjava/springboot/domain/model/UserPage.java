@@ -0,0 +1,14 @@
+package com.shopdevjava.springboot.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of users in (createdAt, id) order.
+ * {@code nextCursor} is null when there are no more users after this page.
+ */
+public record UserPage(List<User> users, UserCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.shopdevjava.springboot.domain.model;
+
+import java.util.Map;
+
+/**
+ * A user reduced to a selected set of fields, keyed by {@link UserField#fieldName()} in
+ * declaration order. {@code position} locates the row in the (createdAt, id) ordering
+ * even when those fields were not selected.
+ */
+public record UserProjection(UserCursor position, Map<String, Object> values) {
+}
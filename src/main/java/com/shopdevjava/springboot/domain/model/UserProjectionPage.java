@@ -0,0 +1,15 @@
+package com.shopdevjava.springboot.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of projected users in (createdAt, id) order.
+ * {@code nextCursor} is null when there are no more users after this page.
+ */
+public record UserProjectionPage(List<Map<String, Object>> users, UserCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.shopdevjava.springboot.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of search results, best matches first.
+ * {@code nextOffset} is null when there are no more results after this page.
+ */
+public record UserSearchPage(List<User> users, Integer nextOffset) {
+
+    public boolean hasNext() {
+        return nextOffset != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.shopdevjava.springboot.domain.model;
+
+/**
+ * A typeahead match: just enough of a user to show in a suggestion list
+ */
+public record UserSuggestion(Long id, String firstName, String lastName, String email) {
+
+    public static UserSuggestion of(User user) {
+        return new UserSuggestion(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail());
+    }
+}
@@ -0,0 +1,73 @@
+package com.shopdevjava.springboot.domain.repository;
+
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.model.UserField;
+import com.shopdevjava.springboot.domain.model.UserProjection;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Non-blocking counterpart of {@link UserRepository}.
+ * Empty results complete without a value instead of returning {@code Optional.empty()}.
+ */
+public interface ReactiveUserRepository {
+
+    /**
+     * Emits at most {@code limit} users ordered by (createdAt, id), starting strictly
+     * after {@code after}, or from the beginning when {@code after} is null
+     */
+    Flux<User> findPage(UserCursor after, int limit);
+
+    /**
+     * Same ordering and bounds as {@link #findPage}, but reads only the columns
+     * backing {@code fields}
+     */
+    Flux<UserProjection> findProjectedPage(UserCursor after, int limit, Set<UserField> fields);
+
+    /**
+     * Emits every user in id order as rows arrive, honouring downstream demand.
+     * Passwords are not loaded.
+     */
+    Flux<User> streamAll();
+
+    Mono<User> findById(Long id);
+
+    /**
+     * Reads only the columns backing {@code fields} of a single user
+     */
+    Mono<Map<String, Object>> findProjectedById(Long id, Set<UserField> fields);
+
+    /**
+     * Emits the users with the given ids from a single query, in no particular order
+     */
+    Flux<User> findAllByIds(Collection<Long> ids);
+
+    Mono<User> findByEmail(String email);
+
+    /**
+     * Emits only the version of a user, without loading the row
+     */
+    Mono<Long> findVersionById(Long id);
+
+    /**
+     * Inserts the user when it has no id, otherwise overwrites the stored row
+     */
+    Mono<User> save(User user);
+
+    /**
+     * Updates names, email and (when non-null) password in a single statement, but only
+     * if the stored version equals {@code expectedVersion}. Completes empty when the user
+     * does not exist or its version differs.
+     */
+    Mono<User> updateIfVersionMatches(Long id, User user, long expectedVersion);
+
+    Mono<Void> deleteById(Long id);
+    Mono<Boolean> existsById(Long id);
+    Mono<Boolean> existsByEmail(String email);
+    Mono<Long> count();
+}
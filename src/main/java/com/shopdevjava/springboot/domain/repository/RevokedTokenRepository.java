@@ -0,0 +1,24 @@
+package com.shopdevjava.springboot.domain.repository;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Repository interface for revoked access tokens, kept until the token would have expired anyway
+ */
+public interface RevokedTokenRepository {
+
+    void revoke(String tokenId, Instant expiresAt);
+
+    boolean isRevoked(String tokenId);
+
+    /**
+     * Returns the ids of revoked tokens that have not expired by {@code now}, with their expiry
+     */
+    Map<String, Instant> findActive(Instant now);
+
+    /**
+     * Forgets revocations of tokens that expired by {@code now}, returning how many were removed
+     */
+    int deleteExpired(Instant now);
+}
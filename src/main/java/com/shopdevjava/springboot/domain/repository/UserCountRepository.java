@@ -0,0 +1,39 @@
+package com.shopdevjava.springboot.domain.repository;
+
+import com.shopdevjava.springboot.domain.model.UserCount;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for the maintained user count and the table statistics.
+ * Changes are added in the transaction that creates or deletes the users, so the count
+ * moves exactly when they are committed.
+ */
+public interface UserCountRepository {
+
+    /**
+     * Adds a change to the count; joins the caller's transaction
+     */
+    void add(long delta);
+
+    /**
+     * Resets the count to zero; joins the caller's transaction
+     */
+    void reset();
+
+    long count();
+
+    /**
+     * Estimates the count from the planner statistics; empty if the table has not been
+     * analyzed yet
+     */
+    Optional<UserCount> estimate();
+
+    /**
+     * Corrects the count for users created or deleted without going through it, e.g. by
+     * hand or by another application
+     *
+     * @return the correction applied
+     */
+    long reconcile();
+}
@@ -0,0 +1,42 @@
+package com.shopdevjava.springboot.domain.repository;
+
+import com.shopdevjava.springboot.domain.model.UserChangeType;
+import com.shopdevjava.springboot.domain.model.UserOutboxBatch;
+import com.shopdevjava.springboot.domain.model.UserOutboxPosition;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Repository interface for the outbox of user change events. Events are appended in the
+ * transaction that changes the users, so they exist exactly when the change is committed.
+ * They are not consumed: each reader tails the outbox from a position of its own, and
+ * events are deleted once past a retention period.
+ */
+public interface UserOutboxRepository {
+
+    /**
+     * Records one event per user id; joins the caller's transaction
+     */
+    void append(UserChangeType type, Collection<Long> userIds);
+
+    /**
+     * Position just past the events already readable, for a reader that only wants the
+     * events written from now on
+     */
+    UserOutboxPosition head();
+
+    /**
+     * Reads up to {@code limit} events after {@code position}, in outbox order. Events
+     * only become readable once their transaction and every earlier one has finished, so
+     * no event can turn up later before the end of a batch already read.
+     */
+    UserOutboxBatch readAfter(UserOutboxPosition position, int limit);
+
+    /**
+     * Deletes the readable events that occurred before {@code cutoff}
+     *
+     * @return the number of events deleted
+     */
+    int deleteOccurredBefore(Instant cutoff);
+}
@@ -1,21 +1,126 @@
 package com.shopdevjava.springboot.domain.repository;
 
 import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.model.UserField;
+import com.shopdevjava.springboot.domain.model.UserProjection;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for User domain model
  */
 public interface UserRepository {
     List<User> findAll();
+
+    /**
+     * Returns at most {@code limit} users ordered by (createdAt, id), starting strictly
+     * after {@code after}, or from the beginning when {@code after} is null
+     */
+    List<User> findPage(UserCursor after, int limit);
+
+    /**
+     * Same ordering and bounds as {@link #findPage}, but reads only the columns
+     * backing {@code fields}
+     */
+    List<UserProjection> findProjectedPage(UserCursor after, int limit, Set<UserField> fields);
+
+    /**
+     * Passes every user to {@code action} one row at a time, in id order, without
+     * holding the result set in memory. Passwords are not loaded.
+     */
+    void streamAll(Consumer<User> action);
+
+    /**
+     * Passes every registered email to {@code action} one row at a time, in no
+     * particular order, without holding the result set in memory
+     */
+    void streamAllEmails(Consumer<String> action);
+
     Optional<User> findById(Long id);
+
+    /**
+     * Reads only the columns backing {@code fields} of a single user
+     */
+    Optional<Map<String, Object>> findProjectedById(Long id, Set<UserField> fields);
+
+    /**
+     * Returns the users with the given ids in a single query, in no particular order
+     */
+    List<User> findAllByIds(Collection<Long> ids);
+
     Optional<User> findByEmail(String email);
+
+    /**
+     * Returns users whose first name, last name or email contains {@code query} or
+     * resembles it, best matches first: prefix matches, then by trigram similarity.
+     * {@code query} must already be lower case. Passwords are not loaded.
+     */
+    List<User> search(String query, int offset, int limit);
+
+    /**
+     * Returns up to {@code limit} users for a typeahead box whose name or email starts
+     * with what was typed so far. {@code query} must already be lower case; an in-memory
+     * implementation may also match each word of a multi-word query separately.
+     */
+    List<UserSuggestion> suggest(String query, int limit);
+
+    /**
+     * Returns only the version of a user, without loading the row
+     */
+    Optional<Long> findVersionById(Long id);
+
     User save(User user);
-    void deleteById(Long id);
+
+    /**
+     * Inserts or updates all users in one transaction, returning them in input order
+     */
+    List<User> saveAll(List<User> users);
+
+    /**
+     * Writes the non-null name, email and password fields of {@code changes} in a single
+     * statement, leaving the other columns untouched. Returns the updated user, or empty
+     * when the user does not exist.
+     */
+    Optional<User> update(Long id, User changes);
+
+    /**
+     * Like {@link #update(Long, User)}, but only if the stored version equals
+     * {@code expectedVersion}. Returns empty when the user does not exist or its version differs.
+     */
+    Optional<User> updateIfVersionMatches(Long id, User changes, long expectedVersion);
+
+    /**
+     * Deletes a user in a single statement, returning whether a row was deleted
+     */
+    boolean deleteById(Long id);
+
+    /**
+     * Deletes the given users in a single statement, returning how many existed
+     */
+    int deleteAllByIds(Collection<Long> ids);
+
+    /**
+     * Deletes at most {@code limit} users created before {@code cutoff} in a single
+     * statement, returning the ids of the deleted users
+     */
+    List<Long> deleteCreatedBefore(LocalDateTime cutoff, int limit);
+
     boolean existsById(Long id);
     boolean existsByEmail(String email);
+
+    /**
+     * Returns the subset of {@code emails} already registered, using a single query
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
     void deleteAll();
     long count();
 } 
\ No newline at end of file
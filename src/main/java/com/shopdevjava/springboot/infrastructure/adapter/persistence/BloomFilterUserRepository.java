@@ -0,0 +1,125 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Screens the duplicate-email checks made before creating users with an in-memory Bloom
+ * filter, so definite negatives never reach the database. Possible positives still go to
+ * the delegate, and the unique constraint on users.email remains the final guard.
+ * <p>
+ * The filter only knows the emails of this process and of its last rebuild, so a user
+ * added elsewhere (another instance, the reactive adapter, a bulk load) looks absent until
+ * then. That is harmless for a pre-check that the constraint backs up, but not for reads:
+ * {@link #findByEmail} always goes to the delegate.
+ * <p>
+ * Until the first {@link #rebuild()} completes every lookup goes to the delegate.
+ * Emails are added as users are saved; deleted emails are only forgotten by the next
+ * rebuild, which just costs a query per stale positive until then.
+ */
+public class BloomFilterUserRepository extends ForwardingUserRepository {
+
+    /**
+     * Lower bound on the sized capacity, so a small table still leaves room to grow
+     */
+    private static final long MIN_EXPECTED_EMAILS = 10_000;
+
+    private final double falsePositiveRate;
+
+    private volatile EmailBloomFilter filter;
+    private volatile EmailBloomFilter building;
+
+    public BloomFilterUserRepository(UserRepository delegate, double falsePositiveRate) {
+        super(delegate);
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Builds a fresh filter from the users table, sized for twice the current row count,
+     * and swaps it in. Emails saved while the build is running go into both filters.
+     */
+    public void rebuild() {
+        EmailBloomFilter next = EmailBloomFilter.create(
+                Math.max(MIN_EXPECTED_EMAILS, delegate.count() * 2), falsePositiveRate);
+        building = next;
+        try {
+            delegate.streamAllEmails(next::add);
+            filter = next;
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * Whether the filter has been built and is answering lookups
+     */
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return !definitelyAbsent(email) && delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        List<String> candidates = emails.stream()
+                .filter(email -> !definitelyAbsent(email))
+                .toList();
+        return candidates.isEmpty() ? Set.of() : delegate.findExistingEmails(candidates);
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        remember(saved.getEmail());
+        return saved;
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<User> saved = delegate.saveAll(users);
+        saved.forEach(user -> remember(user.getEmail()));
+        return saved;
+    }
+
+    @Override
+    public Optional<User> update(Long id, User changes) {
+        Optional<User> updated = delegate.update(id, changes);
+        updated.ifPresent(u -> remember(u.getEmail()));
+        return updated;
+    }
+
+    @Override
+    public Optional<User> updateIfVersionMatches(Long id, User changes, long expectedVersion) {
+        Optional<User> updated = delegate.updateIfVersionMatches(id, changes, expectedVersion);
+        updated.ifPresent(u -> remember(u.getEmail()));
+        return updated;
+    }
+
+    private boolean definitelyAbsent(String email) {
+        EmailBloomFilter current = filter;
+        return current != null && !current.mightContain(email);
+    }
+
+    /**
+     * Reads the filter under construction before the current one: if no build was seen,
+     * any build that starts afterwards streams a table that already has this email
+     */
+    private void remember(String email) {
+        EmailBloomFilter next = building;
+        EmailBloomFilter current = filter;
+        if (next != null) {
+            next.add(email);
+        }
+        if (current != null) {
+            current.add(email);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.repository.RevokedTokenRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RevokedTokenRepository that answers {@link #isRevoked(String)} from memory, so
+ * authenticating a request never touches the database.
+ * <p>
+ * Revocations made here are visible immediately; those made by other instances appear
+ * on the next {@link #refresh()}. Entries are dropped once their token has expired.
+ */
+public class CachingRevokedTokenRepository implements RevokedTokenRepository {
+
+    private final RevokedTokenRepository delegate;
+    private final Clock clock;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    public CachingRevokedTokenRepository(RevokedTokenRepository delegate) {
+        this(delegate, Clock.systemUTC());
+    }
+
+    CachingRevokedTokenRepository(RevokedTokenRepository delegate, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        delegate.revoke(tokenId, expiresAt);
+        revoked.put(tokenId, expiresAt);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return revoked.containsKey(tokenId);
+    }
+
+    @Override
+    public Map<String, Instant> findActive(Instant now) {
+        return delegate.findActive(now);
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        return delegate.deleteExpired(now);
+    }
+
+    /**
+     * Merges in revocations from the database and forgets expired ones. Entries are only
+     * ever added, never replaced, so a concurrent {@link #revoke} cannot be lost.
+     */
+    public void refresh() {
+        Instant now = clock.instant();
+        revoked.putAll(delegate.findActive(now));
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    }
+
+    /**
+     * Number of revoked, unexpired tokens held in memory
+     */
+    public int size() {
+        return revoked.size();
+    }
+}
@@ -0,0 +1,272 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-through cache in front of a UserRepository, bounded by size and expiring entries
+ * after a TTL. Users are cached by id, with an email to id index for email lookups, and
+ * ids that do not exist are cached as absent for a shorter negative TTL.
+ * <p>
+ * Writes through this repository refresh or invalidate the affected entries. Writes made
+ * by other processes become visible once the entry expires.
+ * <p>
+ * Misses are loaded from the primary, even in read-only transactions: an entry lives for
+ * the whole TTL, so a row read from a lagging replica after an eviction (a deleted user,
+ * a stale version) would be served to every session, including the one that wrote.
+ * <p>
+ * {@link User} is mutable, so the cache only ever hands out and stores copies.
+ */
+public class CachingUserRepository extends ForwardingUserRepository {
+
+    private final Cache<Long, Optional<User>> usersById;
+    private final Cache<String, Long> idsByEmail;
+
+    public CachingUserRepository(UserRepository delegate, long maximumSize, Duration ttl, Duration negativeTtl) {
+        this(delegate, maximumSize, ttl, negativeTtl, Ticker.systemTicker());
+    }
+
+    CachingUserRepository(UserRepository delegate, long maximumSize, Duration ttl, Duration negativeTtl,
+                          Ticker ticker) {
+        super(delegate);
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PresenceExpiry(ttl, negativeTtl))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .build();
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return usersById.get(id, key -> {
+                    Optional<User> user = ReadYourWrites.readFromPrimary(() -> delegate.findById(key));
+                    user.ifPresent(u -> idsByEmail.put(u.getEmail(), u.getId()));
+                    return user;
+                })
+                .map(CachingUserRepository::copyOf);
+    }
+
+    @Override
+    public List<User> findAllByIds(Collection<Long> ids) {
+        Map<Long, Optional<User>> users = usersById.getAll(ids, missingIds -> {
+            Map<Long, Optional<User>> loaded = new HashMap<>();
+            List<User> found = ReadYourWrites.readFromPrimary(() -> delegate.findAllByIds(List.copyOf(missingIds)));
+            for (User user : found) {
+                loaded.put(user.getId(), Optional.of(user));
+                idsByEmail.put(user.getEmail(), user.getId());
+            }
+            for (Long id : missingIds) {
+                loaded.putIfAbsent(id, Optional.empty());
+            }
+            return loaded;
+        });
+        return users.values().stream()
+                .flatMap(Optional::stream)
+                .map(CachingUserRepository::copyOf)
+                .toList();
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        User cached = cachedByEmail(email);
+        if (cached != null) {
+            return Optional.of(copyOf(cached));
+        }
+        
+        Optional<User> user = ReadYourWrites.readFromPrimary(() -> delegate.findByEmail(email));
+        user.ifPresent(this::cache);
+        return user;
+    }
+
+    /**
+     * Read from the primary on a miss as well, since conditional requests are decided on it
+     */
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        Optional<User> cached = usersById.getIfPresent(id);
+        if (cached != null) {
+            return cached.map(User::getVersion);
+        }
+        return ReadYourWrites.readFromPrimary(() -> delegate.findVersionById(id));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        Optional<User> cached = usersById.getIfPresent(id);
+        if (cached != null) {
+            return cached.isPresent();
+        }
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return cachedByEmail(email) != null || delegate.existsByEmail(email);
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        cache(saved);
+        return saved;
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<User> saved = delegate.saveAll(users);
+        saved.forEach(this::cache);
+        return saved;
+    }
+
+    @Override
+    public Optional<User> update(Long id, User changes) {
+        return refresh(id, delegate.update(id, changes));
+    }
+
+    @Override
+    public Optional<User> updateIfVersionMatches(Long id, User changes, long expectedVersion) {
+        return refresh(id, delegate.updateIfVersionMatches(id, changes, expectedVersion));
+    }
+
+    private Optional<User> refresh(Long id, Optional<User> updated) {
+        if (updated.isPresent()) {
+            cache(updated.get());
+        } else {
+            // Our copy is stale, or the user is gone
+            evict(id);
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        boolean deleted = delegate.deleteById(id);
+        evict(id);
+        return deleted;
+    }
+
+    @Override
+    public int deleteAllByIds(Collection<Long> ids) {
+        int deleted = delegate.deleteAllByIds(ids);
+        ids.forEach(this::evict);
+        return deleted;
+    }
+
+    @Override
+    public List<Long> deleteCreatedBefore(LocalDateTime cutoff, int limit) {
+        List<Long> deletedIds = delegate.deleteCreatedBefore(cutoff, limit);
+        deletedIds.forEach(this::evict);
+        return deletedIds;
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+        usersById.invalidateAll();
+        idsByEmail.invalidateAll();
+    }
+
+    /**
+     * Hit, miss and eviction counts of the id cache, which serves all lookups
+     */
+    public CacheStats stats() {
+        return usersById.stats();
+    }
+
+    /**
+     * Approximate number of cached ids, including ids cached as absent
+     */
+    public long estimatedSize() {
+        return usersById.estimatedSize();
+    }
+
+    /**
+     * Resolves an email through the index, ignoring index entries whose user is no
+     * longer cached or has since changed email
+     */
+    private User cachedByEmail(String email) {
+        Long id = idsByEmail.getIfPresent(email);
+        if (id == null) {
+            return null;
+        }
+        Optional<User> cached = usersById.getIfPresent(id);
+        if (cached == null || cached.isEmpty() || !email.equals(cached.get().getEmail())) {
+            return null;
+        }
+        return cached.get();
+    }
+
+    private void cache(User user) {
+        Optional<User> previous = usersById.getIfPresent(user.getId());
+        if (previous != null && previous.isPresent() && !previous.get().getEmail().equals(user.getEmail())) {
+            idsByEmail.invalidate(previous.get().getEmail());
+        }
+        usersById.put(user.getId(), Optional.of(copyOf(user)));
+        idsByEmail.put(user.getEmail(), user.getId());
+    }
+
+    private void evict(Long id) {
+        Optional<User> previous = usersById.getIfPresent(id);
+        if (previous != null && previous.isPresent()) {
+            idsByEmail.invalidate(previous.get().getEmail());
+        }
+        usersById.invalidate(id);
+    }
+
+    private static User copyOf(User user) {
+        User copy = new User(user.getFirstName(), user.getLastName(), user.getEmail(), user.getPassword());
+        copy.setId(user.getId());
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setUpdatedAt(user.getUpdatedAt());
+        copy.setVersion(user.getVersion());
+        return copy;
+    }
+
+    /**
+     * Expires present users after the TTL and absent ids after the shorter negative TTL
+     */
+    private static final class PresenceExpiry implements Expiry<Long, Optional<User>> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        PresenceExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long id, Optional<User> user, long currentTime) {
+            return user.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long id, Optional<User> user, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, user, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long id, Optional<User> user, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter of normalized email addresses.
+ * {@link #mightContain} never returns false for an added email, and returns true for
+ * an email that was never added with roughly the configured false-positive rate.
+ * Emails cannot be removed; the owner rebuilds the filter to forget deleted ones.
+ * <p>
+ * Safe for concurrent use without locking: bits are only ever set, atomically.
+ */
+public final class EmailBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private EmailBloomFilter(long bitCount, int hashCount) {
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Sizes the filter so that {@code expectedInsertions} emails give about
+     * {@code falsePositiveRate} false positives
+     */
+    public static EmailBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new EmailBloomFilter(m, k);
+    }
+
+    /**
+     * Case and surrounding whitespace are ignored, so that a match on the exact stored
+     * email always implies a match on the normalized one
+     */
+    public static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public void add(String email) {
+        long h1 = hash(normalize(email));
+        long h2 = mix(h1 ^ 0xC4CEB9FE1A85EC53L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            long mask = 1L << index;
+            bits.accumulateAndGet((int) (index >>> 6), mask, (current, bit) -> current | bit);
+        }
+    }
+
+    public boolean mightContain(String email) {
+        long h1 = hash(normalize(email));
+        long h2 = mix(h1 ^ 0xC4CEB9FE1A85EC53L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 64-bit hash of the characters, finished with the MurmurHash3 mixer
+     */
+    private static long hash(String value) {
+        long h = 0x9E3779B97F4A7C15L ^ value.length();
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0xFF51AFD7ED558CCDL;
+            h = Long.rotateLeft(h, 31);
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
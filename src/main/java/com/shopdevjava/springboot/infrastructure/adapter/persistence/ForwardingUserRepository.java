@@ -0,0 +1,149 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.model.UserField;
+import com.shopdevjava.springboot.domain.model.UserProjection;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Base for UserRepository decorators: forwards every call to the wrapped repository,
+ * so subclasses only override the operations they change
+ */
+public abstract class ForwardingUserRepository implements UserRepository {
+
+    protected final UserRepository delegate;
+
+    protected ForwardingUserRepository(UserRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<User> findPage(UserCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public List<UserProjection> findProjectedPage(UserCursor after, int limit, Set<UserField> fields) {
+        return delegate.findProjectedPage(after, limit, fields);
+    }
+
+    @Override
+    public void streamAll(Consumer<User> action) {
+        delegate.streamAll(action);
+    }
+
+    @Override
+    public void streamAllEmails(Consumer<String> action) {
+        delegate.streamAllEmails(action);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findProjectedById(Long id, Set<UserField> fields) {
+        return delegate.findProjectedById(id, fields);
+    }
+
+    @Override
+    public List<User> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public List<User> search(String query, int offset, int limit) {
+        return delegate.search(query, offset, limit);
+    }
+
+    @Override
+    public List<UserSuggestion> suggest(String query, int limit) {
+        return delegate.suggest(query, limit);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public User save(User user) {
+        return delegate.save(user);
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        return delegate.saveAll(users);
+    }
+
+    @Override
+    public Optional<User> update(Long id, User changes) {
+        return delegate.update(id, changes);
+    }
+
+    @Override
+    public Optional<User> updateIfVersionMatches(Long id, User changes, long expectedVersion) {
+        return delegate.updateIfVersionMatches(id, changes, expectedVersion);
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public int deleteAllByIds(Collection<Long> ids) {
+        return delegate.deleteAllByIds(ids);
+    }
+
+    @Override
+    public List<Long> deleteCreatedBefore(LocalDateTime cutoff, int limit) {
+        return delegate.deleteCreatedBefore(cutoff, limit);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+}
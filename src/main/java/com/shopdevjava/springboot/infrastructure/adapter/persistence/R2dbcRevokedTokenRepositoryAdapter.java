@@ -0,0 +1,81 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.repository.RevokedTokenRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+/**
+ * Adapter for the revoked token repository on R2DBC, backed by the same revoked_tokens
+ * table as {@link RevokedTokenRepositoryAdapter}. The port is blocking, so each call
+ * blocks on its statement: it is only meant for the scheduled refresh of
+ * {@link CachingRevokedTokenRepository}, never for an event loop thread.
+ */
+@Component
+@Profile("reactive")
+public class R2dbcRevokedTokenRepositoryAdapter implements RevokedTokenRepository {
+
+    private static final String REVOKE_SQL =
+            "INSERT INTO revoked_tokens (token_id, expires_at) VALUES (:tokenId, :expiresAt) "
+            + "ON CONFLICT (token_id) DO NOTHING";
+
+    private static final String EXISTS_SQL = "SELECT 1 FROM revoked_tokens WHERE token_id = :tokenId";
+
+    private static final String FIND_ACTIVE_SQL =
+            "SELECT token_id, expires_at FROM revoked_tokens WHERE expires_at > :now";
+
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM revoked_tokens WHERE expires_at <= :now";
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public R2dbcRevokedTokenRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        databaseClient.sql(REVOKE_SQL)
+                .bind("tokenId", tokenId)
+                .bind("expiresAt", expiresAt.atOffset(ZoneOffset.UTC))
+                .then()
+                .block();
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return Boolean.TRUE.equals(databaseClient.sql(EXISTS_SQL)
+                .bind("tokenId", tokenId)
+                .map(row -> true)
+                .first()
+                .hasElement()
+                .block());
+    }
+
+    @Override
+    public Map<String, Instant> findActive(Instant now) {
+        return databaseClient.sql(FIND_ACTIVE_SQL)
+                .bind("now", now.atOffset(ZoneOffset.UTC))
+                .map(row -> Map.entry(row.get("token_id", String.class),
+                        row.get("expires_at", OffsetDateTime.class).toInstant()))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        Long deleted = databaseClient.sql(DELETE_EXPIRED_SQL)
+                .bind("now", now.atOffset(ZoneOffset.UTC))
+                .fetch()
+                .rowsUpdated()
+                .block();
+        return deleted == null ? 0 : deleted.intValue();
+    }
+}
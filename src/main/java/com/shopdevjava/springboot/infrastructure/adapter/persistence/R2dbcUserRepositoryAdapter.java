@@ -0,0 +1,287 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserChangeType;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.model.UserField;
+import com.shopdevjava.springboot.domain.model.UserProjection;
+import com.shopdevjava.springboot.domain.repository.ReactiveUserRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Non-blocking adapter for the User repository on R2DBC. Reads the same users table
+ * as {@link UserRepositoryAdapter} with hand-written SQL, since the JPA entity and its
+ * lifecycle callbacks are not available here. Writes append to the user outbox like the
+ * JDBC adapter, so servlet instances relay the changes made here.
+ */
+@Component
+@Profile("reactive")
+public class R2dbcUserRepositoryAdapter implements ReactiveUserRepository {
+
+    /**
+     * Rows requested per round trip by the export cursor
+     */
+    static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final String USER_COLUMNS =
+            "id, first_name, last_name, email, password, created_at, updated_at, version";
+
+    private static final String PAGE_SQL =
+            "SELECT " + USER_COLUMNS + " FROM users ORDER BY created_at, id LIMIT :limit";
+
+    private static final String PAGE_AFTER_SQL =
+            "SELECT " + USER_COLUMNS + " FROM users WHERE (created_at, id) > (:createdAt, :id) "
+            + "ORDER BY created_at, id LIMIT :limit";
+
+    private static final String STREAM_ALL_SQL =
+            "SELECT id, first_name, last_name, email, created_at, updated_at, version FROM users ORDER BY id";
+
+    private static final String INSERT_SQL = withOutbox(
+            "INSERT INTO users (id, first_name, last_name, email, password, created_at, updated_at, version) "
+            + "VALUES (nextval('users_id_seq'), :firstName, :lastName, :email, :password, :now, :now, 0) "
+            + "RETURNING " + USER_COLUMNS, UserChangeType.CREATED);
+
+    private static final String UPDATE_SQL = withOutbox(
+            "UPDATE users SET first_name = :firstName, last_name = :lastName, email = :email, "
+            + "password = :password, updated_at = :now, version = version + 1 "
+            + "WHERE id = :id RETURNING " + USER_COLUMNS, UserChangeType.UPDATED);
+
+    private static final String UPDATE_IF_VERSION_SQL = withOutbox(
+            "UPDATE users SET first_name = :firstName, last_name = :lastName, email = :email, "
+            + "password = COALESCE(:password, password), updated_at = :now, version = version + 1 "
+            + "WHERE id = :id AND version = :version RETURNING " + USER_COLUMNS, UserChangeType.UPDATED);
+
+    private static final String DELETE_SQL = withOutbox(
+            "DELETE FROM users WHERE id = :id RETURNING id", UserChangeType.DELETED);
+
+    /**
+     * Fields the keyset position is read from, selected even when not requested
+     */
+    private static final Set<UserField> POSITION_FIELDS = EnumSet.of(UserField.CREATED_AT, UserField.ID);
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public R2dbcUserRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<User> findPage(UserCursor after, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = after == null
+                ? databaseClient.sql(PAGE_SQL)
+                : databaseClient.sql(PAGE_AFTER_SQL)
+                        .bind("createdAt", after.createdAt())
+                        .bind("id", after.id());
+        return spec.bind("limit", limit)
+                .map(this::mapRow)
+                .all();
+    }
+
+    @Override
+    public Flux<UserProjection> findProjectedPage(UserCursor after, int limit, Set<UserField> fields) {
+        Set<UserField> requested = EnumSet.copyOf(fields);
+        Set<UserField> selected = EnumSet.copyOf(requested);
+        selected.addAll(POSITION_FIELDS);
+        
+        String sql = "SELECT " + UserColumns.columnList(selected) + " FROM users"
+                + (after == null ? "" : " WHERE (created_at, id) > (:createdAt, :id)")
+                + " ORDER BY created_at, id LIMIT :limit";
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql).bind("limit", limit);
+        if (after != null) {
+            spec = spec.bind("createdAt", after.createdAt()).bind("id", after.id());
+        }
+        return spec.map(row -> new UserProjection(
+                        new UserCursor(row.get("created_at", LocalDateTime.class), row.get("id", Long.class)),
+                        mapProjection(row, requested)))
+                .all();
+    }
+
+    /**
+     * The driver fetches rows in chunks of the fetch size and only requests the next
+     * chunk once downstream has consumed the previous one
+     */
+    @Override
+    public Flux<User> streamAll() {
+        return databaseClient.sql(STREAM_ALL_SQL)
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE))
+                .map(this::mapRowWithoutPassword)
+                .all();
+    }
+
+    @Override
+    public Mono<User> findById(Long id) {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE id = :id")
+                .bind("id", id)
+                .map(this::mapRow)
+                .one();
+    }
+
+    @Override
+    public Mono<Map<String, Object>> findProjectedById(Long id, Set<UserField> fields) {
+        Set<UserField> requested = EnumSet.copyOf(fields);
+        return databaseClient.sql("SELECT " + UserColumns.columnList(requested) + " FROM users WHERE id = :id")
+                .bind("id", id)
+                .map(row -> mapProjection(row, requested))
+                .one();
+    }
+
+    @Override
+    public Flux<User> findAllByIds(Collection<Long> ids) {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .map(this::mapRow)
+                .all();
+    }
+
+    @Override
+    public Mono<User> findByEmail(String email) {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE email = :email")
+                .bind("email", email)
+                .map(this::mapRow)
+                .one();
+    }
+
+    @Override
+    public Mono<Long> findVersionById(Long id) {
+        return databaseClient.sql("SELECT version FROM users WHERE id = :id")
+                .bind("id", id)
+                .map(row -> row.get("version", Long.class))
+                .one();
+    }
+
+    @Override
+    public Mono<User> save(User user) {
+        DatabaseClient.GenericExecuteSpec spec = user.getId() == null
+                ? databaseClient.sql(INSERT_SQL)
+                : databaseClient.sql(UPDATE_SQL).bind("id", user.getId());
+        return bindUser(spec, user)
+                .map(this::mapRow)
+                .one()
+                .onErrorMap(DataIntegrityViolationException.class, e -> duplicateEmail());
+    }
+
+    @Override
+    public Mono<User> updateIfVersionMatches(Long id, User user, long expectedVersion) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(UPDATE_IF_VERSION_SQL)
+                .bind("id", id)
+                .bind("version", expectedVersion);
+        return bindUser(spec, user)
+                .map(this::mapRow)
+                .one()
+                .onErrorMap(DataIntegrityViolationException.class, e -> duplicateEmail());
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return databaseClient.sql(DELETE_SQL)
+                .bind("id", id)
+                .then();
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT EXISTS (SELECT 1 FROM users WHERE id = :id) AS found")
+                .bind("id", id)
+                .map(row -> row.get("found", Boolean.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return databaseClient.sql("SELECT EXISTS (SELECT 1 FROM users WHERE email = :email) AS found")
+                .bind("email", email)
+                .map(row -> row.get("found", Boolean.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return databaseClient.sql("SELECT COUNT(*) AS total FROM users")
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    /**
+     * Makes a statement that changes users and returns their id also write a user_outbox
+     * row per changed user. Both happen in one statement, so the event commits with the
+     * change without a transaction spanning several round trips.
+     */
+    private static String withOutbox(String changeSql, UserChangeType type) {
+        return "WITH changed AS (" + changeSql + "), "
+                + "events AS (INSERT INTO user_outbox (event_type, user_id, occurred_at) "
+                + "SELECT '" + type.name() + "', id, now() FROM changed) "
+                + "SELECT * FROM changed";
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindUser(DatabaseClient.GenericExecuteSpec spec, User user) {
+        spec = spec.bind("firstName", user.getFirstName())
+                .bind("lastName", user.getLastName())
+                .bind("email", user.getEmail())
+                .bind("now", LocalDateTime.now());
+        return user.getPassword() == null
+                ? spec.bindNull("password", String.class)
+                : spec.bind("password", user.getPassword());
+    }
+
+    private static UserException duplicateEmail() {
+        return new UserException("Email already in use", 
+                UserException.UserExceptionType.DUPLICATE_EMAIL);
+    }
+
+    /**
+     * Maps the selected columns of a row to field values, in field declaration order
+     */
+    private Map<String, Object> mapProjection(Readable row, Set<UserField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (UserField field : fields) {
+            String column = UserColumns.columnOf(field);
+            Object value = switch (field) {
+                case ID, VERSION -> row.get(column, Long.class);
+                case CREATED_AT, UPDATED_AT -> row.get(column, LocalDateTime.class);
+                case FIRST_NAME, LAST_NAME, EMAIL -> row.get(column, String.class);
+            };
+            values.put(field.fieldName(), value);
+        }
+        return values;
+    }
+
+    /**
+     * Maps a full row to a domain model
+     */
+    private User mapRow(Readable row) {
+        User user = mapRowWithoutPassword(row);
+        user.setPassword(row.get("password", String.class));
+        return user;
+    }
+
+    /**
+     * Maps a row without the password column to a domain model
+     */
+    private User mapRowWithoutPassword(Readable row) {
+        User user = new User();
+        user.setId(row.get("id", Long.class));
+        user.setFirstName(row.get("first_name", String.class));
+        user.setLastName(row.get("last_name", String.class));
+        user.setEmail(row.get("email", String.class));
+        user.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        user.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        user.setVersion(row.get("version", Long.class));
+        return user;
+    }
+}
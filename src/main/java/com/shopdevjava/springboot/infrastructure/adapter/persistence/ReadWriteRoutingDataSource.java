@@ -0,0 +1,89 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * DataSource that sends read-only transactions to a replica and everything else to the
+ * primary. The physical connection is only fetched on the first statement, by which time
+ * the transaction manager has marked the connection read-only (or not), so the choice
+ * follows {@code @Transactional(readOnly = true)}. Reads of a session that has just
+ * written stay on the primary, see {@link ReadYourWrites}.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy {
+
+    private final DataSource primary;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        super(new WriteRecordingDataSource(primary));
+        this.primary = primary;
+        setReadOnlyDataSource(new ReplicaDataSource(replica, primary));
+    }
+
+    /**
+     * Reads the connection defaults from the primary directly, so the probe is not taken
+     * for a write of whichever session happens to come first
+     */
+    @Override
+    public void checkDefaultConnectionProperties() {
+        if (defaultAutoCommit() == null || defaultTransactionIsolation() == null) {
+            try (Connection connection = primary.getConnection()) {
+                checkDefaultConnectionProperties(connection);
+            } catch (SQLException e) {
+                // Retried on the next connection, as the superclass does
+            }
+        }
+    }
+
+    /**
+     * The primary as seen by read-write connections, which count as writes of the session
+     */
+    private static class WriteRecordingDataSource extends DelegatingDataSource {
+
+        WriteRecordingDataSource(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            ReadYourWrites.recordWrite();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            ReadYourWrites.recordWrite();
+            return super.getConnection(username, password);
+        }
+    }
+
+    /**
+     * The replica, unless the session is pinned to the primary or the reads are, see
+     * {@link ReadYourWrites#readFromPrimary}
+     */
+    private static class ReplicaDataSource extends DelegatingDataSource {
+
+        private final DataSource primary;
+
+        ReplicaDataSource(DataSource replica, DataSource primary) {
+            super(replica);
+            this.primary = primary;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return ReadYourWrites.readsFromPrimary() ? primary.getConnection() : super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return ReadYourWrites.readsFromPrimary()
+                    ? primary.getConnection(username, password)
+                    : super.getConnection(username, password);
+        }
+    }
+}
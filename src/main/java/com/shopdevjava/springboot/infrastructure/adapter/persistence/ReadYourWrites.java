@@ -0,0 +1,86 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import java.util.function.Supplier;
+
+/**
+ * Read-your-writes state of the client session served by the current thread.
+ * Read-only transactions normally go to the replica, which may lag behind the primary;
+ * once a session has written, its reads stay on the primary until the replica can be
+ * expected to have caught up. Threads without a session (scheduled jobs, async work)
+ * read from the replica, except inside {@link #readFromPrimary}.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Session> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * Binds a session to the current thread until {@link #end()}
+     *
+     * @param pinnedToPrimary whether the session wrote recently enough that it must read from the primary
+     * @param onFirstWrite    invoked once, when the session first writes on this thread
+     */
+    public static void begin(boolean pinnedToPrimary, Runnable onFirstWrite) {
+        CURRENT.set(new Session(pinnedToPrimary, onFirstWrite));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        Session session = CURRENT.get();
+        return session != null && session.pinnedToPrimary;
+    }
+
+    /**
+     * Runs {@code reads} with read-only connections taken from the primary, without
+     * counting as a write of the session. Only connections fetched inside are affected,
+     * so it should wrap the first statement of a read-only transaction.
+     */
+    public static <T> T readFromPrimary(Supplier<T> reads) {
+        if (PRIMARY_READS.get() != null) {
+            return reads.get();
+        }
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            PRIMARY_READS.remove();
+        }
+    }
+
+    /**
+     * Whether a read-only connection fetched now must come from the primary
+     */
+    static boolean readsFromPrimary() {
+        return PRIMARY_READS.get() != null || isPinnedToPrimary();
+    }
+
+    /**
+     * Records that the session is about to write; its later reads go to the primary
+     */
+    public static void recordWrite() {
+        Session session = CURRENT.get();
+        if (session != null && !session.wrote) {
+            session.wrote = true;
+            session.pinnedToPrimary = true;
+            session.onFirstWrite.run();
+        }
+    }
+
+    private static final class Session {
+
+        private final Runnable onFirstWrite;
+        private boolean pinnedToPrimary;
+        private boolean wrote;
+
+        private Session(boolean pinnedToPrimary, Runnable onFirstWrite) {
+            this.pinnedToPrimary = pinnedToPrimary;
+            this.onFirstWrite = onFirstWrite;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.repository.RevokedTokenRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.entity.RevokedTokenEntity;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.repository.JpaRevokedTokenRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter for the revoked token repository backed by the revoked_tokens table
+ */
+@Component
+@Profile("!reactive")
+public class RevokedTokenRepositoryAdapter implements RevokedTokenRepository {
+
+    private final JpaRevokedTokenRepository jpaRevokedTokenRepository;
+
+    @Autowired
+    public RevokedTokenRepositoryAdapter(JpaRevokedTokenRepository jpaRevokedTokenRepository) {
+        this.jpaRevokedTokenRepository = jpaRevokedTokenRepository;
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        jpaRevokedTokenRepository.save(new RevokedTokenEntity(tokenId, expiresAt));
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return jpaRevokedTokenRepository.existsById(tokenId);
+    }
+
+    @Override
+    public Map<String, Instant> findActive(Instant now) {
+        return jpaRevokedTokenRepository.findActive(now).stream()
+                .collect(Collectors.toMap(RevokedTokenEntity::getTokenId, RevokedTokenEntity::getExpiresAt));
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        return jpaRevokedTokenRepository.deleteExpired(now);
+    }
+}
@@ -0,0 +1,123 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements executed by the unit of work bound to the current thread, usually one
+ * HTTP request. {@link StatementCountingDataSource} records into it; threads without a
+ * log (scheduled jobs, startup) are not accounted for and pay nothing. A request that
+ * continues on another thread hands its log over with {@link #bind}; the log is not
+ * thread-safe, so it must be bound to one thread at a time.
+ * Executing a JDBC batch counts as one statement, since it is one round trip. The time
+ * spent waiting for connections from the pool is kept apart from statement time.
+ */
+public final class SqlStatementLog {
+
+    private static final ThreadLocal<SqlStatementLog> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w$])-?\\d+(?:\\.\\d+)?");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int statementCount;
+    private long elapsedNanos;
+    private long connectionWaitNanos;
+
+    private SqlStatementLog() {
+    }
+
+    /**
+     * Binds a new, empty log to the current thread until {@link #end()}
+     */
+    public static SqlStatementLog begin() {
+        SqlStatementLog log = new SqlStatementLog();
+        CURRENT.set(log);
+        return log;
+    }
+
+    /**
+     * Binds an existing log to the current thread until {@link #end()}, so work a
+     * request continues on another thread is recorded with the rest of it
+     */
+    public static void bind(SqlStatementLog log) {
+        CURRENT.set(log);
+    }
+
+    /**
+     * Unbinds the current thread's log and returns it, or null when none was bound
+     */
+    public static SqlStatementLog end() {
+        SqlStatementLog log = CURRENT.get();
+        CURRENT.remove();
+        return log;
+    }
+
+    /**
+     * The current thread's log, or null when none is bound
+     */
+    public static SqlStatementLog current() {
+        return CURRENT.get();
+    }
+
+    void record(String sql, long nanos) {
+        statementCount++;
+        elapsedNanos += nanos;
+        executions.merge(sql, 1, Integer::sum);
+    }
+
+    void recordConnectionWait(long nanos) {
+        connectionWaitNanos += nanos;
+    }
+
+    public int statementCount() {
+        return statementCount;
+    }
+
+    /**
+     * Time spent executing statements, from sending each one until the driver returned
+     */
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Time spent getting connections from the DataSource, mostly waiting for the pool
+     */
+    public long connectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+
+    /**
+     * Statement shapes executed at least {@code threshold} times, most frequent first.
+     * Literals are replaced by {@code ?} and IN lists collapsed, so one query per row of a
+     * loop (N+1) shows up as a single shape however its parameters are bound.
+     */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> shapes = new HashMap<>();
+        executions.forEach((sql, count) -> shapes.merge(shape(sql), count, Integer::sum));
+        List<Map.Entry<String, Integer>> repeated = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : shapes.entrySet()) {
+            if (entry.getValue() >= threshold) {
+                repeated.add(entry);
+            }
+        }
+        repeated.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        Map<String, Integer> result = new LinkedHashMap<>();
+        repeated.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,140 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource that records every statement executed on its connections, with its SQL and
+ * execution time, into the {@link SqlStatementLog} of the thread executing it, along with
+ * the time taken to get each connection. It sits below JPA, JdbcTemplate and Flyway
+ * alike, so nothing escapes it. Connections taken while no log is bound are handed out
+ * unwrapped, so background work runs at full speed.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final String BATCH = "<batch>";
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        SqlStatementLog log = SqlStatementLog.current();
+        if (log == null) {
+            return super.getConnection();
+        }
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        log.recordConnectionWait(System.nanoTime() - start);
+        return counting(connection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        SqlStatementLog log = SqlStatementLog.current();
+        if (log == null) {
+            return super.getConnection(username, password);
+        }
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        log.recordConnectionWait(System.nanoTime() - start);
+        return counting(connection);
+    }
+
+    private static Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Wraps the statements a connection creates; prepared statements keep the SQL they
+     * were prepared with
+     */
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    Object result = invokeTarget(target, method, args);
+                    if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                        return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                                new Class<?>[] {method.getReturnType()}, new StatementHandler(statement, sql));
+                    }
+                    return result;
+            }
+        }
+    }
+
+    /**
+     * Times each execute* call and records it under the statement's SQL
+     */
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    if (!method.getName().startsWith("execute")) {
+                        return invokeTarget(target, method, args);
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        return invokeTarget(target, method, args);
+                    } finally {
+                        SqlStatementLog log = SqlStatementLog.current();
+                        if (log != null) {
+                            log.record(sql(args), System.nanoTime() - start);
+                        }
+                    }
+            }
+        }
+
+        private String sql(Object[] args) {
+            if (preparedSql != null) {
+                return preparedSql;
+            }
+            return args != null && args.length > 0 && args[0] instanceof String sql ? sql : BATCH;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.application.port.out.UserChangeEventSink;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserChangeEvent;
+import com.shopdevjava.springboot.domain.model.UserChangeType;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Answers typeahead queries from an in-memory {@link UserTypeaheadIndex}, so keystrokes
+ * never reach the database. The index is optional: until the first {@link #rebuild()}
+ * completes, suggestions come from the delegate.
+ * <p>
+ * Saves, updates and deletes are applied to the index after the delegate commits them.
+ * Changes made through other instances arrive as user change events from the outbox
+ * relay, one relay interval later. Replaced and removed entries keep their slots until
+ * the next rebuild compacts them.
+ */
+public class TypeaheadUserRepository extends ForwardingUserRepository implements UserChangeEventSink {
+
+    private final UserRepository source;
+    private volatile UserTypeaheadIndex index;
+    private volatile UserTypeaheadIndex building;
+
+    public TypeaheadUserRepository(UserRepository delegate) {
+        this(delegate, delegate);
+    }
+
+    /**
+     * Users changed by relayed events are loaded from {@code source}, which should not
+     * cache: a cache may still hold the version from before the change
+     */
+    public TypeaheadUserRepository(UserRepository delegate, UserRepository source) {
+        super(delegate);
+        this.source = source;
+    }
+
+    /**
+     * Builds a fresh index from the users table and swaps it in. The rows are streamed
+     * from the primary, since a lagging replica would drop recent users until the next
+     * rebuild. Changes made while the build is running go into both indexes; versions and
+     * removals keep the rows streamed from the build's snapshot from overwriting them.
+     */
+    public void rebuild() {
+        UserTypeaheadIndex next = new UserTypeaheadIndex();
+        building = next;
+        try {
+            delegate.streamAll(next::put);
+            next.trimToSize();
+            index = next;
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * Whether the index has been built and is answering suggestions
+     */
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * Number of users in the index, or 0 before it is built
+     */
+    public int indexedCount() {
+        UserTypeaheadIndex current = index;
+        return current == null ? 0 : current.size();
+    }
+
+    @Override
+    public List<UserSuggestion> suggest(String query, int limit) {
+        UserTypeaheadIndex current = index;
+        return current != null ? current.suggest(query, limit) : delegate.suggest(query, limit);
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        apply(target -> target.put(saved));
+        return saved;
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<User> saved = delegate.saveAll(users);
+        apply(target -> saved.forEach(target::put));
+        return saved;
+    }
+
+    @Override
+    public Optional<User> update(Long id, User changes) {
+        Optional<User> updated = delegate.update(id, changes);
+        updated.ifPresent(u -> apply(target -> target.put(u)));
+        return updated;
+    }
+
+    @Override
+    public Optional<User> updateIfVersionMatches(Long id, User changes, long expectedVersion) {
+        Optional<User> updated = delegate.updateIfVersionMatches(id, changes, expectedVersion);
+        updated.ifPresent(u -> apply(target -> target.put(u)));
+        return updated;
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        boolean deleted = delegate.deleteById(id);
+        if (deleted) {
+            apply(target -> target.remove(id));
+        }
+        return deleted;
+    }
+
+    @Override
+    public int deleteAllByIds(Collection<Long> ids) {
+        int deleted = delegate.deleteAllByIds(ids);
+        apply(target -> ids.forEach(target::remove));
+        return deleted;
+    }
+
+    @Override
+    public List<Long> deleteCreatedBefore(LocalDateTime cutoff, int limit) {
+        List<Long> deleted = delegate.deleteCreatedBefore(cutoff, limit);
+        apply(target -> deleted.forEach(target::remove));
+        return deleted;
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+        apply(UserTypeaheadIndex::clear);
+    }
+
+    /**
+     * Applies relayed changes, including those made through other instances. Created and
+     * updated users are loaded from the primary in one query per batch; entries already
+     * at that version, such as this instance's own writes, stay as they are. Nothing is
+     * loaded while the index is disabled.
+     */
+    @Override
+    public void publish(List<UserChangeEvent> events) {
+        if (index == null && building == null) {
+            return;
+        }
+        Set<Long> changedIds = new LinkedHashSet<>();
+        List<Long> deletedIds = new ArrayList<>();
+        for (UserChangeEvent event : events) {
+            if (event.type() == UserChangeType.DELETED) {
+                deletedIds.add(event.userId());
+            } else {
+                changedIds.add(event.userId());
+            }
+        }
+        if (!changedIds.isEmpty()) {
+            List<User> changed = ReadYourWrites.readFromPrimary(() -> source.findAllByIds(changedIds));
+            apply(target -> changed.forEach(target::put));
+        }
+        apply(target -> deletedIds.forEach(target::remove));
+    }
+
+    /**
+     * Applies a change to the index under construction before the current one, for the
+     * same reason as the email filter: if no build was seen, any build that starts
+     * afterwards streams a table that already has the change
+     */
+    private void apply(Consumer<UserTypeaheadIndex> change) {
+        UserTypeaheadIndex next = building;
+        UserTypeaheadIndex current = index;
+        if (next != null) {
+            change.accept(next);
+        }
+        if (current != null) {
+            change.accept(current);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.model.UserField;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Column names backing the selectable user fields, shared by the JDBC and R2DBC adapters
+ */
+final class UserColumns {
+
+    private UserColumns() {
+    }
+
+    /**
+     * Column names come from the enum, never from the request, so they are safe to
+     * concatenate into SQL
+     */
+    static String columnList(Set<UserField> fields) {
+        return fields.stream()
+                .map(UserColumns::columnOf)
+                .collect(Collectors.joining(", "));
+    }
+
+    static String columnOf(UserField field) {
+        return switch (field) {
+            case ID -> "id";
+            case FIRST_NAME -> "first_name";
+            case LAST_NAME -> "last_name";
+            case EMAIL -> "email";
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            case VERSION -> "version";
+        };
+    }
+}
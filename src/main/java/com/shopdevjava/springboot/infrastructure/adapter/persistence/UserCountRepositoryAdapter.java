@@ -0,0 +1,111 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.model.UserCount;
+import com.shopdevjava.springboot.domain.repository.UserCountRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * JDBC adapter for the sharded user count and the users table statistics
+ */
+@Component
+@Profile("!reactive")
+public class UserCountRepositoryAdapter implements UserCountRepository {
+
+    /**
+     * Rows the count is spread over; concurrent writers only wait for each other when
+     * they pick the same shard
+     */
+    static final int SHARDS = 16;
+
+    private static final String ADD_SQL = "INSERT INTO user_counts (shard, user_count) VALUES (?, ?) "
+            + "ON CONFLICT (shard) DO UPDATE SET user_count = user_counts.user_count + EXCLUDED.user_count";
+
+    private static final String RESET_SQL = "DELETE FROM user_counts";
+
+    private static final String COUNT_SQL = "SELECT coalesce(sum(user_count), 0) FROM user_counts";
+
+    /**
+     * One statement reads both counts from one snapshot, so users whose count is still
+     * uncommitted are missing from both sides
+     */
+    private static final String DRIFT_SQL =
+            "SELECT (SELECT count(*) FROM users) - (SELECT coalesce(sum(user_count), 0) FROM user_counts)";
+
+    /**
+     * Held until commit, so reconciliations on several instances cannot apply the same
+     * correction twice
+     */
+    private static final String RECONCILE_LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('user_counts'))";
+
+    /**
+     * reltuples is -1 until the table is first vacuumed or analyzed
+     */
+    private static final String ESTIMATE_SQL =
+            "SELECT c.reltuples::bigint AS estimate, coalesce(s.n_mod_since_analyze, 0) AS changed, "
+            + "GREATEST(s.last_analyze, s.last_autoanalyze, s.last_vacuum, s.last_autovacuum) AS as_of "
+            + "FROM pg_class c LEFT JOIN pg_stat_user_tables s ON s.relid = c.oid "
+            + "WHERE c.oid = to_regclass('users')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public UserCountRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(long delta) {
+        if (delta != 0) {
+            jdbcTemplate.update(ADD_SQL, ThreadLocalRandom.current().nextInt(SHARDS), delta);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reset() {
+        jdbcTemplate.update(RESET_SQL);
+    }
+
+    @Override
+    public long count() {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * The error bound is the number of rows inserted, updated or deleted since the
+     * statistics were gathered, not counting the sampling error of ANALYZE itself
+     */
+    @Override
+    public Optional<UserCount> estimate() {
+        return jdbcTemplate.query(ESTIMATE_SQL, (rs, rowNum) -> {
+            Timestamp asOf = rs.getTimestamp("as_of");
+            return new UserCount(rs.getLong("estimate"), false, rs.getLong("changed"),
+                    asOf == null ? null : asOf.toInstant());
+        }).stream().filter(count -> count.count() >= 0).findFirst();
+    }
+
+    /**
+     * Counts the whole table, so run it rarely; writers are not blocked meanwhile
+     */
+    @Override
+    @Transactional
+    public long reconcile() {
+        jdbcTemplate.queryForList(RECONCILE_LOCK_SQL);
+        Long drift = jdbcTemplate.queryForObject(DRIFT_SQL, Long.class);
+        if (drift != null && drift != 0) {
+            jdbcTemplate.update(ADD_SQL, 0, drift);
+        }
+        return drift == null ? 0 : drift;
+    }
+}
@@ -0,0 +1,104 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.model.UserChangeEvent;
+import com.shopdevjava.springboot.domain.model.UserChangeType;
+import com.shopdevjava.springboot.domain.model.UserOutboxBatch;
+import com.shopdevjava.springboot.domain.model.UserOutboxPosition;
+import com.shopdevjava.springboot.domain.repository.UserOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC adapter for the user outbox table. Reads go to the primary, since they are not
+ * made in read-only transactions.
+ */
+@Component
+@Profile("!reactive")
+public class UserOutboxRepositoryAdapter implements UserOutboxRepository {
+
+    private static final String APPEND_SQL =
+            "INSERT INTO user_outbox (event_type, user_id, occurred_at) VALUES (?, ?, ?)";
+
+    /**
+     * Oldest transaction still running: every transaction before it has finished, so
+     * their rows are all visible and no more can appear
+     */
+    private static final String FINISHED_BEFORE = "pg_snapshot_xmin(pg_current_snapshot())::text::bigint";
+
+    private static final String HEAD_SQL = "SELECT " + FINISHED_BEFORE;
+
+    private static final String READ_AFTER_SQL =
+            "SELECT tx_id, id, event_type, user_id, occurred_at FROM user_outbox "
+            + "WHERE (tx_id, id) > (?, ?) AND tx_id < " + FINISHED_BEFORE + " ORDER BY tx_id, id LIMIT ?";
+
+    /**
+     * Events still behind a running transaction are kept however old, as no reader has
+     * seen them yet
+     */
+    private static final String DELETE_OCCURRED_BEFORE_SQL =
+            "DELETE FROM user_outbox WHERE occurred_at < ? AND tx_id < " + FINISHED_BEFORE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    @Autowired
+    public UserOutboxRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, Clock.systemUTC());
+    }
+
+    UserOutboxRepositoryAdapter(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(UserChangeType type, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Timestamp occurredAt = Timestamp.from(clock.instant());
+        jdbcTemplate.batchUpdate(APPEND_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setString(1, type.name());
+            ps.setLong(2, userId);
+            ps.setTimestamp(3, occurredAt);
+        });
+    }
+
+    @Override
+    public UserOutboxPosition head() {
+        Long finishedBefore = jdbcTemplate.queryForObject(HEAD_SQL, Long.class);
+        return new UserOutboxPosition(finishedBefore - 1, Long.MAX_VALUE);
+    }
+
+    @Override
+    public UserOutboxBatch readAfter(UserOutboxPosition position, int limit) {
+        List<UserOutboxPosition> positions = new ArrayList<>();
+        List<UserChangeEvent> events = jdbcTemplate.query(READ_AFTER_SQL, (rs, rowNum) -> {
+            positions.add(new UserOutboxPosition(rs.getLong("tx_id"), rs.getLong("id")));
+            return new UserChangeEvent(
+                    rs.getLong("id"),
+                    UserChangeType.valueOf(rs.getString("event_type")),
+                    rs.getLong("user_id"),
+                    rs.getObject("occurred_at", OffsetDateTime.class).toInstant());
+        }, position.transactionId(), position.sequence(), limit);
+        return new UserOutboxBatch(events, positions.isEmpty() ? position : positions.get(positions.size() - 1));
+    }
+
+    @Override
+    public int deleteOccurredBefore(Instant cutoff) {
+        return jdbcTemplate.update(DELETE_OCCURRED_BEFORE_SQL, Timestamp.from(cutoff));
+    }
+}
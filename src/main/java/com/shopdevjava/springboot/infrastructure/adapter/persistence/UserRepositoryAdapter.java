@@ -1,58 +1,414 @@
 package com.shopdevjava.springboot.infrastructure.adapter.persistence;
 
+import com.shopdevjava.springboot.application.exception.CapacityExceededException;
+import com.shopdevjava.springboot.domain.exception.UserException;
 import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserChangeType;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.model.UserField;
+import com.shopdevjava.springboot.domain.model.UserProjection;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
+import com.shopdevjava.springboot.domain.repository.UserCountRepository;
+import com.shopdevjava.springboot.domain.repository.UserOutboxRepository;
 import com.shopdevjava.springboot.domain.repository.UserRepository;
 import com.shopdevjava.springboot.infrastructure.adapter.persistence.entity.UserEntity;
 import com.shopdevjava.springboot.infrastructure.adapter.persistence.repository.JpaUserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
- * Adapter for User repository that implements the domain repository interface
+ * Adapter for User repository that implements the domain repository interface.
+ * Every change to users appends its change events to the outbox, and creates and deletes
+ * adjust the user count, in the same transaction.
  */
 @Component
+@Profile("!reactive")
 public class UserRepositoryAdapter implements UserRepository {
 
+    /**
+     * Rows pulled per round trip by the export cursor
+     */
+    static final int STREAM_FETCH_SIZE = 1000;
+
+    /**
+     * Reads select rows straight into the domain model with JDBC: loading entities would
+     * build a managed copy of every row, with its own snapshot, only to copy it again
+     */
+    private static final String SELECT_USERS_SQL =
+            "SELECT id, first_name, last_name, email, password, created_at, updated_at, version FROM users";
+
+    private static final String FIRST_PAGE_SQL = SELECT_USERS_SQL + " ORDER BY created_at, id LIMIT ?";
+
+    private static final String PAGE_AFTER_SQL =
+            SELECT_USERS_SQL + " WHERE (created_at, id) > (?, ?) ORDER BY created_at, id LIMIT ?";
+
+    private static final String STREAM_ALL_SQL =
+            "SELECT id, first_name, last_name, email, created_at, updated_at, version FROM users ORDER BY id";
+
+    private static final String STREAM_EMAILS_SQL = "SELECT email FROM users";
+
+    private static final String DELETE_CREATED_BEFORE_SQL =
+            "DELETE FROM users WHERE id IN "
+            + "(SELECT id FROM users WHERE created_at < ? ORDER BY created_at, id LIMIT ?) RETURNING id";
+
+    /**
+     * Matching rows ranked per search; broad queries rank the first candidates found by
+     * the trigram indexes rather than every match, which keeps them index-bound
+     */
+    static final int SEARCH_CANDIDATES = 1000;
+
+    /**
+     * SQLState PostgreSQL reports when statement_timeout cancels a query
+     */
+    private static final String QUERY_CANCELED_SQL_STATE = "57014";
+
+    /**
+     * Candidates come from the trigram indexes on lower(first_name), lower(last_name) and
+     * lower(email): substring matches via LIKE, fuzzy ones via word similarity ({@code <%}).
+     * Emails are not matched fuzzily: addresses share their domain trigrams, so almost any
+     * email query would be similar enough to a large part of the table.
+     * Parameters: query, prefix pattern, substring pattern, limit, offset.
+     */
+    private static final String SEARCH_SQL =
+            "WITH params AS (SELECT ?::text AS q, ?::text AS prefix, ?::text AS pattern) "
+            + "SELECT id, first_name, last_name, email, created_at, updated_at, version FROM ("
+            + "SELECT u.*, "
+            + "(lower(u.first_name) LIKE p.prefix OR lower(u.last_name) LIKE p.prefix OR lower(u.email) LIKE p.prefix) AS prefix_match, "
+            + "GREATEST(word_similarity(p.q, lower(u.first_name)), word_similarity(p.q, lower(u.last_name)), "
+            + "word_similarity(p.q, lower(u.email))) AS score "
+            + "FROM users u, params p "
+            + "WHERE lower(u.first_name) LIKE p.pattern OR lower(u.last_name) LIKE p.pattern OR lower(u.email) LIKE p.pattern "
+            + "OR p.q <% lower(u.first_name) OR p.q <% lower(u.last_name) "
+            + "LIMIT " + SEARCH_CANDIDATES
+            + ") candidates ORDER BY prefix_match DESC, score DESC, id LIMIT ? OFFSET ?";
+
+    /**
+     * Prefix matches for typeahead, also served by the trigram indexes.
+     * Parameters: prefix pattern (three times), limit.
+     */
+    private static final String SUGGEST_SQL =
+            "SELECT id, first_name, last_name, email FROM users "
+            + "WHERE lower(first_name) LIKE ? OR lower(last_name) LIKE ? OR lower(email) LIKE ? LIMIT ?";
+
+    private static final String DELETE_BY_IDS_SQL = "DELETE FROM users WHERE id = ANY (?) RETURNING id";
+
+    private static final String UPDATE_RETURNING =
+            " RETURNING id, first_name, last_name, email, password, created_at, updated_at, version";
+
+    /**
+     * Fields the keyset position is read from, selected even when not requested
+     */
+    private static final Set<UserField> POSITION_FIELDS = EnumSet.of(UserField.CREATED_AT, UserField.ID);
+
     private final JpaUserRepository jpaUserRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserOutboxRepository userOutboxRepository;
+    private final UserCountRepository userCountRepository;
+    private final long searchTimeoutMillis;
 
     @Autowired
-    public UserRepositoryAdapter(JpaUserRepository jpaUserRepository) {
+    public UserRepositoryAdapter(JpaUserRepository jpaUserRepository, JdbcTemplate jdbcTemplate,
+                                 UserOutboxRepository userOutboxRepository,
+                                 UserCountRepository userCountRepository,
+                                 @Value("${user.search.timeout:500ms}") Duration searchTimeout) {
         this.jpaUserRepository = jpaUserRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.userOutboxRepository = userOutboxRepository;
+        this.userCountRepository = userCountRepository;
+        this.searchTimeoutMillis = searchTimeout.toMillis();
     }
 
     @Override
     public List<User> findAll() {
-        return jpaUserRepository.findAll().stream()
-                .map(this::mapToDomainModel)
-                .collect(Collectors.toList());
+        return jdbcTemplate.query(SELECT_USERS_SQL, (rs, rowNum) -> mapRow(rs));
+    }
+
+    @Override
+    public List<User> findPage(UserCursor after, int limit) {
+        return after == null
+                ? jdbcTemplate.query(FIRST_PAGE_SQL, (rs, rowNum) -> mapRow(rs), limit)
+                : jdbcTemplate.query(PAGE_AFTER_SQL, (rs, rowNum) -> mapRow(rs), after.createdAt(), after.id(), limit);
+    }
+
+    @Override
+    public List<UserProjection> findProjectedPage(UserCursor after, int limit, Set<UserField> fields) {
+        Set<UserField> requested = EnumSet.copyOf(fields);
+        Set<UserField> selected = EnumSet.copyOf(requested);
+        selected.addAll(POSITION_FIELDS);
+        
+        String sql = "SELECT " + UserColumns.columnList(selected) + " FROM users"
+                + (after == null ? "" : " WHERE (created_at, id) > (?, ?)")
+                + " ORDER BY created_at, id LIMIT ?";
+        Object[] args = after == null
+                ? new Object[] {limit}
+                : new Object[] {after.createdAt(), after.id(), limit};
+        
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new UserProjection(
+                new UserCursor(rs.getObject("created_at", LocalDateTime.class), rs.getLong("id")),
+                mapProjection(rs, requested)), args);
+    }
+
+    /**
+     * Reads through a server-side cursor: PostgreSQL only honours the fetch size when
+     * auto-commit is off, which the transaction guarantees. Called on its own, as by the
+     * typeahead rebuild, it reads the primary like {@link #streamAllEmails}; the export
+     * joins the caller's read-only transaction and reads the replica.
+     */
+    @Override
+    @Transactional
+    public void streamAll(Consumer<User> action) {
+        streamRows(STREAM_ALL_SQL, rs -> action.accept(mapRowWithoutPassword(rs)));
+    }
+
+    /**
+     * Streams in a read-write transaction rather than a read-only one, so it reads the
+     * primary: built from a lagging replica, the email filter would miss recent users
+     */
+    @Override
+    @Transactional
+    public void streamAllEmails(Consumer<String> action) {
+        streamRows(STREAM_EMAILS_SQL, rs -> action.accept(rs.getString("email")));
     }
 
     @Override
     public Optional<User> findById(Long id) {
-        return jpaUserRepository.findById(id)
-                .map(this::mapToDomainModel);
+        return jdbcTemplate.query(SELECT_USERS_SQL + " WHERE id = ?", (rs, rowNum) -> mapRow(rs), id)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findProjectedById(Long id, Set<UserField> fields) {
+        Set<UserField> requested = EnumSet.copyOf(fields);
+        String sql = "SELECT " + UserColumns.columnList(requested) + " FROM users WHERE id = ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> mapProjection(rs, requested), id)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return jpaUserRepository.findVersionById(id);
+    }
+
+    @Override
+    public List<User> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Long[] idArray = ids.toArray(Long[]::new);
+        return jdbcTemplate.query(SELECT_USERS_SQL + " WHERE id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", idArray)),
+                (rs, rowNum) -> mapRow(rs));
     }
 
     @Override
     public Optional<User> findByEmail(String email) {
-        return jpaUserRepository.findByEmail(email)
-                .map(this::mapToDomainModel);
+        return jdbcTemplate.query(SELECT_USERS_SQL + " WHERE email = ?", (rs, rowNum) -> mapRow(rs), email)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Runs under a statement timeout, so a search that cannot stay on the indexes fails
+     * fast instead of holding a connection
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> search(String query, int offset, int limit) {
+        String escaped = escapeLike(query);
+        return withSearchTimeout(() -> jdbcTemplate.query(SEARCH_SQL, (rs, rowNum) -> mapRowWithoutPassword(rs),
+                query, escaped + "%", "%" + escaped + "%", limit, offset));
+    }
+
+    /**
+     * Only used while the in-memory typeahead index is disabled or still building
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserSuggestion> suggest(String query, int limit) {
+        String prefix = escapeLike(query) + "%";
+        return withSearchTimeout(() -> jdbcTemplate.query(SUGGEST_SQL, (rs, rowNum) -> new UserSuggestion(
+                rs.getLong("id"), rs.getString("first_name"), rs.getString("last_name"), rs.getString("email")),
+                prefix, prefix, prefix, limit));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Runs a search statement in the current transaction under the search timeout
+     */
+    private <T> T withSearchTimeout(Supplier<T> statement) {
+        jdbcTemplate.execute("SET LOCAL statement_timeout = " + searchTimeoutMillis);
+        try {
+            return statement.get();
+        } catch (DataAccessResourceFailureException e) {
+            if (e.getMostSpecificCause() instanceof SQLException cause
+                    && QUERY_CANCELED_SQL_STATE.equals(cause.getSQLState())) {
+                throw new CapacityExceededException("Search exceeded its time budget; refine the query");
+            }
+            throw e;
+        }
     }
 
     @Override
+    @Transactional
     public User save(User user) {
         UserEntity userEntity = mapToEntity(user);
-        UserEntity savedEntity = jpaUserRepository.save(userEntity);
-        return mapToDomainModel(savedEntity);
+        try {
+            // Flush so a unique-email violation surfaces here rather than at some later commit
+            UserEntity savedEntity = jpaUserRepository.saveAndFlush(userEntity);
+            userOutboxRepository.append(user.getId() == null ? UserChangeType.CREATED : UserChangeType.UPDATED,
+                    List.of(savedEntity.getId()));
+            if (user.getId() == null) {
+                userCountRepository.add(1);
+            }
+            return mapToDomainModel(savedEntity);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent insert claimed the email after the duplicate check
+            throw new UserException("Email already in use", 
+                    UserException.UserExceptionType.DUPLICATE_EMAIL);
+        }
+    }
+
+    /**
+     * Relies on the sequence-based id generator so Hibernate can group the inserts
+     * into JDBC batches of hibernate.jdbc.batch_size
+     */
+    @Override
+    @Transactional
+    public List<User> saveAll(List<User> users) {
+        List<UserEntity> entities = users.stream()
+                .map(this::mapToEntity)
+                .collect(Collectors.toList());
+        try {
+            List<User> saved = jpaUserRepository.saveAll(entities).stream()
+                    .map(UserRepositoryAdapter::mapToDomainModel)
+                    .collect(Collectors.toList());
+            // Flush so the inserts are batched ahead of the outbox rows and constraint violations surface here
+            jpaUserRepository.flush();
+            userOutboxRepository.append(UserChangeType.CREATED, saved.stream().map(User::getId).toList());
+            userCountRepository.add(saved.size());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent insert claimed one of the emails after the duplicate check
+            throw new UserException("Email already in use", 
+                    UserException.UserExceptionType.DUPLICATE_EMAIL);
+        }
     }
 
     @Override
-    public void deleteById(Long id) {
-        jpaUserRepository.deleteById(id);
+    @Transactional
+    public Optional<User> update(Long id, User changes) {
+        return updateColumns(id, changes, null);
+    }
+
+    @Override
+    @Transactional
+    public Optional<User> updateIfVersionMatches(Long id, User changes, long expectedVersion) {
+        return updateColumns(id, changes, expectedVersion);
+    }
+
+    /**
+     * Single UPDATE ... RETURNING that sets only the non-null fields; a taken email
+     * surfaces as a unique constraint violation instead of a separate lookup
+     */
+    private Optional<User> updateColumns(Long id, User changes, Long expectedVersion) {
+        StringBuilder sql = new StringBuilder("UPDATE users SET ");
+        List<Object> args = new ArrayList<>();
+        appendAssignment(sql, args, "first_name", changes.getFirstName());
+        appendAssignment(sql, args, "last_name", changes.getLastName());
+        appendAssignment(sql, args, "email", changes.getEmail());
+        appendAssignment(sql, args, "password", changes.getPassword());
+        sql.append("updated_at = ?, version = version + 1 WHERE id = ?");
+        args.add(LocalDateTime.now());
+        args.add(id);
+        if (expectedVersion != null) {
+            sql.append(" AND version = ?");
+            args.add(expectedVersion);
+        }
+        sql.append(UPDATE_RETURNING);
+        
+        try {
+            Optional<User> updated = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> mapRow(rs), args.toArray())
+                    .stream()
+                    .findFirst();
+            updated.ifPresent(user -> userOutboxRepository.append(UserChangeType.UPDATED, List.of(user.getId())));
+            return updated;
+        } catch (DataIntegrityViolationException e) {
+            throw new UserException("Email already in use", 
+                    UserException.UserExceptionType.DUPLICATE_EMAIL);
+        }
+    }
+
+    private static void appendAssignment(StringBuilder sql, List<Object> args, String column, Object value) {
+        if (value != null) {
+            sql.append(column).append(" = ?, ");
+            args.add(value);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteById(Long id) {
+        if (jpaUserRepository.deleteUserById(id) == 0) {
+            return false;
+        }
+        userOutboxRepository.append(UserChangeType.DELETED, List.of(id));
+        userCountRepository.add(-1);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // RETURNING so only users that existed get a deletion event
+        Long[] idArray = ids.toArray(Long[]::new);
+        List<Long> deleted = jdbcTemplate.query(DELETE_BY_IDS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", idArray)),
+                (rs, rowNum) -> rs.getLong("id"));
+        userOutboxRepository.append(UserChangeType.DELETED, deleted);
+        userCountRepository.add(-deleted.size());
+        return deleted.size();
+    }
+
+    @Override
+    @Transactional
+    public List<Long> deleteCreatedBefore(LocalDateTime cutoff, int limit) {
+        List<Long> deleted = jdbcTemplate.queryForList(DELETE_CREATED_BEFORE_SQL, Long.class, cutoff, limit);
+        userOutboxRepository.append(UserChangeType.DELETED, deleted);
+        userCountRepository.add(-deleted.size());
+        return deleted;
     }
 
     @Override
@@ -66,8 +422,21 @@ public class UserRepositoryAdapter implements UserRepository {
     }
 
     @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaUserRepository.findEmailsIn(emails));
+    }
+
+    /**
+     * Maintenance operation; publishes no change events, but resets the user count
+     */
+    @Override
+    @Transactional
     public void deleteAll() {
-        jpaUserRepository.deleteAll();
+        jpaUserRepository.deleteAllInBatch();
+        userCountRepository.reset();
     }
     
     @Override
@@ -78,16 +447,59 @@ public class UserRepositoryAdapter implements UserRepository {
     /**
      * Maps a JPA entity to a domain model
      */
-    private User mapToDomainModel(UserEntity userEntity) {
-        User user = new User();
-        user.setId(userEntity.getId());
-        user.setFirstName(userEntity.getFirstName());
-        user.setLastName(userEntity.getLastName());
-        user.setEmail(userEntity.getEmail());
-        user.setPassword(userEntity.getPassword());
-        user.setCreatedAt(userEntity.getCreatedAt());
-        user.setUpdatedAt(userEntity.getUpdatedAt());
-        return user;
+    private static User mapToDomainModel(UserEntity userEntity) {
+        return new User(userEntity.getId(), userEntity.getFirstName(), userEntity.getLastName(),
+                userEntity.getEmail(), userEntity.getPassword(), userEntity.getCreatedAt(),
+                userEntity.getUpdatedAt(), userEntity.getVersion());
+    }
+
+    /**
+     * Maps a full JDBC row to a domain model
+     */
+    private static User mapRow(ResultSet rs) throws SQLException {
+        return new User(rs.getLong("id"), rs.getString("first_name"), rs.getString("last_name"),
+                rs.getString("email"), rs.getString("password"),
+                rs.getObject("created_at", LocalDateTime.class), rs.getObject("updated_at", LocalDateTime.class),
+                rs.getLong("version"));
+    }
+
+    /**
+     * Maps a JDBC row without the password column to a domain model
+     */
+    private static User mapRowWithoutPassword(ResultSet rs) throws SQLException {
+        return new User(rs.getLong("id"), rs.getString("first_name"), rs.getString("last_name"),
+                rs.getString("email"), null,
+                rs.getObject("created_at", LocalDateTime.class), rs.getObject("updated_at", LocalDateTime.class),
+                rs.getLong("version"));
+    }
+
+    private void streamRows(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, handler);
+    }
+
+    /**
+     * Maps the selected columns of a JDBC row to field values, in field declaration order
+     */
+    private Map<String, Object> mapProjection(ResultSet rs, Set<UserField> fields) throws SQLException {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (UserField field : fields) {
+            values.put(field.fieldName(), readColumn(rs, field));
+        }
+        return values;
+    }
+
+    private static Object readColumn(ResultSet rs, UserField field) throws SQLException {
+        String column = UserColumns.columnOf(field);
+        return switch (field) {
+            case ID, VERSION -> rs.getLong(column);
+            case CREATED_AT, UPDATED_AT -> rs.getObject(column, LocalDateTime.class);
+            case FIRST_NAME, LAST_NAME, EMAIL -> rs.getString(column);
+        };
     }
 
     /**
@@ -109,6 +521,8 @@ public class UserRepositoryAdapter implements UserRepository {
             userEntity.setUpdatedAt(user.getUpdatedAt());
         }
         
+        userEntity.setVersion(user.getVersion());
+        
         return userEntity;
     }
 } 
\ No newline at end of file
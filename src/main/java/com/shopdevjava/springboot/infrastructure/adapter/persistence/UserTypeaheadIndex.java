@@ -0,0 +1,456 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index answering typeahead queries over user names and emails.
+ * <p>
+ * Text is split into words and folded to lower case without accents, so "Nguyễn" is
+ * found by "nguyen". Every prefix of a name or email-local-part word, up to
+ * {@link #MAX_PREFIX_LENGTH} characters, is a term whose posting list holds int slots in
+ * ascending order. Slots are handed out in insertion order, so appending keeps the lists
+ * sorted; changing or removing a user only retires its slot, and retired slots stay in
+ * the lists until the owner builds a fresh index. Longer query words and words after an
+ * {@code @} are checked against the folded words kept with each user.
+ * <p>
+ * Each user costs one byte array holding its display fields and folded words, decoded
+ * only for returned matches. Queries share a read lock; changes take the write lock.
+ */
+public final class UserTypeaheadIndex {
+
+    /**
+     * Longest indexed prefix; longer prefixes are mostly unique to one user and would
+     * cost a dictionary entry each
+     */
+    static final int MAX_PREFIX_LENGTH = 6;
+
+    /**
+     * Matches collected, newest first, before ranking picks the top ones
+     */
+    static final int CANDIDATE_LIMIT = 1000;
+
+    private static final int ABSENT = -1;
+    private static final int REMOVED = -2;
+    private static final byte FIELD_SEPARATOR = 0;
+    private static final byte WORD_SEPARATOR = ' ';
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final LongIntMap slotsByUserId = new LongIntMap();
+    private final BitSet retired = new BitSet();
+    private long[] userIds = new long[1024];
+    private long[] versions = new long[1024];
+    private byte[][] entries = new byte[1024][];
+    private int slotCount;
+    private int size;
+
+    /**
+     * Adds a user or replaces its previous entry. An entry older than the indexed one, by
+     * version, is ignored, as is any user removed from this index before.
+     */
+    public void put(User user) {
+        long userId = user.getId();
+        Long version = user.getVersion();
+        String email = nullToEmpty(user.getEmail());
+        int at = email.lastIndexOf('@');
+        List<String> indexed = words(user.getFirstName(), user.getLastName(), at < 0 ? email : email.substring(0, at));
+        List<String> all = new ArrayList<>(indexed);
+        if (at >= 0) {
+            all.addAll(words(email.substring(at + 1)));
+        }
+        byte[] entry = entry(user, all);
+
+        lock.writeLock().lock();
+        try {
+            int existing = slotsByUserId.get(userId);
+            if (existing == REMOVED) {
+                return;
+            }
+            if (existing >= 0) {
+                if (version != null && versions[existing] >= 0 && version <= versions[existing]) {
+                    return;
+                }
+                retired.set(existing);
+                size--;
+            }
+            int slot = allocate(userId, version == null ? -1 : version, entry);
+            for (String word : indexed) {
+                for (int length = 1; length <= Math.min(word.length(), MAX_PREFIX_LENGTH); length++) {
+                    postings.computeIfAbsent(word.substring(0, length), term -> new PostingList()).add(slot);
+                }
+            }
+            slotsByUserId.put(userId, slot);
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a user for good: a later {@link #put} of the same id is ignored, so an
+     * entry read before the delete cannot bring the user back
+     */
+    public void remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            int existing = slotsByUserId.get(userId);
+            if (existing >= 0) {
+                retired.set(existing);
+                size--;
+            }
+            slotsByUserId.put(userId, REMOVED);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            slotsByUserId.clear();
+            retired.clear();
+            userIds = new long[1024];
+            versions = new long[1024];
+            entries = new byte[1024][];
+            slotCount = 0;
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Releases the spare capacity left by growing the slot arrays and posting lists,
+     * worth doing once after a bulk load
+     */
+    public void trimToSize() {
+        lock.writeLock().lock();
+        try {
+            userIds = Arrays.copyOf(userIds, slotCount);
+            versions = Arrays.copyOf(versions, slotCount);
+            entries = Arrays.copyOf(entries, slotCount);
+            postings.values().forEach(PostingList::trimToSize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of users currently indexed
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} users having, for every word of {@code query}, a word
+     * that starts with it. Users where the last word before any {@code @} is a whole word
+     * come first, then newest first; only the newest {@link #CANDIDATE_LIMIT} matches are ranked.
+     */
+    public List<UserSuggestion> suggest(String query, int limit) {
+        int at = query.indexOf('@');
+        List<String> indexed = words(at < 0 ? query : query.substring(0, at));
+        List<String> all = new ArrayList<>(indexed);
+        if (at >= 0) {
+            all.addAll(words(query.substring(at + 1)));
+        }
+        if (indexed.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        boolean verify = all.size() > indexed.size()
+                || indexed.stream().anyMatch(word -> word.length() > MAX_PREFIX_LENGTH);
+        byte[][] queryWords = all.stream().map(word -> word.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[indexed.size()];
+            for (int i = 0; i < lists.length; i++) {
+                String word = indexed.get(i);
+                lists[i] = postings.get(word.length() > MAX_PREFIX_LENGTH ? word.substring(0, MAX_PREFIX_LENGTH) : word);
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+            int[] candidates = intersectNewestFirst(lists, queryWords, verify);
+            return rank(candidates, queryWords[indexed.size() - 1], limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Walks the shortest list from its newest slot, searching the others within the range
+     * still ahead of the walk, until enough live matches are found
+     */
+    private int[] intersectNewestFirst(PostingList[] lists, byte[][] queryWords, boolean verify) {
+        int[] candidates = new int[Math.min(CANDIDATE_LIMIT, lists[0].size)];
+        int found = 0;
+        int[] upperBounds = new int[lists.length];
+        for (int j = 1; j < lists.length; j++) {
+            upperBounds[j] = lists[j].size;
+        }
+        PostingList shortest = lists[0];
+        next:
+        for (int i = shortest.size - 1; i >= 0 && found < candidates.length; i--) {
+            int slot = shortest.slots[i];
+            if (retired.get(slot)) {
+                continue;
+            }
+            for (int j = 1; j < lists.length; j++) {
+                int position = gallopBackwards(lists[j].slots, upperBounds[j], slot);
+                if (position < 0) {
+                    upperBounds[j] = -position - 1;
+                    continue next;
+                }
+                upperBounds[j] = position;
+            }
+            if (verify && !matchesAll(entries[slot], queryWords)) {
+                continue;
+            }
+            candidates[found++] = slot;
+        }
+        return Arrays.copyOf(candidates, found);
+    }
+
+    /**
+     * Binary search of {@code slots[0, end)} that first steps back from {@code end} in
+     * doubling strides: the walk descends, so the slot sought is usually just below the
+     * previous position, and nearby probes stay in cache
+     */
+    private static int gallopBackwards(int[] slots, int end, int slot) {
+        int high = end;
+        int stride = 1;
+        while (high - stride > 0 && slots[high - stride] > slot) {
+            high -= stride;
+            stride <<= 1;
+        }
+        return Arrays.binarySearch(slots, Math.max(0, high - stride), high, slot);
+    }
+
+    private List<UserSuggestion> rank(int[] candidates, byte[] lastWord, int limit) {
+        List<UserSuggestion> result = new ArrayList<>(Math.min(limit, candidates.length));
+        boolean[] taken = new boolean[candidates.length];
+        for (int i = 0; i < candidates.length && result.size() < limit; i++) {
+            if (findWord(entries[candidates[i]], lastWord, true)) {
+                result.add(suggestion(candidates[i]));
+                taken[i] = true;
+            }
+        }
+        for (int i = 0; i < candidates.length && result.size() < limit; i++) {
+            if (!taken[i]) {
+                result.add(suggestion(candidates[i]));
+            }
+        }
+        return result;
+    }
+
+    private UserSuggestion suggestion(int slot) {
+        byte[] entry = entries[slot];
+        int firstEnd = indexOf(entry, FIELD_SEPARATOR, 0);
+        int lastEnd = indexOf(entry, FIELD_SEPARATOR, firstEnd + 1);
+        int emailEnd = indexOf(entry, FIELD_SEPARATOR, lastEnd + 1);
+        return new UserSuggestion(userIds[slot],
+                new String(entry, 0, firstEnd, StandardCharsets.UTF_8),
+                new String(entry, firstEnd + 1, lastEnd - firstEnd - 1, StandardCharsets.UTF_8),
+                new String(entry, lastEnd + 1, emailEnd - lastEnd - 1, StandardCharsets.UTF_8));
+    }
+
+    private static boolean matchesAll(byte[] entry, byte[][] queryWords) {
+        for (byte[] word : queryWords) {
+            if (!findWord(entry, word, false)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Looks for a folded word of the entry starting with, or if {@code whole} equal to,
+     * the given word
+     */
+    private static boolean findWord(byte[] entry, byte[] word, boolean whole) {
+        int start = foldedWordsStart(entry);
+        while (start < entry.length) {
+            int end = indexOf(entry, WORD_SEPARATOR, start);
+            int length = end - start;
+            if (length >= word.length && (!whole || length == word.length)
+                    && Arrays.equals(entry, start, start + word.length, word, 0, word.length)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static int foldedWordsStart(byte[] entry) {
+        int separators = 0;
+        int i = 0;
+        while (separators < 3) {
+            if (entry[i++] == FIELD_SEPARATOR) {
+                separators++;
+            }
+        }
+        return i;
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return bytes.length;
+    }
+
+    /**
+     * Display fields, then the folded words: first NUL last NUL email NUL word SP word ...
+     */
+    private static byte[] entry(User user, List<String> foldedWords) {
+        String text = nullToEmpty(user.getFirstName()) + '\0' + nullToEmpty(user.getLastName()) + '\0'
+                + nullToEmpty(user.getEmail()) + '\0' + String.join(" ", foldedWords);
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private int allocate(long userId, long version, byte[] entry) {
+        if (slotCount == userIds.length) {
+            int capacity = slotCount + (slotCount >> 1) + 16;
+            userIds = Arrays.copyOf(userIds, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            entries = Arrays.copyOf(entries, capacity);
+        }
+        userIds[slotCount] = userId;
+        versions[slotCount] = version;
+        entries[slotCount] = entry;
+        return slotCount++;
+    }
+
+    /**
+     * Splits text into lower-case, accent-free words of letters and digits
+     */
+    static List<String> words(String... texts) {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (String text : texts) {
+            String decomposed = Normalizer.normalize(nullToEmpty(text), Normalizer.Form.NFD);
+            for (int i = 0; i <= decomposed.length(); i++) {
+                char c = i < decomposed.length() ? decomposed.charAt(i) : ' ';
+                if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                    continue;
+                }
+                if (Character.isLetterOrDigit(c)) {
+                    // đ has no decomposition, but Vietnamese users expect d to find it
+                    word.append(c == 'đ' || c == 'Đ' ? 'd' : Character.toLowerCase(c));
+                } else if (!word.isEmpty()) {
+                    words.add(word.toString());
+                    word.setLength(0);
+                }
+            }
+        }
+        return words;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    /**
+     * Growable int array; adding the slot it ends with again is a no-op, so a user with
+     * the same prefix in several words is listed once
+     */
+    private static final class PostingList {
+        private int[] slots = new int[1];
+        private int size;
+
+        void add(int slot) {
+            if (size > 0 && slots[size - 1] == slot) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size + (size >> 1) + 1);
+            }
+            slots[size++] = slot;
+        }
+
+        void trimToSize() {
+            slots = Arrays.copyOf(slots, size);
+        }
+    }
+
+    /**
+     * Open-addressing map from positive user ids to slots, without boxing
+     */
+    private static final class LongIntMap {
+        private long[] keys = new long[1024];
+        private int[] values = new int[1024];
+        private int count;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return ABSENT;
+        }
+
+        void put(long key, int value) {
+            if ((count + 1) * 2 > keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (keys[i] != 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == 0) {
+                keys[i] = key;
+                count++;
+            }
+            values[i] = value;
+        }
+
+        void clear() {
+            keys = new long[1024];
+            values = new int[1024];
+            count = 0;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            count = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * JPA Entity for one shard of the maintained user count.
+ * Rows are written and read through JDBC; the mapping describes the table.
+ */
+@Entity
+@Table(name = "user_counts")
+public class UserCountEntity {
+    
+    @Id
+    private Short shard;
+    
+    @Column(name = "user_count", nullable = false)
+    private Long userCount;
+    
+    // Getters and Setters
+    
+    public Short getShard() {
+        return shard;
+    }
+    
+    public void setShard(Short shard) {
+        this.shard = shard;
+    }
+    
+    public Long getUserCount() {
+        return userCount;
+    }
+    
+    public void setUserCount(Long userCount) {
+        this.userCount = userCount;
+    }
+}
@@ -0,0 +1,78 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * JPA Entity for a user change event, kept for every instance to relay.
+ * Rows are written and read through JDBC; the mapping describes the table.
+ */
+@Entity
+@Table(name = "user_outbox", indexes = {
+    @Index(name = "idx_user_outbox_tx_id_id", columnList = "tx_id, id"),
+    @Index(name = "idx_user_outbox_occurred_at", columnList = "occurred_at")
+})
+public class UserOutboxEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "event_type", nullable = false, length = 16)
+    private String eventType;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+    
+    /**
+     * Id of the transaction that wrote the row, filled in by the database
+     */
+    @Column(name = "tx_id", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT DEFAULT (pg_current_xact_id()::text::bigint)")
+    private Long txId;
+    
+    // Getters and Setters
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getEventType() {
+        return eventType;
+    }
+    
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+    
+    public Long getTxId() {
+        return txId;
+    }
+    
+    public void setTxId(Long txId) {
+        this.txId = txId;
+    }
+}
@@ -0,0 +1,24 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence.repository;
+
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface JpaRevokedTokenRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+    @Query("SELECT r FROM RevokedTokenEntity r WHERE r.expiresAt > :now")
+    List<RevokedTokenEntity> findActive(@Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedTokenEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
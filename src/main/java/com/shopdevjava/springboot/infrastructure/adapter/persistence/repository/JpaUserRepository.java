@@ -2,12 +2,28 @@ package com.shopdevjava.springboot.infrastructure.adapter.persistence.repository
 
 import com.shopdevjava.springboot.infrastructure.adapter.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface JpaUserRepository extends JpaRepository<UserEntity, Long> {
-    Optional<UserEntity> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.version FROM UserEntity u WHERE u.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT u.email FROM UserEntity u WHERE u.email IN :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UserEntity u WHERE u.id = :id")
+    int deleteUserById(@Param("id") Long id);
 } 
\ No newline at end of file
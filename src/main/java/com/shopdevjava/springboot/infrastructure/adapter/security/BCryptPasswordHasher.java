@@ -0,0 +1,27 @@
+package com.shopdevjava.springboot.infrastructure.adapter.security;
+
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt implementation of the PasswordHasher port. Hashing runs on the calling thread
+ * and costs 2^strength rounds, so callers should go through {@link BoundedPasswordHasher}.
+ */
+public class BCryptPasswordHasher implements PasswordHasher {
+
+    private final BCryptPasswordEncoder encoder;
+
+    public BCryptPasswordHasher(int strength) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        return encoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String hash) {
+        return encoder.matches(rawPassword, hash);
+    }
+}
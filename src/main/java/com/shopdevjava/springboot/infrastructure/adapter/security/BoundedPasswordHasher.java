@@ -0,0 +1,124 @@
+package com.shopdevjava.springboot.infrastructure.adapter.security;
+
+import com.shopdevjava.springboot.application.exception.CapacityExceededException;
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PasswordHasher that runs the hashing of its delegate on a dedicated fixed-size pool.
+ * <p>
+ * At most {@code threads} hashes burn CPU at once, whatever the number of request threads,
+ * so a signup burst cannot starve other traffic. Once {@code queueCapacity} hashes are
+ * waiting, further calls fail fast with {@link CapacityExceededException} instead of queueing.
+ * <p>
+ * {@link #hashAll} keeps at most one hash per pool thread in flight, so a batch of any size
+ * uses every core while holding no more queue slots than there are threads, and other
+ * callers wait at most one round of hashes behind it.
+ */
+public class BoundedPasswordHasher implements PasswordHasher {
+
+    private final PasswordHasher delegate;
+    private final ThreadPoolExecutor executor;
+
+    public BoundedPasswordHasher(PasswordHasher delegate, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HasherThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        return call(() -> delegate.hash(rawPassword));
+    }
+
+    @Override
+    public List<String> hashAll(List<String> rawPasswords) {
+        int window = executor.getMaximumPoolSize();
+        List<Future<String>> submitted = new ArrayList<>(rawPasswords.size());
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                if (submitted.size() - hashes.size() == window) {
+                    hashes.add(await(submitted.get(hashes.size())));
+                }
+                submitted.add(submit(() -> delegate.hash(rawPassword)));
+            }
+            while (hashes.size() < submitted.size()) {
+                hashes.add(await(submitted.get(hashes.size())));
+            }
+            return hashes;
+        } catch (RuntimeException e) {
+            submitted.forEach(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String hash) {
+        return call(() -> delegate.matches(rawPassword, hash));
+    }
+
+    /**
+     * Number of hashes waiting for a pool thread
+     */
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stops accepting work and lets queued hashes finish
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T call(Callable<T> task) {
+        return await(submit(task));
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new CapacityExceededException("Password hashing is saturated, try again later");
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static final class HasherThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hasher-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
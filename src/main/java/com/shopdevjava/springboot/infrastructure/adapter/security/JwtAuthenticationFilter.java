@@ -0,0 +1,85 @@
+package com.shopdevjava.springboot.infrastructure.adapter.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.domain.model.TokenClaims;
+import com.shopdevjava.springboot.domain.repository.RevokedTokenRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Authenticates requests by their Bearer token. The signature and expiry are checked by
+ * {@link JwtCodec} and revocations by an in-memory {@link RevokedTokenRepository}, so no
+ * database round trip is made. Verified claims are exposed as the
+ * {@link #CLAIMS_ATTRIBUTE} request attribute.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String CLAIMS_ATTRIBUTE = "com.shopdevjava.springboot.security.TokenClaims";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String SIGNUP_PATH = "/v1/api/users";
+
+    private final JwtCodec jwtCodec;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final ObjectMapper objectMapper;
+
+    public JwtAuthenticationFilter(JwtCodec jwtCodec, RevokedTokenRepository revokedTokenRepository,
+                                   ObjectMapper objectMapper) {
+        this.jwtCodec = jwtCodec;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Signing up, and checking whether an email is free beforehand, must be possible
+     * without an account. HEAD without an email is the list endpoint and stays protected.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!SIGNUP_PATH.equals(request.getRequestURI())) {
+            return false;
+        }
+        return HttpMethod.POST.matches(request.getMethod())
+                || (HttpMethod.HEAD.matches(request.getMethod()) && request.getParameter("email") != null);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            reject(response, "Missing bearer token");
+            return;
+        }
+        
+        Optional<TokenClaims> claims = jwtCodec.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+        if (claims.isEmpty()) {
+            reject(response, "Invalid or expired token");
+            return;
+        }
+        if (revokedTokenRepository.isRevoked(claims.get().tokenId())) {
+            reject(response, "Token has been revoked");
+            return;
+        }
+        
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims.get());
+        chain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+}
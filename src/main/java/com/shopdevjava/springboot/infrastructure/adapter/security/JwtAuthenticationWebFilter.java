@@ -0,0 +1,97 @@
+package com.shopdevjava.springboot.infrastructure.adapter.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.domain.model.TokenClaims;
+import com.shopdevjava.springboot.domain.repository.RevokedTokenRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.ApiResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * {@link JwtAuthenticationFilter} for the reactive stack: authenticates the user
+ * endpoints by their Bearer token, with the same signup exemptions. Verifying the
+ * signature and checking the in-memory revocations are CPU-only, so this runs on the
+ * event loop. Verified claims are exposed as the
+ * {@link JwtAuthenticationFilter#CLAIMS_ATTRIBUTE} exchange attribute.
+ */
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String SIGNUP_PATH = "/v1/api/users";
+    private static final PathPattern PROTECTED_PATHS = PathPatternParser.defaultInstance.parse("/v1/api/users/**");
+
+    private final JwtCodec jwtCodec;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final ObjectMapper objectMapper;
+
+    public JwtAuthenticationWebFilter(JwtCodec jwtCodec, RevokedTokenRepository revokedTokenRepository,
+                                      ObjectMapper objectMapper) {
+        this.jwtCodec = jwtCodec;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!PROTECTED_PATHS.matches(request.getPath().pathWithinApplication()) || isSignup(request)) {
+            return chain.filter(exchange);
+        }
+
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return reject(exchange.getResponse(), "Missing bearer token");
+        }
+
+        Optional<TokenClaims> claims = jwtCodec.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+        if (claims.isEmpty()) {
+            return reject(exchange.getResponse(), "Invalid or expired token");
+        }
+        if (revokedTokenRepository.isRevoked(claims.get().tokenId())) {
+            return reject(exchange.getResponse(), "Token has been revoked");
+        }
+
+        exchange.getAttributes().put(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE, claims.get());
+        return chain.filter(exchange);
+    }
+
+    /**
+     * Signing up, and checking whether an email is free beforehand, must be possible
+     * without an account. HEAD without an email is the list endpoint and stays protected.
+     */
+    private static boolean isSignup(ServerHttpRequest request) {
+        if (!SIGNUP_PATH.equals(request.getPath().pathWithinApplication().value())) {
+            return false;
+        }
+        return HttpMethod.POST.equals(request.getMethod())
+                || (HttpMethod.HEAD.equals(request.getMethod()) && request.getQueryParams().containsKey("email"));
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response, String message) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ApiResponse.error(message));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+}
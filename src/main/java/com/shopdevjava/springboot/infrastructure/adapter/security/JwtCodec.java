@@ -0,0 +1,156 @@
+package com.shopdevjava.springboot.infrastructure.adapter.security;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.shopdevjava.springboot.application.port.out.TokenIssuer;
+import com.shopdevjava.springboot.domain.model.AccessToken;
+import com.shopdevjava.springboot.domain.model.TokenClaims;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues and verifies HS256 JSON Web Tokens.
+ * <p>
+ * Only tokens with the fixed header this codec writes are accepted, so the header is
+ * checked by comparison instead of being decoded. The key is decoded once; each thread
+ * gets its own {@link Mac} cloned from an initialized prototype, and the payload is read
+ * with a streaming parser without building a tree.
+ */
+public class JwtCodec implements TokenIssuer {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = ENCODER.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.US_ASCII));
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final int MIN_KEY_BYTES = 32;
+
+    private final Mac prototype;
+    private final ThreadLocal<Mac> macs;
+    private final Duration expiration;
+    private final Clock clock;
+
+    /**
+     * @param hexSecret HMAC key as hex, at least 256 bits
+     */
+    public JwtCodec(String hexSecret, Duration expiration) {
+        this(hexSecret, expiration, Clock.systemUTC());
+    }
+
+    JwtCodec(String hexSecret, Duration expiration, Clock clock) {
+        byte[] key = HexFormat.of().parseHex(hexSecret);
+        if (key.length < MIN_KEY_BYTES) {
+            throw new IllegalArgumentException("JWT secret must be at least " + MIN_KEY_BYTES * 8 + " bits");
+        }
+        try {
+            this.prototype = Mac.getInstance("HmacSHA256");
+            this.prototype.init(new SecretKeySpec(key, "HmacSHA256"));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.expiration = expiration;
+        this.clock = clock;
+    }
+
+    @Override
+    public AccessToken issue(long userId) {
+        Instant issuedAt = clock.instant();
+        TokenClaims claims = new TokenClaims(userId, UUID.randomUUID().toString(),
+                issuedAt, issuedAt.plus(expiration));
+        
+        // Values are digits and a UUID, so no JSON escaping is needed
+        String payload = "{\"sub\":\"" + userId + "\",\"jti\":\"" + claims.tokenId()
+                + "\",\"iat\":" + issuedAt.getEpochSecond() + ",\"exp\":" + claims.expiresAt().getEpochSecond() + "}";
+        String signingInput = HEADER + "." + ENCODER.encodeToString(payload.getBytes(StandardCharsets.US_ASCII));
+        String signature = ENCODER.encodeToString(sign(signingInput.getBytes(StandardCharsets.US_ASCII)));
+        return new AccessToken(signingInput + "." + signature, claims);
+    }
+
+    /**
+     * Returns the claims of a token with a valid signature that has not expired, or empty
+     */
+    public Optional<TokenClaims> verify(String token) {
+        int headerEnd = HEADER.length();
+        if (token.length() <= headerEnd || !token.startsWith(HEADER) || token.charAt(headerEnd) != '.') {
+            return Optional.empty();
+        }
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return Optional.empty();
+        }
+        
+        try {
+            byte[] signature = DECODER.decode(token.substring(payloadEnd + 1));
+            byte[] expected = sign(token.substring(0, payloadEnd).getBytes(StandardCharsets.US_ASCII));
+            if (!MessageDigest.isEqual(expected, signature)) {
+                return Optional.empty();
+            }
+            TokenClaims claims = parsePayload(DECODER.decode(token.substring(headerEnd + 1, payloadEnd)));
+            if (claims == null || !claims.expiresAt().isAfter(clock.instant())) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (IllegalArgumentException | IOException e) {
+            // Malformed Base64 or JSON
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(byte[] signingInput) {
+        // doFinal resets the Mac for the next use on this thread
+        return macs.get().doFinal(signingInput);
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HmacSHA256 provider does not support cloning", e);
+        }
+    }
+
+    private static TokenClaims parsePayload(byte[] payload) throws IOException {
+        Long userId = null;
+        String tokenId = null;
+        long issuedAt = -1;
+        long expiresAt = -1;
+        
+        try (JsonParser parser = JSON.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "sub" -> userId = value == JsonToken.VALUE_STRING ? Long.valueOf(parser.getText()) : null;
+                    case "jti" -> tokenId = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    case "iat" -> issuedAt = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : -1;
+                    case "exp" -> expiresAt = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : -1;
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        
+        if (userId == null || tokenId == null || issuedAt < 0 || expiresAt < 0) {
+            return null;
+        }
+        return new TokenClaims(userId, tokenId, Instant.ofEpochSecond(issuedAt), Instant.ofEpochSecond(expiresAt));
+    }
+}
@@ -0,0 +1,69 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.application.port.in.AuthUseCase;
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.domain.model.AccessToken;
+import com.shopdevjava.springboot.domain.model.TokenClaims;
+import com.shopdevjava.springboot.infrastructure.adapter.security.JwtAuthenticationFilter;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.ApiResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.LoginRequest;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.TokenResponse;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/v1/api/auth")
+@Tag(name = "Authentication", description = "API endpoints for obtaining and revoking access tokens")
+public class AuthController {
+
+    private final AuthUseCase authUseCase;
+
+    @Autowired
+    public AuthController(AuthUseCase authUseCase) {
+        this.authUseCase = authUseCase;
+    }
+
+    @Operation(summary = "Log in", description = "Exchanges email and password for a signed access token")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully logged in"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid input data"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Invalid email or password"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "Password checks are saturated")
+    })
+    @PostMapping("/login")
+    public ResponseEntity<ApiResponse<TokenResponse>> login(
+            @Parameter(description = "User credentials", required = true) @Valid @RequestBody LoginRequest loginRequest) {
+        AccessToken token = authUseCase.login(loginRequest.getEmail(), loginRequest.getPassword());
+        return ResponseEntity.ok(ApiResponse.success("Logged in successfully",
+                new TokenResponse(token.value(), "Bearer", token.claims().expiresAt())));
+    }
+
+    @Operation(summary = "Log out", description = "Revokes the access token the request was made with")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Token revoked"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Missing, invalid or revoked token")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @Parameter(hidden = true) 
+            @RequestAttribute(name = JwtAuthenticationFilter.CLAIMS_ATTRIBUTE, required = false) TokenClaims claims) {
+        if (claims == null) {
+            throw new UserException("Not authenticated", UserException.UserExceptionType.UNAUTHORIZED);
+        }
+        authUseCase.logout(claims);
+        return ResponseEntity.ok(ApiResponse.success("Logged out successfully", null));
+    }
+}
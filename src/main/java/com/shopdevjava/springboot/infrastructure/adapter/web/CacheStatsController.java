@@ -0,0 +1,39 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.CachingUserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.ApiResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.CacheStatsResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/v1/api/cache")
+@Tag(name = "Cache", description = "API endpoints for inspecting in-process caches")
+public class CacheStatsController {
+
+    private final CachingUserRepository userRepository;
+
+    @Autowired
+    public CacheStatsController(CachingUserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Operation(summary = "User cache statistics", description = "Hit, miss and eviction counts of the user cache")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully retrieved statistics")
+    @GetMapping("/users")
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getUserCacheStats() {
+        CacheStats stats = userRepository.stats();
+        return ResponseEntity.ok(ApiResponse.success("Cache statistics retrieved successfully",
+                new CacheStatsResponse(stats.hitCount(), stats.missCount(), stats.hitRate(),
+                        stats.evictionCount(), userRepository.estimatedSize())));
+    }
+}
@@ -0,0 +1,76 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes keyset cursors and search offsets as opaque, URL-safe continuation tokens
+ */
+final class CursorCodec {
+
+    private static final char SEPARATOR = '|';
+    private static final String OFFSET_PREFIX = "offset:";
+
+    private CursorCodec() {
+    }
+
+    static String encode(UserCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.createdAt().toString() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static UserCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw invalidCursor();
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separator));
+            long id = Long.parseLong(raw.substring(separator + 1));
+            return new UserCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalidCursor();
+        }
+    }
+
+    static String encodeOffset(Integer offset) {
+        if (offset == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((OFFSET_PREFIX + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static int decodeOffset(String token) {
+        if (token == null || token.isBlank()) {
+            return 0;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(OFFSET_PREFIX)) {
+                throw invalidCursor();
+            }
+            return Integer.parseInt(raw.substring(OFFSET_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static UserException invalidCursor() {
+        return new UserException("Invalid pagination cursor",
+                UserException.UserExceptionType.VALIDATION_ERROR);
+    }
+}
@@ -0,0 +1,56 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import java.util.OptionalLong;
+
+/**
+ * Builds and compares the strong entity tags derived from user versions
+ */
+final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Evaluates an If-None-Match header against the current version using weak
+     * comparison, as RFC 9110 requires for this header
+     */
+    static boolean noneMatchHits(String ifNoneMatch, long version) {
+        String current = of(version);
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals("*") || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extracts the version from an If-Match header. Returns empty for {@code *}; a
+     * weak or unparseable tag yields -1, which no stored version can match.
+     * Only the first tag of a list is considered.
+     */
+    static OptionalLong expectedVersion(String ifMatch) {
+        String tag = ifMatch.split(",")[0].trim();
+        if (tag.equals("*")) {
+            return OptionalLong.empty();
+        }
+        if (tag.length() < 2 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return OptionalLong.of(-1);
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(tag.substring(1, tag.length() - 1)));
+        } catch (NumberFormatException e) {
+            return OptionalLong.of(-1);
+        }
+    }
+}
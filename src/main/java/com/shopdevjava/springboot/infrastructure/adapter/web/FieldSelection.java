@@ -0,0 +1,34 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.domain.model.UserField;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Parses the comma-separated {@code fields} request parameter into selectable user fields
+ */
+final class FieldSelection {
+
+    private FieldSelection() {
+    }
+
+    static Set<UserField> parse(String fields) {
+        Set<UserField> selected = EnumSet.noneOf(UserField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(UserField.fromFieldName(trimmed)
+                    .orElseThrow(() -> new UserException("Unknown field: " + trimmed,
+                            UserException.UserExceptionType.VALIDATION_ERROR)));
+        }
+        if (selected.isEmpty()) {
+            throw new UserException("At least one field must be selected",
+                    UserException.UserExceptionType.VALIDATION_ERROR);
+        }
+        return selected;
+    }
+}
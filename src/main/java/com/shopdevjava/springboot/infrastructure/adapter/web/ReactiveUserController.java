@@ -0,0 +1,167 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.application.port.in.ReactiveUserUseCase;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.ApiResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.PageResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserLookupResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserRequest;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserResponse;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * WebFlux variant of {@link UserController}, serving the same /v1/api/users contract
+ * on event-loop threads when the "reactive" profile is active
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/v1/api/users")
+@Tag(name = "User Management", description = "API endpoints for managing users")
+public class ReactiveUserController {
+
+    private final ReactiveUserUseCase userUseCase;
+
+    @Autowired
+    public ReactiveUserController(ReactiveUserUseCase reactiveUserUseCase) {
+        this.userUseCase = reactiveUserUseCase;
+    }
+
+    @Operation(summary = "List users", description = "Retrieves a page of users ordered by creation time. "
+            + "Pass the returned nextCursor to fetch the following page.")
+    @GetMapping
+    public Mono<ApiResponse<PageResponse<UserResponse>>> listUsers(
+            @Parameter(description = "Continuation token from a previous page") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of users to return (capped at 100)") 
+            @RequestParam(defaultValue = "20") int limit) {
+        // Deferred so an invalid cursor surfaces as an error signal
+        return Mono.defer(() -> userUseCase.listUsers(CursorCodec.decode(cursor), limit))
+                .map(page -> ApiResponse.success("Users retrieved successfully", new PageResponse<>(
+                        UserDtoMapper.toResponses(page.users()),
+                        CursorCodec.encode(page.nextCursor()))));
+    }
+
+    @Operation(summary = "List selected user fields", description = "Same as listing users, but reads and returns "
+            + "only the requested fields, e.g. fields=id,email")
+    @GetMapping(params = {"fields", "!ids"})
+    public Mono<ApiResponse<PageResponse<Map<String, Object>>>> listUserFields(
+            @Parameter(description = "Comma-separated fields to return", required = true) 
+            @RequestParam String fields,
+            @Parameter(description = "Continuation token from a previous page") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of users to return (capped at 100)") 
+            @RequestParam(defaultValue = "20") int limit) {
+        return Mono.defer(() -> userUseCase.listUsers(CursorCodec.decode(cursor), limit, FieldSelection.parse(fields)))
+                .map(page -> ApiResponse.success("Users retrieved successfully",
+                        new PageResponse<>(page.users(), CursorCodec.encode(page.nextCursor()))));
+    }
+
+    @Operation(summary = "Get users by IDs", description = "Retrieves several users in one round trip. "
+            + "Users are returned in request order and unknown ids are listed as missing.")
+    @GetMapping(params = "ids")
+    public Mono<ApiResponse<UserLookupResponse>> getUsersByIds(
+            @Parameter(description = "Comma-separated ids of the users to retrieve (at most 100)", required = true) 
+            @RequestParam List<Long> ids) {
+        return userUseCase.getUsersByIds(ids)
+                .map(lookup -> ApiResponse.success("Users retrieved successfully", new UserLookupResponse(
+                        UserDtoMapper.toResponses(lookup.users()),
+                        lookup.missingIds())));
+    }
+
+    @Operation(summary = "Export all users", description = "Streams every user as newline-delimited JSON, "
+            + "one object per line, in id order")
+    @GetMapping(value = "/export", produces = UserController.APPLICATION_NDJSON_VALUE)
+    public Flux<UserResponse> exportUsers() {
+        return userUseCase.exportUsers()
+                .map(UserDtoMapper::toResponse);
+    }
+
+    @Operation(summary = "Get user by ID", description = "Retrieves a specific user by their ID. "
+            + "Send the ETag from a previous response in If-None-Match to get 304 when unchanged.")
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<UserResponse>>> getUserById(
+            @Parameter(description = "ID of the user to retrieve", required = true) @PathVariable Long id,
+            @Parameter(description = "ETag of a cached representation") 
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Mono<ResponseEntity<ApiResponse<UserResponse>>> full = Mono.defer(() -> userUseCase.getUserById(id))
+                .map(user -> ResponseEntity.ok()
+                        .eTag(ETags.of(user.getVersion()))
+                        .body(ApiResponse.success("User retrieved successfully", UserDtoMapper.toResponse(user))));
+        if (ifNoneMatch == null) {
+            return full;
+        }
+        
+        // Version-only lookup, so unchanged users are never loaded or serialized
+        return userUseCase.getUserVersion(id)
+                .flatMap(version -> ETags.noneMatchHits(ifNoneMatch, version)
+                        ? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(ETags.of(version))
+                                .<ApiResponse<UserResponse>>build())
+                        : full);
+    }
+
+    @Operation(summary = "Get selected fields of a user", description = "Reads and returns only the requested "
+            + "fields of a specific user, e.g. fields=id,email")
+    @GetMapping(value = "/{id}", params = "fields")
+    public Mono<ApiResponse<Map<String, Object>>> getUserFieldsById(
+            @Parameter(description = "ID of the user to retrieve", required = true) @PathVariable Long id,
+            @Parameter(description = "Comma-separated fields to return", required = true) 
+            @RequestParam String fields) {
+        return Mono.defer(() -> userUseCase.getUserById(id, FieldSelection.parse(fields)))
+                .map(user -> ApiResponse.success("User retrieved successfully", user));
+    }
+
+    @Operation(summary = "Create a new user", description = "Creates a new user with the provided information")
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<UserResponse>>> createUser(
+            @Parameter(description = "User information for creation", required = true) 
+            @Valid @RequestBody UserRequest userRequest) {
+        return userUseCase.createUser(UserDtoMapper.toModel(userRequest))
+                .map(createdUser -> ResponseEntity.status(HttpStatus.CREATED)
+                        .eTag(ETags.of(createdUser.getVersion()))
+                        .body(ApiResponse.success("User created successfully", UserDtoMapper.toResponse(createdUser))));
+    }
+
+    @Operation(summary = "Update an existing user", description = "Updates an existing user's information. "
+            + "Send the user's ETag in If-Match to update only if nobody changed it in the meantime.")
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<UserResponse>>> updateUser(
+            @Parameter(description = "ID of the user to update", required = true) @PathVariable Long id, 
+            @Parameter(description = "Updated user information", required = true) @Valid @RequestBody UserRequest userRequest,
+            @Parameter(description = "ETag the update is conditional on") 
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        User user = UserDtoMapper.toModel(userRequest);
+        OptionalLong expectedVersion = ifMatch == null ? OptionalLong.empty() : ETags.expectedVersion(ifMatch);
+        Mono<User> updated = expectedVersion.isPresent()
+                ? userUseCase.updateUser(id, user, expectedVersion.getAsLong())
+                : userUseCase.updateUser(id, user);
+        
+        return updated.map(updatedUser -> ResponseEntity.ok()
+                .eTag(ETags.of(updatedUser.getVersion()))
+                .body(ApiResponse.success("User updated successfully", UserDtoMapper.toResponse(updatedUser))));
+    }
+
+    @Operation(summary = "Delete a user", description = "Deletes a user by their ID")
+    @DeleteMapping("/{id}")
+    public Mono<ApiResponse<Void>> deleteUser(
+            @Parameter(description = "ID of the user to delete", required = true) @PathVariable Long id) {
+        return userUseCase.deleteUser(id)
+                .then(Mono.fromSupplier(() -> ApiResponse.<Void>success("User deleted successfully", null)));
+    }
+}
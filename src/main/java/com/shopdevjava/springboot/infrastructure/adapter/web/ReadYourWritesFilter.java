@@ -0,0 +1,122 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.ReadYourWrites;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Keeps a client's reads on the primary for a short window after it writes.
+ * The end of the window travels with the client in a cookie, so any instance can
+ * honour it without shared state. The cookie is set when the request first takes a
+ * read-write connection, before the response body is written.
+ * <p>
+ * The cookie is signed with a key shared by the instances, and a window ending further
+ * ahead than this instance would grant is ignored, so a client cannot pin its reads to
+ * the primary by forging or replaying the cookie.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "read-primary-until";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Duration window;
+    private final Mac prototype;
+    private final Clock clock;
+
+    /**
+     * @param hexSecret HMAC key as hex, shared by every instance
+     */
+    public ReadYourWritesFilter(Duration window, String hexSecret) {
+        this(window, hexSecret, Clock.systemUTC());
+    }
+
+    ReadYourWritesFilter(Duration window, String hexSecret, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+        try {
+            this.prototype = Mac.getInstance("HmacSHA256");
+            this.prototype.init(new SecretKeySpec(HexFormat.of().parseHex(hexSecret), "HmacSHA256"));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long now = clock.millis();
+        long pinnedUntil = pinnedUntil(request);
+        ReadYourWrites.begin(pinnedUntil > now && pinnedUntil <= now + window.toMillis(),
+                () -> response.addCookie(pinCookie()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    private long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE_NAME.equals(cookie.getName())) {
+                    return verify(cookie.getValue());
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the end of the window of a cookie value with a valid signature, or 0
+     */
+    private long verify(String value) {
+        int separator = value.indexOf('.');
+        if (separator <= 0) {
+            return 0;
+        }
+        String until = value.substring(0, separator);
+        try {
+            byte[] signature = DECODER.decode(value.substring(separator + 1));
+            return MessageDigest.isEqual(sign(until), signature) ? Long.parseLong(until) : 0;
+        } catch (IllegalArgumentException e) {
+            // Malformed Base64 or number
+            return 0;
+        }
+    }
+
+    private byte[] sign(String until) {
+        try {
+            return ((Mac) prototype.clone()).doFinal(until.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HmacSHA256 provider does not support cloning", e);
+        }
+    }
+
+    private Cookie pinCookie() {
+        String until = Long.toString(clock.millis() + window.toMillis());
+        Cookie cookie = new Cookie(COOKIE_NAME, until + "." + ENCODER.encodeToString(sign(until)));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        // Rounded up so the browser never drops the cookie before the window ends
+        cookie.setMaxAge((int) Math.max(1, (window.toMillis() + 999) / 1000));
+        return cookie;
+    }
+}
@@ -0,0 +1,79 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+/**
+ * Time the request bound to the current thread has spent in each layer, for its
+ * Server-Timing header. Only sampled requests are bound; for the rest, recording is a
+ * thread-local read. Layer times are inclusive: the use case time contains the
+ * repository time within it.
+ */
+public final class RequestTimings {
+
+    /**
+     * Layers timed through their ports
+     */
+    public enum Layer {
+        /** UserUseCase, the application service and its transaction */
+        SERVICE,
+        /** UserRepository calls that reach the database adapter, past the cache */
+        REPOSITORY
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt;
+    private final long[] layerNanos = new long[Layer.values().length];
+    private long handlerStartedAt;
+
+    private RequestTimings(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * Binds timings for a request that started at {@code startedAt}, a {@link System#nanoTime()}
+     * reading, to the current thread until {@link #end()}
+     */
+    static RequestTimings begin(long startedAt) {
+        RequestTimings timings = new RequestTimings(startedAt);
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Adds {@code nanos} spent in {@code layer} to the current request, if it is sampled
+     */
+    public static void record(Layer layer, long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.layerNanos[layer.ordinal()] += nanos;
+        }
+    }
+
+    /**
+     * Marks the moment the request reached its controller method
+     */
+    public static void handlerStarted() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null && timings.handlerStartedAt == 0) {
+            timings.handlerStartedAt = System.nanoTime();
+        }
+    }
+
+    long startedAt() {
+        return startedAt;
+    }
+
+    /**
+     * When the controller was reached, or 0 when the request never got there
+     */
+    long handlerStartedAt() {
+        return handlerStartedAt;
+    }
+
+    long nanos(Layer layer) {
+        return layerNanos[layer.ordinal()];
+    }
+}
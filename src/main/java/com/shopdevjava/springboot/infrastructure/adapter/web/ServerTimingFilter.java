@@ -0,0 +1,151 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.SqlStatementLog;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Breaks a sampled share of requests down by layer in a {@value #HEADER} header and a
+ * key=value log line. Durations nest rather than add up:
+ * <ul>
+ *   <li>{@code app} - from the filter until the response body is opened</li>
+ *   <li>{@code controller} - from reaching the controller method until then</li>
+ *   <li>{@code service}, {@code repository} - time in {@link RequestTimings.Layer} calls</li>
+ *   <li>{@code db} - statement execution, {@code pool} - waiting for connections, both
+ *       from the request's {@link SqlStatementLog} when statement accounting is on</li>
+ * </ul>
+ * Serialization happens after the header is sent, so it only appears in the log line, as
+ * {@code serialize_ms}. Requests that are not sampled pass straight through.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    private final double sampleRate;
+
+    public ServerTimingFilter(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!sampled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        RequestTimings timings = RequestTimings.begin(System.nanoTime());
+        Commit commit = new Commit(response, timings);
+        BeforeCommitResponseWrapper wrapper = new BeforeCommitResponseWrapper(response, commit);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            RequestTimings.end();
+            wrapper.beforeCommit();
+            if (log.isInfoEnabled()) {
+                long endedAt = System.nanoTime();
+                // Zero when something else committed the response first
+                long committedAt = commit.committedAt != 0 ? commit.committedAt : endedAt;
+                log.info(logLine(request, response, timings, committedAt, endedAt));
+            }
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private static String header(RequestTimings timings, long committedAt) {
+        StringBuilder header = new StringBuilder(160);
+        entry(header, "app", committedAt - timings.startedAt());
+        if (timings.handlerStartedAt() != 0) {
+            entry(header, "controller", committedAt - timings.handlerStartedAt());
+        }
+        entry(header, "service", timings.nanos(RequestTimings.Layer.SERVICE));
+        entry(header, "repository", timings.nanos(RequestTimings.Layer.REPOSITORY));
+        SqlStatementLog statements = SqlStatementLog.current();
+        if (statements != null) {
+            entry(header, "db", statements.elapsedNanos());
+            header.append(";desc=\"").append(statements.statementCount()).append(" statements\"");
+            entry(header, "pool", statements.connectionWaitNanos());
+        }
+        return header.toString();
+    }
+
+    private static void entry(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        appendMillis(header.append(name).append(";dur="), nanos);
+    }
+
+    private static String logLine(HttpServletRequest request, HttpServletResponse response, RequestTimings timings,
+                                  long committedAt, long endedAt) {
+        StringBuilder line = new StringBuilder(256)
+                .append("server_timing method=").append(request.getMethod())
+                .append(" path=").append(request.getRequestURI())
+                .append(" status=").append(response.getStatus());
+        appendMillis(line.append(" total_ms="), endedAt - timings.startedAt());
+        appendMillis(line.append(" app_ms="), committedAt - timings.startedAt());
+        if (timings.handlerStartedAt() != 0) {
+            appendMillis(line.append(" controller_ms="), committedAt - timings.handlerStartedAt());
+        }
+        appendMillis(line.append(" service_ms="), timings.nanos(RequestTimings.Layer.SERVICE));
+        appendMillis(line.append(" repository_ms="), timings.nanos(RequestTimings.Layer.REPOSITORY));
+        SqlStatementLog statements = SqlStatementLog.current();
+        if (statements != null) {
+            appendMillis(line.append(" db_ms="), statements.elapsedNanos());
+            line.append(" statements=").append(statements.statementCount());
+            appendMillis(line.append(" pool_ms="), statements.connectionWaitNanos());
+        }
+        appendMillis(line.append(" serialize_ms="), endedAt - committedAt);
+        return line.toString();
+    }
+
+    /**
+     * Appends milliseconds with microsecond precision, without formatting machinery
+     */
+    private static void appendMillis(StringBuilder builder, long nanos) {
+        long micros = Math.max(nanos, 0) / 1000;
+        long fraction = micros % 1000;
+        builder.append(micros / 1000).append('.');
+        if (fraction < 100) {
+            builder.append('0');
+        }
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        builder.append(fraction);
+    }
+
+    /**
+     * Stamps the moment the body is opened and sets the header from the timings so far
+     */
+    private static final class Commit implements Runnable {
+
+        private final HttpServletResponse response;
+        private final RequestTimings timings;
+        private long committedAt;
+
+        Commit(HttpServletResponse response, RequestTimings timings) {
+            this.response = response;
+            this.timings = timings;
+        }
+
+        @Override
+        public void run() {
+            committedAt = System.nanoTime();
+            response.setHeader(HEADER, header(timings, committedAt));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.SqlStatementLog;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Accounts for the SQL statements each request executes. The count and the time spent in
+ * them are returned in the {@value #STATEMENTS_HEADER} and {@value #TIME_HEADER} headers
+ * and logged at DEBUG; a request is logged at WARN when it runs more statements than the
+ * query budget or repeats one statement shape {@code repeatThreshold} times, the mark of
+ * an N+1 loop. Statements run after the body starts streaming are logged but miss the
+ * headers.
+ * <p>
+ * A handler that goes async ({@code StreamingResponseBody}, {@code SseEmitter}) is
+ * reported once, when its async dispatch completes. Work on the MVC task executor is
+ * counted through {@link SqlStatementTaskDecorator}; sends from other threads, such as
+ * the SSE sender pool, are not.
+ */
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    private static final String LOG_ATTRIBUTE = SqlStatementFilter.class.getName() + ".log";
+
+    private final int queryBudget;
+    private final int repeatThreshold;
+    private final boolean headers;
+
+    public SqlStatementFilter(int queryBudget, int repeatThreshold, boolean headers) {
+        this.queryBudget = queryBudget;
+        this.repeatThreshold = repeatThreshold;
+        this.headers = headers;
+    }
+
+    /**
+     * Runs on the async dispatch too, to report requests whose handler went async
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            resumeAsync(request, response, filterChain);
+            return;
+        }
+        SqlStatementLog statements = SqlStatementLog.begin();
+        request.setAttribute(LOG_ATTRIBUTE, statements);
+        BeforeCommitResponseWrapper wrapper = new BeforeCommitResponseWrapper(response, () -> {
+            if (headers) {
+                response.setHeader(STATEMENTS_HEADER, Integer.toString(statements.statementCount()));
+                response.setHeader(TIME_HEADER, millis(statements));
+            }
+        });
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            SqlStatementLog.end();
+            // An async handler may be writing the body on another thread by now
+            if (!request.isAsyncStarted()) {
+                wrapper.beforeCommit();
+                report(request, statements);
+            }
+        }
+    }
+
+    private void resumeAsync(HttpServletRequest request, HttpServletResponse response,
+                             FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementLog statements = (SqlStatementLog) request.getAttribute(LOG_ATTRIBUTE);
+        if (statements == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        SqlStatementLog.bind(statements);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementLog.end();
+            if (!request.isAsyncStarted()) {
+                report(request, statements);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementLog statements) {
+        Map<String, Integer> repeated = statements.statementCount() < repeatThreshold
+                ? Map.of() : statements.repeatedShapes(repeatThreshold);
+        if (statements.statementCount() > queryBudget || !repeated.isEmpty()) {
+            log.warn("{} {} ran {} SQL statements in {} ms (budget {}), repeated: {}", request.getMethod(),
+                    request.getRequestURI(), statements.statementCount(), millis(statements), queryBudget, repeated);
+        } else if (log.isDebugEnabled()) {
+            log.debug("{} {} ran {} SQL statements in {} ms", request.getMethod(), request.getRequestURI(),
+                    statements.statementCount(), millis(statements));
+        }
+    }
+
+    private static String millis(SqlStatementLog statements) {
+        return String.format(Locale.ROOT, "%.3f", statements.elapsedNanos() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,30 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.SqlStatementLog;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries the submitting thread's {@link SqlStatementLog} over to the task, so the
+ * statements of MVC async work (a {@code StreamingResponseBody} export, a
+ * {@code Callable}) are counted with the request that started it. The request thread
+ * has let go of the log by the time the task runs; {@link SqlStatementFilter} reports
+ * it when the async dispatch completes.
+ */
+public class SqlStatementTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        SqlStatementLog statements = SqlStatementLog.current();
+        if (statements == null) {
+            return task;
+        }
+        return () -> {
+            SqlStatementLog.bind(statements);
+            try {
+                task.run();
+            } finally {
+                SqlStatementLog.end();
+            }
+        };
+    }
+}
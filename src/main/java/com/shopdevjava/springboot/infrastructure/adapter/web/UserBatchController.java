@@ -0,0 +1,95 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.application.port.in.UserUseCase;
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserBatchResult;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.ApiResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.BatchCreateUsersRequest;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.BatchItemResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Batch operations on users. Mapped separately from {@link UserController} because
+ * custom-method paths like {@code /users:batch} cannot be expressed under its
+ * {@code /v1/api/users} prefix.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/v1/api")
+@Tag(name = "User Management", description = "API endpoints for managing users")
+public class UserBatchController {
+
+    private final UserUseCase userUseCase;
+    private final Validator validator;
+
+    @Autowired
+    public UserBatchController(UserUseCase userUseCase, Validator validator) {
+        this.userUseCase = userUseCase;
+        this.validator = validator;
+    }
+
+    @Operation(summary = "Create users in batch", description = "Creates many users in one request. "
+            + "Each item is validated and reported individually; valid items are inserted together.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Batch processed, see per-item results"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Empty or oversized batch"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/users:batch")
+    public ResponseEntity<ApiResponse<List<BatchItemResponse>>> createUsers(
+            @Parameter(description = "Users to create", required = true)
+            @Valid @RequestBody BatchCreateUsersRequest batchRequest) {
+        List<UserRequest> requests = batchRequest.getUsers();
+        BatchItemResponse[] responses = new BatchItemResponse[requests.size()];
+        
+        // Invalid items are reported without reaching the use case
+        List<User> validUsers = new ArrayList<>(requests.size());
+        List<Integer> validIndexes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            UserRequest request = requests.get(i);
+            Set<ConstraintViolation<UserRequest>> violations = request == null ? Set.of() : validator.validate(request);
+            if (request == null || !violations.isEmpty()) {
+                responses[i] = BatchItemResponse.failure(i, UserException.UserExceptionType.VALIDATION_ERROR.name(),
+                        request == null ? "User is required" : violations.iterator().next().getMessage());
+            } else {
+                validUsers.add(UserDtoMapper.toModel(request));
+                validIndexes.add(i);
+            }
+        }
+        
+        if (!validUsers.isEmpty()) {
+            for (UserBatchResult result : userUseCase.createUsers(validUsers)) {
+                int index = validIndexes.get(result.index());
+                responses[index] = result.succeeded()
+                        ? BatchItemResponse.success(index, UserDtoMapper.toResponse(result.user()))
+                        : BatchItemResponse.failure(index, result.errorType().name(), result.errorMessage());
+            }
+        }
+        
+        long created = Arrays.stream(responses).filter(BatchItemResponse::isSuccess).count();
+        return ResponseEntity.ok(ApiResponse.success(
+                "Batch processed: " + created + " created, " + (responses.length - created) + " failed",
+                Arrays.asList(responses)));
+    }
+}
@@ -1,15 +1,39 @@
 package com.shopdevjava.springboot.infrastructure.adapter.web;
 
 import com.shopdevjava.springboot.application.port.in.UserUseCase;
+import com.shopdevjava.springboot.domain.exception.UserException;
 import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserChangeEvent;
+import com.shopdevjava.springboot.domain.model.UserCount;
+import com.shopdevjava.springboot.domain.model.UserDeletion;
+import com.shopdevjava.springboot.domain.model.UserLookup;
+import com.shopdevjava.springboot.domain.model.UserPage;
+import com.shopdevjava.springboot.domain.model.UserProjectionPage;
+import com.shopdevjava.springboot.domain.model.UserSearchPage;
 import com.shopdevjava.springboot.infrastructure.adapter.web.dto.ApiResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.BulkDeleteResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.PageResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserCountResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserLookupResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserPatchRequest;
 import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserRequest;
 import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserSuggestionResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,48 +42,257 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/v1/api/users")
 @Tag(name = "User Management", description = "API endpoints for managing users")
 public class UserController {
 
+    /**
+     * Media type for newline-delimited JSON exports
+     */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * Number of exported rows written between explicit flushes to the client
+     */
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
     private final UserUseCase userUseCase;
+    private final UserEventStream userEventStream;
+    private final ObjectWriter exportWriter;
 
     @Autowired
-    public UserController(UserUseCase userUseCase) {
+    public UserController(UserUseCase userUseCase, UserEventStream userEventStream, ObjectMapper objectMapper) {
         this.userUseCase = userUseCase;
+        this.userEventStream = userEventStream;
+        this.exportWriter = objectMapper.writerFor(UserResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
-    @Operation(summary = "Get all users", description = "Retrieves a list of all users in the system")
+    @Operation(summary = "List users", description = "Retrieves a page of users ordered by creation time. "
+            + "Pass the returned nextCursor to fetch the following page.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully retrieved users",
                 content = @Content(mediaType = "application/json", 
                 schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid pagination cursor"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers() {
-        List<UserResponse> userResponses = userUseCase.getAllUsers().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public ResponseEntity<ApiResponse<PageResponse<UserResponse>>> listUsers(
+            @Parameter(description = "Continuation token from a previous page") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of users to return (capped at 100)") 
+            @RequestParam(defaultValue = "20") int limit) {
+        UserPage page = userUseCase.listUsers(CursorCodec.decode(cursor), limit);
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully",
+                new PageResponse<>(UserDtoMapper.toResponses(page.users()), CursorCodec.encode(page.nextCursor()))));
+    }
+
+    @Operation(summary = "Search users", description = "Finds users whose first name, last name or email contains "
+            + "the query or resembles it (typos included), best matches first. The query needs at least 3 characters; "
+            + "only the first 1000 matches can be paged through. Pass the returned nextCursor to fetch the following page.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully searched users"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Query too short or too long, or invalid cursor"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "Search exceeded its time budget")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PageResponse<UserResponse>>> searchUsers(
+            @Parameter(description = "Text to search for in names and email", example = "john") 
+            @RequestParam String q,
+            @Parameter(description = "Continuation token from a previous page") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of users to return (capped at 100)") 
+            @RequestParam(defaultValue = "20") int limit) {
+        UserSearchPage page = userUseCase.searchUsers(q, CursorCodec.decodeOffset(cursor), limit);
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully",
+                new PageResponse<>(UserDtoMapper.toResponses(page.users()), CursorCodec.encodeOffset(page.nextOffset()))));
+    }
+
+    @Operation(summary = "Count users", description = "mode=exact returns the count maintained with every create "
+            + "and delete; mode=approximate reads the table statistics instead, with the number of rows changed since "
+            + "they were gathered as maxError, and falls back to the exact count if the table was never analyzed.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully counted users"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Unknown mode")
+    })
+    @GetMapping("/count")
+    public ResponseEntity<ApiResponse<UserCountResponse>> countUsers(
+            @Parameter(description = "exact or approximate", example = "approximate") 
+            @RequestParam(defaultValue = "exact") String mode) {
+        boolean exact = switch (mode.toLowerCase(Locale.ROOT)) {
+            case "exact" -> true;
+            case "approximate" -> false;
+            default -> throw new UserException("Count mode must be exact or approximate", 
+                    UserException.UserExceptionType.VALIDATION_ERROR);
+        };
+        UserCount count = userUseCase.countUsers(exact);
+        
+        return ResponseEntity.ok(ApiResponse.success("Users counted successfully", UserDtoMapper.toResponse(count)));
+    }
+
+    @Operation(summary = "Suggest users while typing", description = "Returns users with a name or email word "
+            + "starting with each word typed so far, whole-word matches first. Served from memory when the typeahead "
+            + "index is enabled, otherwise by a prefix query on the database.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully suggested users"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Empty or too long query"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "Database fallback exceeded its time budget")
+    })
+    @GetMapping("/typeahead")
+    public ResponseEntity<ApiResponse<List<UserSuggestionResponse>>> suggestUsers(
+            @Parameter(description = "Text typed so far", example = "jo") 
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions (capped at 20)") 
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved successfully",
+                UserDtoMapper.toSuggestionResponses(userUseCase.suggestUsers(q, limit))));
+    }
+
+    @Operation(summary = "List selected user fields", description = "Same as listing users, but reads and returns "
+            + "only the requested fields, e.g. fields=id,email")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully retrieved users"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid pagination cursor or unknown field"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<ApiResponse<PageResponse<Map<String, Object>>>> listUserFields(
+            @Parameter(description = "Comma-separated fields to return: id, firstName, lastName, email, "
+                    + "createdAt, updatedAt, version", required = true) 
+            @RequestParam String fields,
+            @Parameter(description = "Continuation token from a previous page") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of users to return (capped at 100)") 
+            @RequestParam(defaultValue = "20") int limit) {
+        UserProjectionPage page = userUseCase.listUsers(CursorCodec.decode(cursor), limit,
+                FieldSelection.parse(fields));
         
-        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", userResponses));
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully",
+                new PageResponse<>(page.users(), CursorCodec.encode(page.nextCursor()))));
+    }
+
+    @Operation(summary = "Get users by IDs", description = "Retrieves several users in one round trip. "
+            + "Users are returned in request order and unknown ids are listed as missing.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully retrieved users"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Too many ids requested"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<UserLookupResponse>> getUsersByIds(
+            @Parameter(description = "Comma-separated ids of the users to retrieve (at most 100)", required = true) 
+            @RequestParam List<Long> ids) {
+        UserLookup lookup = userUseCase.getUsersByIds(ids);
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully",
+                new UserLookupResponse(UserDtoMapper.toResponses(lookup.users()), lookup.missingIds())));
+    }
+
+    @Operation(summary = "Check email availability", description = "Answers with the status only: 200 when the "
+            + "email is already registered, 404 when it is available")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Email is registered"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Email is available")
+    })
+    @RequestMapping(method = RequestMethod.HEAD, params = "email")
+    public ResponseEntity<Void> checkEmail(
+            @Parameter(description = "Email address to check", required = true) 
+            @RequestParam String email) {
+        return userUseCase.isEmailRegistered(email)
+                ? ResponseEntity.ok().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    @Operation(summary = "Export all users", description = "Streams every user as newline-delimited JSON, "
+            + "one object per line, in id order")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Export stream started",
+                content = @Content(mediaType = APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = UserResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = exportWriter.getFactory().createGenerator(outputStream)) {
+                // Lines are delimited explicitly; the default root separator would indent every line but the first
+                generator.setRootValueSeparator(null);
+                userUseCase.exportUsers(new NdjsonExportSink(generator));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
     }
 
-    @Operation(summary = "Get user by ID", description = "Retrieves a specific user by their ID")
+    @Operation(summary = "Stream user change events", description = "Server-Sent Events stream of users being "
+            + "created, updated and deleted (event names user.created, user.updated, user.deleted), "
+            + "pushed as the changes are committed. Events are not replayed on reconnect.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Event stream opened",
+                content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                schema = @Schema(implementation = UserChangeEvent.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "Too many open event streams")
+    })
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamUserEvents() {
+        return userEventStream.subscribe();
+    }
+
+    @Operation(summary = "Get user by ID", description = "Retrieves a specific user by their ID. "
+            + "Send the ETag from a previous response in If-None-Match to get 304 when unchanged.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully retrieved user"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "User unchanged since the given ETag"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "User not found"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<UserResponse>> getUserById(
-            @Parameter(description = "ID of the user to retrieve", required = true) @PathVariable Long id) {
+            @Parameter(description = "ID of the user to retrieve", required = true) @PathVariable Long id,
+            @Parameter(description = "ETag of a cached representation") 
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            // Version-only lookup, so unchanged users are never loaded or serialized
+            long version = userUseCase.getUserVersion(id);
+            if (ETags.noneMatchHits(ifNoneMatch, version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETags.of(version)).build();
+            }
+        }
+        
         User user = userUseCase.getUserById(id);
-        return ResponseEntity.ok(ApiResponse.success("User retrieved successfully", mapToResponse(user)));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(user.getVersion()))
+                .body(ApiResponse.success("User retrieved successfully", UserDtoMapper.toResponse(user)));
+    }
+
+    @Operation(summary = "Get selected fields of a user", description = "Reads and returns only the requested "
+            + "fields of a specific user, e.g. fields=id,email")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully retrieved user"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Unknown field"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "User not found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getUserFieldsById(
+            @Parameter(description = "ID of the user to retrieve", required = true) @PathVariable Long id,
+            @Parameter(description = "Comma-separated fields to return: id, firstName, lastName, email, "
+                    + "createdAt, updatedAt, version", required = true) 
+            @RequestParam String fields) {
+        return ResponseEntity.ok(ApiResponse.success("User retrieved successfully",
+                userUseCase.getUserById(id, FieldSelection.parse(fields))));
     }
 
     @Operation(summary = "Create a new user", description = "Creates a new user with the provided information")
@@ -73,34 +306,67 @@ public class UserController {
     public ResponseEntity<ApiResponse<UserResponse>> createUser(
             @Parameter(description = "User information for creation", required = true) 
             @Valid @RequestBody UserRequest userRequest) {
-        User user = mapToModel(userRequest);
+        User user = UserDtoMapper.toModel(userRequest);
         User createdUser = userUseCase.createUser(user);
         
-        return new ResponseEntity<>(
-            ApiResponse.success("User created successfully", mapToResponse(createdUser)),
-            HttpStatus.CREATED
-        );
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETags.of(createdUser.getVersion()))
+                .body(ApiResponse.success("User created successfully", UserDtoMapper.toResponse(createdUser)));
     }
 
-    @Operation(summary = "Update an existing user", description = "Updates an existing user's information")
+    @Operation(summary = "Update an existing user", description = "Updates an existing user's information. "
+            + "Send the user's ETag in If-Match to update only if nobody changed it in the meantime.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "User successfully updated"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid input data"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "User not found"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Email already in use by another user"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "User changed since the given ETag"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<UserResponse>> updateUser(
             @Parameter(description = "ID of the user to update", required = true) @PathVariable Long id, 
-            @Parameter(description = "Updated user information", required = true) @Valid @RequestBody UserRequest userRequest) {
+            @Parameter(description = "Updated user information", required = true) @Valid @RequestBody UserRequest userRequest,
+            @Parameter(description = "ETag the update is conditional on") 
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        
+        User user = UserDtoMapper.toModel(userRequest);
+        OptionalLong expectedVersion = ifMatch == null ? OptionalLong.empty() : ETags.expectedVersion(ifMatch);
+        User updatedUser = expectedVersion.isPresent()
+                ? userUseCase.updateUser(id, user, expectedVersion.getAsLong())
+                : userUseCase.updateUser(id, user);
+        
+        return ResponseEntity.ok()
+                .eTag(ETags.of(updatedUser.getVersion()))
+                .body(ApiResponse.success("User updated successfully", UserDtoMapper.toResponse(updatedUser)));
+    }
+
+    @Operation(summary = "Partially update a user", description = "Changes only the fields present in the request body. "
+            + "Send the user's ETag in If-Match to update only if nobody changed it in the meantime.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "User successfully updated"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid input data, no fields to change, or email already in use"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "User not found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "User changed since the given ETag"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<ApiResponse<UserResponse>> patchUser(
+            @Parameter(description = "ID of the user to update", required = true) @PathVariable Long id, 
+            @Parameter(description = "Fields to change", required = true) @Valid @RequestBody UserPatchRequest patchRequest,
+            @Parameter(description = "ETag the update is conditional on") 
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
-        User user = mapToModel(userRequest);
-        User updatedUser = userUseCase.updateUser(id, user);
+        User changes = UserDtoMapper.toChanges(patchRequest);
+        OptionalLong expectedVersion = ifMatch == null ? OptionalLong.empty() : ETags.expectedVersion(ifMatch);
+        User updatedUser = expectedVersion.isPresent()
+                ? userUseCase.patchUser(id, changes, expectedVersion.getAsLong())
+                : userUseCase.patchUser(id, changes);
         
-        return ResponseEntity.ok(
-            ApiResponse.success("User updated successfully", mapToResponse(updatedUser))
-        );
+        return ResponseEntity.ok()
+                .eTag(ETags.of(updatedUser.getVersion()))
+                .body(ApiResponse.success("User updated successfully", UserDtoMapper.toResponse(updatedUser)));
     }
 
     @Operation(summary = "Delete a user", description = "Deletes a user by their ID")
@@ -115,30 +381,64 @@ public class UserController {
         userUseCase.deleteUser(id);
         return ResponseEntity.ok(ApiResponse.success("User deleted successfully", null));
     }
-    
-    /**
-     * Maps a domain model to a response DTO
-     */
-    private UserResponse mapToResponse(User user) {
-        return new UserResponse(
-            user.getId(),
-            user.getFirstName(),
-            user.getLastName(),
-            user.getEmail(),
-            user.getCreatedAt(),
-            user.getUpdatedAt()
-        );
+
+    @Operation(summary = "Delete users by IDs", description = "Deletes several users with set-based statements. "
+            + "Unknown ids are ignored.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Users successfully deleted"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Too many ids given"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<ApiResponse<BulkDeleteResponse>> deleteUsers(
+            @Parameter(description = "Comma-separated ids of the users to delete (at most 1000)", required = true) 
+            @RequestParam List<Long> ids) {
+        int deleted = userUseCase.deleteUsers(ids);
+        return ResponseEntity.ok(ApiResponse.success("Users deleted successfully", new BulkDeleteResponse(deleted)));
+    }
+
+    @Operation(summary = "Delete users created before a point in time", description = "Deletes up to 1000 "
+            + "matching users per request, in bounded chunks, so large cleanups never hold one long transaction. "
+            + "Repeat the request while moreRemaining is true.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Users successfully deleted"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid timestamp"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @DeleteMapping(params = {"createdBefore", "!ids"})
+    public ResponseEntity<ApiResponse<BulkDeleteResponse>> deleteUsersCreatedBefore(
+            @Parameter(description = "ISO-8601 local date-time; users created strictly before it are deleted", 
+                    example = "2024-01-01T00:00:00", required = true) 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore) {
+        UserDeletion deletion = userUseCase.deleteUsersCreatedBefore(createdBefore);
+        return ResponseEntity.ok(ApiResponse.success("Users deleted successfully", 
+                new BulkDeleteResponse(deletion.deletedCount(), deletion.moreRemaining())));
     }
     
     /**
-     * Maps a request DTO to a domain model
+     * Writes each exported user as a single NDJSON line, flushing periodically so the
+     * client receives data while the query is still running
      */
-    private User mapToModel(UserRequest userRequest) {
-        return new User(
-            userRequest.getFirstName(),
-            userRequest.getLastName(),
-            userRequest.getEmail(),
-            userRequest.getPassword()
-        );
-    }
-} 
\ No newline at end of file
+    private class NdjsonExportSink implements Consumer<User> {
+
+        private final JsonGenerator generator;
+        private int rowsWritten;
+
+        NdjsonExportSink(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void accept(User user) {
+            try {
+                exportWriter.writeValue(generator, UserDtoMapper.toResponse(user));
+                generator.writeRaw('\n');
+                if (++rowsWritten % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
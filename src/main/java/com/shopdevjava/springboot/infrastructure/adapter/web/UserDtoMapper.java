@@ -0,0 +1,127 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserCount;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserCountResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserPatchRequest;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserRequest;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserResponse;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserSuggestionResponse;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Maps between user web DTOs and the domain model
+ */
+final class UserDtoMapper {
+
+    private UserDtoMapper() {
+    }
+
+    /**
+     * Maps a domain model to a response DTO
+     */
+    static UserResponse toResponse(User user) {
+        return new UserResponse(
+            user.getId(),
+            user.getFirstName(),
+            user.getLastName(),
+            user.getEmail(),
+            user.getCreatedAt(),
+            user.getUpdatedAt(),
+            user.getVersion()
+        );
+    }
+
+    /**
+     * Maps users to response DTOs one at a time as the list is serialized, instead of
+     * copying the page into a second list first
+     */
+    static List<UserResponse> toResponses(List<User> users) {
+        return new MappedList<>(users, UserDtoMapper::toResponse);
+    }
+
+    /**
+     * Maps typeahead matches to response DTOs as the list is serialized
+     */
+    static List<UserSuggestionResponse> toSuggestionResponses(List<UserSuggestion> suggestions) {
+        return new MappedList<>(suggestions, UserDtoMapper::toResponse);
+    }
+
+    /**
+     * Maps a user count to its response DTO
+     */
+    static UserCountResponse toResponse(UserCount count) {
+        return new UserCountResponse(
+            count.count(),
+            count.exact(),
+            count.maxError(),
+            count.asOf()
+        );
+    }
+
+    /**
+     * Maps a typeahead match to its response DTO
+     */
+    static UserSuggestionResponse toResponse(UserSuggestion suggestion) {
+        return new UserSuggestionResponse(
+            suggestion.id(),
+            suggestion.firstName(),
+            suggestion.lastName(),
+            suggestion.email()
+        );
+    }
+
+    /**
+     * Maps a request DTO to a domain model
+     */
+    static User toModel(UserRequest userRequest) {
+        return new User(
+            userRequest.getFirstName(),
+            userRequest.getLastName(),
+            userRequest.getEmail(),
+            userRequest.getPassword()
+        );
+    }
+
+    /**
+     * Maps a partial update DTO to a domain model holding only the changed fields
+     */
+    static User toChanges(UserPatchRequest patchRequest) {
+        User changes = new User();
+        changes.setFirstName(patchRequest.getFirstName());
+        changes.setLastName(patchRequest.getLastName());
+        changes.setEmail(patchRequest.getEmail());
+        changes.setPassword(patchRequest.getPassword());
+        return changes;
+    }
+
+    /**
+     * Read-only view applying a mapping on each access; cheap because responses are
+     * serialized once
+     */
+    private static final class MappedList<S, T> extends AbstractList<T> implements RandomAccess {
+
+        private final List<S> source;
+        private final Function<? super S, ? extends T> mapper;
+
+        MappedList(List<S> source, Function<? super S, ? extends T> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public T get(int index) {
+            return mapper.apply(source.get(index));
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+    }
+}
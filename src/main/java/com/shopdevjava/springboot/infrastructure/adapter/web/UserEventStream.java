@@ -0,0 +1,188 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.application.exception.CapacityExceededException;
+import com.shopdevjava.springboot.application.port.out.UserChangeEventSink;
+import com.shopdevjava.springboot.domain.model.UserChangeEvent;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Events sink: pushes every relayed user change event, whichever instance
+ * made the change, to the connected subscribers. Subscribers only see events relayed
+ * while they are connected; events are not replayed on reconnect.
+ * <p>
+ * {@link #publish} only queues the events, so the relay never waits on a client's network:
+ * each subscriber has a queue of at most {@code queueCapacity} events, sent by a small
+ * pool of sender threads. A subscriber whose queue is full has fallen behind and is
+ * disconnected; it can reconnect, but misses the events it did not read.
+ */
+public class UserEventStream implements UserChangeEventSink {
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final int maxSubscribers;
+    private final int queueCapacity;
+    private final Executor executor;
+
+    public UserEventStream(int maxSubscribers, int queueCapacity, int senderThreads) {
+        this(maxSubscribers, queueCapacity, new ThreadPoolExecutor(senderThreads, senderThreads,
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new SenderThreadFactory()));
+    }
+
+    /**
+     * At most one send task per subscriber is queued on {@code executor} at a time
+     */
+    UserEventStream(int maxSubscribers, int queueCapacity, Executor executor) {
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = queueCapacity;
+        this.executor = executor;
+    }
+
+    /**
+     * Opens a stream for a new subscriber, which times out with the MVC async request timeout
+     *
+     * @throws CapacityExceededException if {@code maxSubscribers} streams are already open
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new CapacityExceededException("Too many event stream subscribers");
+        }
+        SseEmitter emitter = new SseEmitter();
+        Subscriber subscriber = new Subscriber(emitter, queueCapacity);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @Override
+    public void publish(List<UserChangeEvent> events) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(events)) {
+                subscriber.schedule();
+            } else {
+                disconnect(subscriber, null);
+            }
+        }
+    }
+
+    /**
+     * Number of connected subscribers
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Stops the sender threads; events still queued are not sent
+     */
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Drops a subscriber at once and completes its stream on a sender thread: the emitter
+     * is locked for the duration of a send, which a stalled client can hold indefinitely
+     */
+    private void disconnect(Subscriber subscriber, Exception error) {
+        if (subscribers.remove(subscriber)) {
+            execute(() -> {
+                if (error != null) {
+                    subscriber.emitter.completeWithError(error);
+                } else {
+                    subscriber.emitter.complete();
+                }
+            });
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the streams are closed with the server
+        }
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<UserChangeEvent> pending;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int queueCapacity) {
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        /**
+         * Queues the events, returning false if the queue is full
+         */
+        boolean offer(List<UserChangeEvent> events) {
+            for (UserChangeEvent event : events) {
+                if (!pending.offer(event)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                execute(this);
+            }
+        }
+
+        /**
+         * Sends until the queue is empty, then checks again after clearing the flag, so
+         * events queued meanwhile are not left behind without a task
+         */
+        @Override
+        public void run() {
+            try {
+                do {
+                    UserChangeEvent event;
+                    while ((event = pending.poll()) != null) {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(event.sequence()))
+                                .name("user." + event.type().name().toLowerCase(Locale.ROOT))
+                                .data(event, MediaType.APPLICATION_JSON));
+                    }
+                    scheduled.set(false);
+                } while (!pending.isEmpty() && scheduled.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                // The client went away
+                disconnect(this, e);
+            }
+        }
+    }
+
+    private static final class SenderThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "user-event-sender-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for batch user creation requests
+ */
+@Schema(description = "Data Transfer Object for creating many users in one request")
+public class BatchCreateUsersRequest {
+    
+    @Schema(description = "Users to create; each item is validated and reported individually", required = true)
+    @NotEmpty(message = "At least one user is required")
+    @Size(max = 1000, message = "At most 1000 users can be created per batch")
+    private List<UserRequest> users;
+    
+    // Constructors
+    public BatchCreateUsersRequest() {
+    }
+    
+    public BatchCreateUsersRequest(List<UserRequest> users) {
+        this.users = users;
+    }
+    
+    // Getters and Setters
+    public List<UserRequest> getUsers() {
+        return users;
+    }
+    
+    public void setUsers(List<UserRequest> users) {
+        this.users = users;
+    }
+}
@@ -0,0 +1,87 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for the outcome of a single item in a batch request
+ */
+@Schema(description = "Outcome of a single item in a batch request")
+public class BatchItemResponse {
+    
+    @Schema(description = "Position of the item in the request", example = "0")
+    private int index;
+    
+    @Schema(description = "Whether this item succeeded", example = "true")
+    private boolean success;
+    
+    @Schema(description = "Resulting user when the item succeeded", nullable = true)
+    private UserResponse user;
+    
+    @Schema(description = "Error code when the item failed", example = "DUPLICATE_EMAIL", nullable = true)
+    private String error;
+    
+    @Schema(description = "Error message when the item failed", example = "Email already in use", nullable = true)
+    private String message;
+    
+    // Constructors
+    public BatchItemResponse() {
+    }
+    
+    public BatchItemResponse(int index, boolean success, UserResponse user, String error, String message) {
+        this.index = index;
+        this.success = success;
+        this.user = user;
+        this.error = error;
+        this.message = message;
+    }
+    
+    // Static factory methods
+    public static BatchItemResponse success(int index, UserResponse user) {
+        return new BatchItemResponse(index, true, user, null, null);
+    }
+    
+    public static BatchItemResponse failure(int index, String error, String message) {
+        return new BatchItemResponse(index, false, null, error, message);
+    }
+    
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+    
+    public void setIndex(int index) {
+        this.index = index;
+    }
+    
+    public boolean isSuccess() {
+        return success;
+    }
+    
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+    
+    public UserResponse getUser() {
+        return user;
+    }
+    
+    public void setUser(UserResponse user) {
+        this.user = user;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public void setError(String error) {
+        this.error = error;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,47 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for bulk delete results
+ */
+@Schema(description = "Outcome of a bulk delete")
+public class BulkDeleteResponse {
+    
+    @Schema(description = "Number of users deleted; ids that did not exist are not counted", example = "42")
+    private long deletedCount;
+    
+    @Schema(description = "True when the delete stopped at its per-request limit and matching users may remain; "
+            + "repeat the request until it is false", example = "false")
+    private boolean moreRemaining;
+    
+    // Constructors
+    public BulkDeleteResponse() {
+    }
+    
+    public BulkDeleteResponse(long deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+    
+    public BulkDeleteResponse(long deletedCount, boolean moreRemaining) {
+        this.deletedCount = deletedCount;
+        this.moreRemaining = moreRemaining;
+    }
+    
+    // Getters and Setters
+    public long getDeletedCount() {
+        return deletedCount;
+    }
+    
+    public void setDeletedCount(long deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+    
+    public boolean isMoreRemaining() {
+        return moreRemaining;
+    }
+    
+    public void setMoreRemaining(boolean moreRemaining) {
+        this.moreRemaining = moreRemaining;
+    }
+}
@@ -0,0 +1,78 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for cache statistics
+ */
+@Schema(description = "Statistics of an in-process cache since startup")
+public class CacheStatsResponse {
+    
+    @Schema(description = "Lookups served from the cache, including cached absent ids", example = "1990")
+    private long hitCount;
+    
+    @Schema(description = "Lookups that went to the database", example = "10")
+    private long missCount;
+    
+    @Schema(description = "Fraction of lookups served from the cache", example = "0.995")
+    private double hitRate;
+    
+    @Schema(description = "Entries removed because of size or expiry", example = "3")
+    private long evictionCount;
+    
+    @Schema(description = "Approximate number of cached entries", example = "7")
+    private long size;
+    
+    // Constructors
+    public CacheStatsResponse() {
+    }
+    
+    public CacheStatsResponse(long hitCount, long missCount, double hitRate, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+    
+    // Getters and Setters
+    public long getHitCount() {
+        return hitCount;
+    }
+    
+    public void setHitCount(long hitCount) {
+        this.hitCount = hitCount;
+    }
+    
+    public long getMissCount() {
+        return missCount;
+    }
+    
+    public void setMissCount(long missCount) {
+        this.missCount = missCount;
+    }
+    
+    public double getHitRate() {
+        return hitRate;
+    }
+    
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+    
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+    
+    public void setEvictionCount(long evictionCount) {
+        this.evictionCount = evictionCount;
+    }
+    
+    public long getSize() {
+        return size;
+    }
+    
+    public void setSize(long size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,47 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for login requests
+ */
+@Schema(description = "Credentials exchanged for an access token")
+public class LoginRequest {
+    
+    @Schema(description = "User's email address", example = "john.doe@example.com", required = true)
+    @NotBlank(message = "Email is required")
+    @Email(message = "Invalid email format")
+    private String email;
+    
+    @Schema(description = "User's password", example = "password123", required = true)
+    @NotBlank(message = "Password is required")
+    private String password;
+    
+    // Constructors
+    public LoginRequest() {
+    }
+    
+    public LoginRequest(String email, String password) {
+        this.email = email;
+        this.password = password;
+    }
+    
+    // Getters and Setters
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public String getPassword() {
+        return password;
+    }
+    
+    public void setPassword(String password) {
+        this.password = password;
+    }
+}
@@ -0,0 +1,56 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web.dto;
+
+import java.util.List;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for a cursor-paginated list of items
+ * @param <T> Type of the items in the page
+ */
+@Schema(description = "Cursor-paginated list of items")
+public class PageResponse<T> {
+    
+    @Schema(description = "Items in this page")
+    private List<T> items;
+    
+    @Schema(description = "Opaque token to pass as 'cursor' to fetch the next page, null on the last page", nullable = true)
+    private String nextCursor;
+    
+    @Schema(description = "Whether more items follow this page", example = "true")
+    private boolean hasMore;
+    
+    // Constructors
+    public PageResponse() {
+    }
+    
+    public PageResponse(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+    
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,55 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web.dto;
+
+import java.time.Instant;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for issued access tokens
+ */
+@Schema(description = "Access token to send as 'Authorization: Bearer <accessToken>'")
+public class TokenResponse {
+    
+    @Schema(description = "Signed JWT access token")
+    private String accessToken;
+    
+    @Schema(description = "Token type", example = "Bearer")
+    private String tokenType;
+    
+    @Schema(description = "When the token stops being accepted", example = "2024-01-02T00:00:00Z")
+    private Instant expiresAt;
+    
+    // Constructors
+    public TokenResponse() {
+    }
+    
+    public TokenResponse(String accessToken, String tokenType, Instant expiresAt) {
+        this.accessToken = accessToken;
+        this.tokenType = tokenType;
+        this.expiresAt = expiresAt;
+    }
+    
+    // Getters and Setters
+    public String getAccessToken() {
+        return accessToken;
+    }
+    
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+    
+    public String getTokenType() {
+        return tokenType;
+    }
+    
+    public void setTokenType(String tokenType) {
+        this.tokenType = tokenType;
+    }
+    
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+    
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
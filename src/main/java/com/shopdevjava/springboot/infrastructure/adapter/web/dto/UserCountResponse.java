@@ -0,0 +1,67 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web.dto;
+
+import java.time.Instant;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for user counts
+ */
+@Schema(description = "Number of users and how far it may be off: the true count was within maxError of count at asOf")
+public class UserCountResponse {
+    
+    @Schema(description = "Number of users", example = "1250000")
+    private long count;
+    
+    @Schema(description = "Whether this is the maintained exact count rather than an estimate", example = "false")
+    private boolean exact;
+    
+    @Schema(description = "Users created, changed or deleted since the estimate was taken; 0 for exact counts", example = "4200")
+    private long maxError;
+    
+    @Schema(description = "When the count was taken; null if the statistics do not say", example = "2024-01-01T10:15:30Z")
+    private Instant asOf;
+    
+    // Constructors
+    public UserCountResponse() {
+    }
+    
+    public UserCountResponse(long count, boolean exact, long maxError, Instant asOf) {
+        this.count = count;
+        this.exact = exact;
+        this.maxError = maxError;
+        this.asOf = asOf;
+    }
+    
+    // Getters and Setters
+    public long getCount() {
+        return count;
+    }
+    
+    public void setCount(long count) {
+        this.count = count;
+    }
+    
+    public boolean isExact() {
+        return exact;
+    }
+    
+    public void setExact(boolean exact) {
+        this.exact = exact;
+    }
+    
+    public long getMaxError() {
+        return maxError;
+    }
+    
+    public void setMaxError(long maxError) {
+        this.maxError = maxError;
+    }
+    
+    public Instant getAsOf() {
+        return asOf;
+    }
+    
+    public void setAsOf(Instant asOf) {
+        this.asOf = asOf;
+    }
+}
@@ -0,0 +1,43 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web.dto;
+
+import java.util.List;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for multi-get responses
+ */
+@Schema(description = "Users found for a list of ids, plus the ids that do not exist")
+public class UserLookupResponse {
+    
+    @Schema(description = "Users found, in the order their ids were requested")
+    private List<UserResponse> users;
+    
+    @Schema(description = "Requested ids with no matching user", example = "[42]")
+    private List<Long> missingIds;
+    
+    // Constructors
+    public UserLookupResponse() {
+    }
+    
+    public UserLookupResponse(List<UserResponse> users, List<Long> missingIds) {
+        this.users = users;
+        this.missingIds = missingIds;
+    }
+    
+    // Getters and Setters
+    public List<UserResponse> getUsers() {
+        return users;
+    }
+    
+    public void setUsers(List<UserResponse> users) {
+        this.users = users;
+    }
+    
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+    
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
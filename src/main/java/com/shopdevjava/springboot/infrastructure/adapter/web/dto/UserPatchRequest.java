@@ -0,0 +1,74 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for partial user updates; omitted (null) fields are left unchanged
+ */
+@Schema(description = "Data Transfer Object for partial user updates. Omitted fields keep their current value.")
+public class UserPatchRequest {
+    
+    @Schema(description = "User's first name", example = "John")
+    @Pattern(regexp = ".*\\S.*", message = "First name must not be blank")
+    private String firstName;
+    
+    @Schema(description = "User's last name", example = "Doe")
+    @Pattern(regexp = ".*\\S.*", message = "Last name must not be blank")
+    private String lastName;
+    
+    @Schema(description = "User's email address", example = "john.doe@example.com")
+    @Pattern(regexp = ".*\\S.*", message = "Email must not be blank")
+    @Email(message = "Invalid email format")
+    private String email;
+    
+    @Schema(description = "User's password (min 6 characters)", example = "password123")
+    @Size(min = 6, message = "Password must be at least 6 characters")
+    private String password;
+    
+    // Constructors
+    public UserPatchRequest() {
+    }
+    
+    public UserPatchRequest(String firstName, String lastName, String email, String password) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.password = password;
+    }
+    
+    // Getters and Setters
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+    
+    public String getLastName() {
+        return lastName;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public String getPassword() {
+        return password;
+    }
+    
+    public void setPassword(String password) {
+        this.password = password;
+    }
+}
@@ -7,84 +7,25 @@ import io.swagger.v3.oas.annotations.media.Schema;
  * DTO for user responses
  */
 @Schema(description = "Data Transfer Object for user response data")
-public class UserResponse {
-    @Schema(description = "Unique identifier of the user", example = "1")
-    private Long id;
-    
-    @Schema(description = "User's first name", example = "John")
-    private String firstName;
-    
-    @Schema(description = "User's last name", example = "Doe")
-    private String lastName;
-    
-    @Schema(description = "User's email address", example = "john.doe@example.com")
-    private String email;
-    
-    @Schema(description = "Timestamp when the user was created", example = "2023-01-01T10:15:30")
-    private LocalDateTime createdAt;
-    
-    @Schema(description = "Timestamp when the user was last updated", example = "2023-01-02T10:15:30")
-    private LocalDateTime updatedAt;
-    
-    // Constructors
-    public UserResponse() {
-    }
-    
-    public UserResponse(Long id, String firstName, String lastName, String email, LocalDateTime createdAt, LocalDateTime updatedAt) {
-        this.id = id;
-        this.firstName = firstName;
-        this.lastName = lastName;
-        this.email = email;
-        this.createdAt = createdAt;
-        this.updatedAt = updatedAt;
-    }
-    
-    // Getters and Setters
-    public Long getId() {
-        return id;
-    }
-    
-    public void setId(Long id) {
-        this.id = id;
-    }
-    
-    public String getFirstName() {
-        return firstName;
-    }
-    
-    public void setFirstName(String firstName) {
-        this.firstName = firstName;
-    }
-    
-    public String getLastName() {
-        return lastName;
-    }
-    
-    public void setLastName(String lastName) {
-        this.lastName = lastName;
-    }
-    
-    public String getEmail() {
-        return email;
-    }
-    
-    public void setEmail(String email) {
-        this.email = email;
-    }
-    
-    public LocalDateTime getCreatedAt() {
-        return createdAt;
-    }
-    
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
-    
-    public LocalDateTime getUpdatedAt() {
-        return updatedAt;
-    }
-    
-    public void setUpdatedAt(LocalDateTime updatedAt) {
-        this.updatedAt = updatedAt;
-    }
-} 
\ No newline at end of file
+public record UserResponse(
+        @Schema(description = "Unique identifier of the user", example = "1")
+        Long id,
+
+        @Schema(description = "User's first name", example = "John")
+        String firstName,
+
+        @Schema(description = "User's last name", example = "Doe")
+        String lastName,
+
+        @Schema(description = "User's email address", example = "john.doe@example.com")
+        String email,
+
+        @Schema(description = "Timestamp when the user was created", example = "2023-01-01T10:15:30")
+        LocalDateTime createdAt,
+
+        @Schema(description = "Timestamp when the user was last updated", example = "2023-01-02T10:15:30")
+        LocalDateTime updatedAt,
+
+        @Schema(description = "Version of the user, incremented on every change; also sent as the ETag", example = "0")
+        Long version) {
+}
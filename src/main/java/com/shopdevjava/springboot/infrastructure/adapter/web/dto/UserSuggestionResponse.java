@@ -0,0 +1,21 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for typeahead suggestions
+ */
+@Schema(description = "A user suggested while typing: just the fields shown in a suggestion list")
+public record UserSuggestionResponse(
+        @Schema(description = "Unique identifier of the user", example = "1")
+        Long id,
+
+        @Schema(description = "User's first name", example = "John")
+        String firstName,
+
+        @Schema(description = "User's last name", example = "Doe")
+        String lastName,
+
+        @Schema(description = "User's email address", example = "john.doe@example.com")
+        String email) {
+}
@@ -1,32 +1,98 @@
 package com.shopdevjava.springboot.infrastructure.config;
 
 import com.shopdevjava.springboot.application.port.in.UserUseCase;
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
 import com.shopdevjava.springboot.application.service.UserService;
+import com.shopdevjava.springboot.domain.repository.UserCountRepository;
 import com.shopdevjava.springboot.domain.repository.UserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.BloomFilterUserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.CachingUserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.TypeaheadUserRepository;
 import com.shopdevjava.springboot.infrastructure.adapter.persistence.UserRepositoryAdapter;
-import com.shopdevjava.springboot.infrastructure.adapter.persistence.repository.JpaUserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.web.RequestTimings;
+import com.shopdevjava.springboot.infrastructure.adapter.web.UserEventStream;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
 
 /**
  * Configuration class for dependency injection
  */
 @Configuration
+@Profile("!reactive")
 public class BeanConfiguration {
 
     /**
-     * Creates a UserRepository bean that adapts the JPA repository
+     * Creates the UserRepository used by the application: email lookups are screened by
+     * a Bloom filter, typeahead is served by the in-memory index, and everything else by
+     * the cache, then by the database
+     */
+    @Bean
+    @Primary
+    public BloomFilterUserRepository userRepository(TypeaheadUserRepository typeaheadUserRepository,
+                                                    @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        return new BloomFilterUserRepository(typeaheadUserRepository, falsePositiveRate);
+    }
+
+    /**
+     * Creates a UserRepository that keeps the typeahead index in step with user changes,
+     * and as an event sink with those made through other instances, loaded past the cache.
+     * The index is only built, and memory only spent, when user.typeahead.enabled is set.
+     */
+    @Bean
+    public TypeaheadUserRepository typeaheadUserRepository(CachingUserRepository cachingUserRepository,
+                                                           UserRepositoryAdapter userRepositoryAdapter) {
+        return new TypeaheadUserRepository(cachingUserRepository, userRepositoryAdapter);
+    }
+
+    /**
+     * Creates a UserRepository bean that caches reads from the JPA/JDBC adapter.
+     * The adapter stays a bean of its own so its transactional proxy is kept, and is
+     * timed as user.repository, so only the calls that miss the cache are measured.
      */
     @Bean
-    public UserRepository userRepository(JpaUserRepository jpaUserRepository) {
-        return new UserRepositoryAdapter(jpaUserRepository);
+    public CachingUserRepository cachingUserRepository(UserRepositoryAdapter userRepositoryAdapter,
+                                                MeterRegistry meterRegistry,
+                                                @Value("${user.cache.maximum-size:10000}") long maximumSize,
+                                                @Value("${user.cache.ttl:10m}") Duration ttl,
+                                                @Value("${user.cache.negative-ttl:30s}") Duration negativeTtl) {
+        UserRepository meteredAdapter = MeteredProxy.create(UserRepository.class, userRepositoryAdapter,
+                meterRegistry, "user.repository", RequestTimings.Layer.REPOSITORY);
+        return new CachingUserRepository(meteredAdapter, maximumSize, ttl, negativeTtl);
+    }
+    
+    /**
+     * Creates the Server-Sent Events sink for user change events
+     */
+    @Bean(destroyMethod = "shutdown")
+    public UserEventStream userEventStream(@Value("${user.events.max-subscribers:1000}") int maxSubscribers,
+                                           @Value("${user.events.subscriber-queue-capacity:1000}") int queueCapacity,
+                                           @Value("${user.events.sender-threads:4}") int senderThreads) {
+        return new UserEventStream(maxSubscribers, queueCapacity, senderThreads);
     }
     
     /**
-     * Creates a UserUseCase bean that implements the application service
+     * Creates the application service; a bean of its own so its transactional proxy is kept
+     */
+    @Bean
+    public UserService userService(UserRepository userRepository, UserCountRepository userCountRepository,
+                                   PasswordHasher passwordHasher) {
+        return new UserService(userRepository, userCountRepository, passwordHasher);
+    }
+
+    /**
+     * Creates the UserUseCase used by the controllers: the application service, timed as
+     * user.usecase
      */
     @Bean
-    public UserUseCase userUseCase(UserRepository userRepository) {
-        return new UserService(userRepository);
+    @Primary
+    public UserUseCase userUseCase(UserService userService, MeterRegistry meterRegistry) {
+        return MeteredProxy.create(UserUseCase.class, userService, meterRegistry, "user.usecase",
+                RequestTimings.Layer.SERVICE);
     }
-} 
\ No newline at end of file
+}
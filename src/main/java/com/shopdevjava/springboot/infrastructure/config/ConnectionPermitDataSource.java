@@ -0,0 +1,183 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource that admits at most {@code permits} open connections at a time.
+ * With virtual threads there is no longer a request-thread limit in front of the
+ * connection pool, so callers wait here on a fair semaphore (which parks the virtual
+ * thread without pinning its carrier) instead of piling up inside the pool's own
+ * handoff queue. The permit is released when the connection is closed.
+ *
+ * <p>Because callers queue here, the pool's own pending-threads gauge stays at zero under
+ * saturation; {@link #bindTo} publishes the permits in use, the callers waiting and the
+ * time spent waiting instead.
+ */
+public class ConnectionPermitDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMillis;
+    private volatile Timer acquireTimer;
+    private volatile Counter timeoutCounter;
+
+    public ConnectionPermitDataSource(DataSource targetDataSource, int permits, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(permits, true);
+        this.maxPermits = permits;
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        try {
+            return withPermitRelease(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquirePermit();
+        try {
+            return withPermitRelease(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Number of connections that can currently be handed out without waiting
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Number of connections handed out and not yet closed
+     */
+    public int permitsInUse() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    /**
+     * Estimated number of callers waiting for a permit
+     */
+    public int waitingCallers() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Registers gauges for the permits in use, the callers waiting and the permit count,
+     * a timer for the wait for a permit and a counter of waits that timed out, all tagged
+     * with {@code pool}
+     */
+    public void bindTo(MeterRegistry registry, String pool) {
+        Gauge.builder("jdbc.connections.permits.active", this, ConnectionPermitDataSource::permitsInUse)
+                .description("Connections handed out through the permit gate")
+                .tag("pool", pool)
+                .register(registry);
+        Gauge.builder("jdbc.connections.permits.pending", this, ConnectionPermitDataSource::waitingCallers)
+                .description("Callers waiting for a connection permit")
+                .tag("pool", pool)
+                .register(registry);
+        Gauge.builder("jdbc.connections.permits.max", this, dataSource -> dataSource.maxPermits)
+                .description("Connection permits, one per pooled connection")
+                .tag("pool", pool)
+                .register(registry);
+        acquireTimer = Timer.builder("jdbc.connections.permits.acquire")
+                .description("Time spent waiting for a connection permit")
+                .tag("pool", pool)
+                .register(registry);
+        timeoutCounter = Counter.builder("jdbc.connections.permits.timeout")
+                .description("Waits for a connection permit that timed out")
+                .tag("pool", pool)
+                .register(registry);
+    }
+
+    private void acquirePermit() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            boolean acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+            Timer timer = acquireTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            if (!acquired) {
+                Counter counter = timeoutCounter;
+                if (counter != null) {
+                    counter.increment();
+                }
+                throw new SQLTransientConnectionException(
+                        "Connection is not available, request timed out after " + acquireTimeoutMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    private Connection withPermitRelease(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new PermitReleasingHandler(connection));
+    }
+
+    /**
+     * Releases the permit exactly once, on the first close of the connection
+     */
+    private class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                default:
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+            }
+        }
+    }
+}
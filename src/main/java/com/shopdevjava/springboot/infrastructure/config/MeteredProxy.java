@@ -0,0 +1,109 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.infrastructure.adapter.web.RequestTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call through an interface, so a port is measured without touching its
+ * implementations. Each method gets a timer named {@code name} tagged with the method and
+ * the exception thrown ({@code none} on success); a {@link UserException} also increments
+ * {@code name.exceptions}, tagged with the method and its type. Overloads share a method tag.
+ * Given a layer, the time is also added to the current request's {@link RequestTimings}.
+ *
+ * <p>Successful calls, the hot path, use timers looked up once when the proxy is created,
+ * so a call costs two clock reads and a histogram update.
+ */
+public final class MeteredProxy implements InvocationHandler {
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final Object target;
+    private final MeterRegistry registry;
+    private final String name;
+    private final RequestTimings.Layer layer;
+    private final Map<Method, Timer> timers = new HashMap<>();
+
+    private MeteredProxy(Class<?> port, Object target, MeterRegistry registry, String name, RequestTimings.Layer layer) {
+        this.target = target;
+        this.registry = registry;
+        this.name = name;
+        this.layer = layer;
+        for (Method method : port.getMethods()) {
+            timers.put(method, timer(method, NO_EXCEPTION));
+        }
+    }
+
+    /**
+     * Wraps {@code target} in a proxy implementing {@code port} that times each call as {@code name}
+     */
+    public static <T> T create(Class<T> port, T target, MeterRegistry registry, String name) {
+        return create(port, target, registry, name, null);
+    }
+
+    /**
+     * Wraps {@code target} in a proxy implementing {@code port} that times each call as
+     * {@code name} and, for sampled requests, as time spent in {@code layer}
+     */
+    public static <T> T create(Class<T> port, T target, MeterRegistry registry, String name, RequestTimings.Layer layer) {
+        return port.cast(Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[] {port},
+                new MeteredProxy(port, target, registry, name, layer)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Timer timer = timers.get(method);
+        if (timer == null) {
+            // equals, hashCode and toString
+            return invokeTarget(method, args);
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = invokeTarget(method, args);
+            record(timer, System.nanoTime() - start);
+            return result;
+        } catch (Throwable e) {
+            record(timer(method, e.getClass().getSimpleName()), System.nanoTime() - start);
+            if (e instanceof UserException userException) {
+                Counter.builder(name + ".exceptions")
+                        .tag("method", method.getName())
+                        .tag("type", userException.getType().name())
+                        .register(registry)
+                        .increment();
+            }
+            throw e;
+        }
+    }
+
+    private void record(Timer timer, long nanos) {
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+        if (layer != null) {
+            RequestTimings.record(layer, nanos);
+        }
+    }
+
+    private Object invokeTarget(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private Timer timer(Method method, String exception) {
+        return Timer.builder(name)
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .register(registry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import com.shopdevjava.springboot.infrastructure.adapter.security.BCryptPasswordHasher;
+import com.shopdevjava.springboot.infrastructure.adapter.security.BoundedPasswordHasher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of password hashing, shared by the servlet and reactive stacks
+ */
+@Configuration
+public class PasswordHashingConfiguration {
+
+    /**
+     * Creates the PasswordHasher bean: BCrypt on a pool sized to the cores unless
+     * {@code user.password.hashing-threads} is set
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordHasher passwordHasher(@Value("${user.password.bcrypt-strength:10}") int strength,
+                                                @Value("${user.password.hashing-threads:0}") int threads,
+                                                @Value("${user.password.hashing-queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordHasher(new BCryptPasswordHasher(strength), poolSize, queueCapacity);
+    }
+}
@@ -0,0 +1,47 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import com.shopdevjava.springboot.application.port.in.ReactiveUserUseCase;
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
+import com.shopdevjava.springboot.application.service.ReactiveUserService;
+import com.shopdevjava.springboot.domain.repository.ReactiveUserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.R2dbcUserRepositoryAdapter;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Configuration class for dependency injection of the non-blocking stack,
+ * active with the "reactive" profile in place of {@link BeanConfiguration}
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveBeanConfiguration {
+
+    /**
+     * Creates a ReactiveUserRepository bean that adapts the R2DBC client
+     */
+    @Bean
+    public ReactiveUserRepository reactiveUserRepository(DatabaseClient databaseClient) {
+        return new R2dbcUserRepositoryAdapter(databaseClient);
+    }
+
+    /**
+     * Creates a ReactiveUserUseCase bean that implements the application service
+     */
+    @Bean
+    public ReactiveUserUseCase reactiveUserUseCase(ReactiveUserRepository reactiveUserRepository,
+                                                   PasswordHasher passwordHasher) {
+        return new ReactiveUserService(reactiveUserRepository, passwordHasher);
+    }
+
+    /**
+     * Serves on Netty event loops; Tomcat is also on the classpath for the servlet stack
+     * and would otherwise be picked
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
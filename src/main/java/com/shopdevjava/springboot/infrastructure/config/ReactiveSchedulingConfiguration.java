@@ -0,0 +1,41 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.CachingRevokedTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Instant;
+
+/**
+ * Background tasks of the reactive stack, in place of {@link SchedulingConfiguration}.
+ * They block on the database, so they run on scheduler threads, never on an event loop.
+ */
+@Configuration
+@EnableScheduling
+@Profile("reactive")
+public class ReactiveSchedulingConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveSchedulingConfiguration.class);
+
+    private final CachingRevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    public ReactiveSchedulingConfiguration(CachingRevokedTokenRepository revokedTokenRepository) {
+        this.revokedTokenRepository = revokedTokenRepository;
+    }
+
+    /**
+     * Pulls in tokens revoked by other instances and purges revocations of expired tokens
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${security.jwt.revocation-refresh-interval:30s}")
+    public void refreshRevokedTokens() {
+        int purged = revokedTokenRepository.deleteExpired(Instant.now());
+        revokedTokenRepository.refresh();
+        log.debug("Refreshed {} revoked tokens, purged {} expired", revokedTokenRepository.size(), purged);
+    }
+}
@@ -0,0 +1,57 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.CachingRevokedTokenRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.R2dbcRevokedTokenRepositoryAdapter;
+import com.shopdevjava.springboot.infrastructure.adapter.security.JwtAuthenticationWebFilter;
+import com.shopdevjava.springboot.infrastructure.adapter.security.JwtCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * Configuration of token authentication for the reactive stack, active with the
+ * "reactive" profile in place of {@link SecurityConfiguration}. Tokens issued by servlet
+ * instances are accepted here; revocations are pulled in by
+ * {@link ReactiveSchedulingConfiguration}.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveSecurityConfiguration {
+
+    /**
+     * Creates the JWT codec; the signing key is decoded once here
+     */
+    @Bean
+    public JwtCodec jwtCodec(@Value("${security.jwt.secret}") String secret,
+                             @Value("${security.jwt.expiration:86400000}") long expirationMillis) {
+        return new JwtCodec(secret, Duration.ofMillis(expirationMillis));
+    }
+
+    /**
+     * Creates the RevokedTokenRepository used by the application, which answers
+     * revocation checks from memory
+     */
+    @Bean
+    @Primary
+    public CachingRevokedTokenRepository revokedTokenRepository(R2dbcRevokedTokenRepositoryAdapter revokedTokenRepositoryAdapter) {
+        return new CachingRevokedTokenRepository(revokedTokenRepositoryAdapter);
+    }
+
+    /**
+     * Puts the authentication filter in front of the user endpoints.
+     * Set {@code security.jwt.enabled=false} to run without authentication.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "security.jwt.enabled", havingValue = "true", matchIfMissing = true)
+    public JwtAuthenticationWebFilter jwtAuthenticationWebFilter(JwtCodec jwtCodec,
+                                                                 CachingRevokedTokenRepository revokedTokenRepository,
+                                                                 ObjectMapper objectMapper) {
+        return new JwtAuthenticationWebFilter(jwtCodec, revokedTokenRepository, objectMapper);
+    }
+}
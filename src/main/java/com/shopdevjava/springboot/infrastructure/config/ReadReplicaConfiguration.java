@@ -0,0 +1,82 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.ReadWriteRoutingDataSource;
+import com.shopdevjava.springboot.infrastructure.adapter.web.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read replica support, switched on by setting {@code datasource.replica.url}.
+ * Replaces Spring Boot's single pool with a primary pool, a replica pool and the
+ * routing DataSource in front of them; without a replica URL everything keeps using
+ * the auto-configured primary.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnExpression("!'${datasource.replica.url:}'.isEmpty()")
+public class ReadReplicaConfiguration {
+
+    /**
+     * Creates the primary pool from the usual {@code spring.datasource} properties
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Creates the replica pool; driver and timeouts are shared with the primary
+     */
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username}") String username,
+                                              @Value("${datasource.replica.password}") String password,
+                                              @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+                                              @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeout) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setConnectionTimeout(connectionTimeout);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Creates the DataSource used by JPA, JdbcTemplate and Flyway
+     */
+    @Bean
+    @Primary
+    public ReadWriteRoutingDataSource dataSource(DataSource primaryDataSource, DataSource replicaDataSource) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource);
+    }
+
+    /**
+     * Tracks each client's read-your-writes window across requests, in a cookie signed
+     * with the JWT secret unless a key of its own is set
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${datasource.replica.read-your-writes-window:5s}") Duration window,
+            @Value("${datasource.replica.read-your-writes-secret:${security.jwt.secret}}") String secret) {
+        return new FilterRegistrationBean<>(new ReadYourWritesFilter(window, secret));
+    }
+}
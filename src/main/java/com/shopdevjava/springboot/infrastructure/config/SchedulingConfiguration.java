@@ -0,0 +1,131 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import com.shopdevjava.springboot.application.service.UserEventRelay;
+import com.shopdevjava.springboot.domain.repository.UserCountRepository;
+import com.shopdevjava.springboot.domain.repository.UserOutboxRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.BloomFilterUserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.CachingRevokedTokenRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.TypeaheadUserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Background maintenance tasks. Each job needs its own scheduler thread
+ * ({@code spring.task.scheduling.pool.size}); on a shared thread the long rebuilds
+ * would delay the event relay and the revoked-token refresh.
+ */
+@Configuration
+@EnableScheduling
+@Profile("!reactive")
+public class SchedulingConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulingConfiguration.class);
+
+    private final BloomFilterUserRepository userRepository;
+    private final CachingRevokedTokenRepository revokedTokenRepository;
+    private final UserEventRelay userEventRelay;
+    private final UserOutboxRepository userOutboxRepository;
+    private final Duration eventRetention;
+    private final TypeaheadUserRepository typeaheadUserRepository;
+    private final boolean typeaheadEnabled;
+    private final UserCountRepository userCountRepository;
+
+    @Autowired
+    public SchedulingConfiguration(BloomFilterUserRepository userRepository,
+                                   CachingRevokedTokenRepository revokedTokenRepository,
+                                   UserEventRelay userEventRelay,
+                                   UserOutboxRepository userOutboxRepository,
+                                   @Value("${user.events.retention:1h}") Duration eventRetention,
+                                   TypeaheadUserRepository typeaheadUserRepository,
+                                   @Value("${user.typeahead.enabled:false}") boolean typeaheadEnabled,
+                                   UserCountRepository userCountRepository) {
+        this.userRepository = userRepository;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userEventRelay = userEventRelay;
+        this.userOutboxRepository = userOutboxRepository;
+        this.eventRetention = eventRetention;
+        this.typeaheadUserRepository = typeaheadUserRepository;
+        this.typeaheadEnabled = typeaheadEnabled;
+        this.userCountRepository = userCountRepository;
+    }
+
+    /**
+     * Builds the email filter right after startup, then rebuilds it periodically to
+     * forget the emails of deleted and renamed users
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${user.email-filter.rebuild-interval:1h}")
+    public void rebuildEmailFilter() {
+        long start = System.nanoTime();
+        userRepository.rebuild();
+        log.info("Rebuilt email filter in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Builds the typeahead index right after startup when it is enabled, then rebuilds it
+     * periodically to compact the entries of changed and deleted users
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${user.typeahead.rebuild-interval:1h}")
+    public void rebuildTypeaheadIndex() {
+        if (!typeaheadEnabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        typeaheadUserRepository.rebuild();
+        log.info("Rebuilt typeahead index of {} users in {} ms", typeaheadUserRepository.indexedCount(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Corrects the maintained user count for users created or deleted behind the
+     * application's back
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${user.count.reconcile-interval:1h}")
+    public void reconcileUserCount() {
+        long correction = userCountRepository.reconcile();
+        if (correction != 0) {
+            log.warn("Corrected the user count by {}", correction);
+        }
+    }
+
+    /**
+     * Pulls in tokens revoked by other instances and purges revocations of expired tokens
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${security.jwt.revocation-refresh-interval:30s}")
+    public void refreshRevokedTokens() {
+        int purged = revokedTokenRepository.deleteExpired(Instant.now());
+        revokedTokenRepository.refresh();
+        log.debug("Refreshed {} revoked tokens, purged {} expired", revokedTokenRepository.size(), purged);
+    }
+
+    /**
+     * Relays committed user change events from the outbox to the sinks
+     */
+    @Scheduled(fixedDelayString = "${user.events.relay-interval:200ms}")
+    public void relayUserEvents() {
+        int relayed = userEventRelay.relayPending();
+        if (relayed > 0) {
+            log.debug("Relayed {} user change events", relayed);
+        }
+    }
+
+    /**
+     * Deletes user change events past the retention period, by which time every
+     * instance has relayed them
+     */
+    @Scheduled(fixedDelayString = "${user.events.purge-interval:1m}")
+    public void purgeUserEvents() {
+        int purged = userOutboxRepository.deleteOccurredBefore(Instant.now().minus(eventRetention));
+        if (purged > 0) {
+            log.debug("Purged {} relayed user change events", purged);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.CachingRevokedTokenRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.RevokedTokenRepositoryAdapter;
+import com.shopdevjava.springboot.infrastructure.adapter.security.JwtAuthenticationFilter;
+import com.shopdevjava.springboot.infrastructure.adapter.security.JwtCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * Configuration of token authentication for the servlet stack
+ */
+@Configuration
+@Profile("!reactive")
+public class SecurityConfiguration {
+
+    /**
+     * Creates the JWT codec; the signing key is decoded once here
+     */
+    @Bean
+    public JwtCodec jwtCodec(@Value("${security.jwt.secret}") String secret,
+                             @Value("${security.jwt.expiration:86400000}") long expirationMillis) {
+        return new JwtCodec(secret, Duration.ofMillis(expirationMillis));
+    }
+
+    /**
+     * Creates the RevokedTokenRepository used by the application, which answers
+     * revocation checks from memory
+     */
+    @Bean
+    @Primary
+    public CachingRevokedTokenRepository revokedTokenRepository(RevokedTokenRepositoryAdapter revokedTokenRepositoryAdapter) {
+        return new CachingRevokedTokenRepository(revokedTokenRepositoryAdapter);
+    }
+
+    /**
+     * Puts the authentication filter in front of the user endpoints and logout.
+     * Set {@code security.jwt.enabled=false} to run without authentication.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "security.jwt.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilter(JwtCodec jwtCodec,
+                                                                                 CachingRevokedTokenRepository revokedTokenRepository,
+                                                                                 ObjectMapper objectMapper) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(
+                new JwtAuthenticationFilter(jwtCodec, revokedTokenRepository, objectMapper));
+        registration.addUrlPatterns("/v1/api/users/*", "/v1/api/users:batch", "/v1/api/auth/logout");
+        return registration;
+    }
+}
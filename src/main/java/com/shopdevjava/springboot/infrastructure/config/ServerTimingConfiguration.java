@@ -0,0 +1,51 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import com.shopdevjava.springboot.infrastructure.adapter.web.RequestTimings;
+import com.shopdevjava.springboot.infrastructure.adapter.web.ServerTimingFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Server-Timing breakdown of a sampled share of user API requests, set by
+ * {@code user.server-timing.sample-rate} (0 turns it off, 1 times every request)
+ */
+@Configuration
+@Profile("!reactive")
+public class ServerTimingConfiguration implements WebMvcConfigurer {
+
+    /**
+     * Puts the timing filter just inside the SQL statement filter, whose log it reads
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${user.server-timing.sample-rate:0.01}") double sampleRate) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+                new ServerTimingFilter(sampleRate));
+        registration.addUrlPatterns("/v1/api/users/*", "/v1/api/users:batch");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    /**
+     * Marks when each request reaches its controller, separating filters from handling
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                RequestTimings.handlerStarted();
+                return true;
+            }
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.StatementCountingDataSource;
+import com.shopdevjava.springboot.infrastructure.adapter.web.SqlStatementFilter;
+import com.shopdevjava.springboot.infrastructure.adapter.web.SqlStatementTaskDecorator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statement accounting, on unless {@code datasource.statements.enabled}
+ * is false
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "datasource.statements.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementConfiguration {
+
+    /**
+     * Wraps the application's DataSource, after any other wrapper, in one that records
+     * the statements executed on it. Only the bean named dataSource is wrapped, so pools
+     * behind a routing DataSource are not counted twice.
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Puts the statement log around every request, outside the other filters
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(
+            @Value("${datasource.statements.query-budget:10}") int queryBudget,
+            @Value("${datasource.statements.repeat-threshold:5}") int repeatThreshold,
+            @Value("${datasource.statements.headers:false}") boolean headers) {
+        FilterRegistrationBean<SqlStatementFilter> registration = new FilterRegistrationBean<>(
+                new SqlStatementFilter(queryBudget, repeatThreshold, headers));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Picked up by Spring Boot for the application task executor, which runs MVC async
+     * work, so streamed exports are counted with the request that started them
+     */
+    @Bean
+    public TaskDecorator sqlStatementTaskDecorator() {
+        return new SqlStatementTaskDecorator();
+    }
+}
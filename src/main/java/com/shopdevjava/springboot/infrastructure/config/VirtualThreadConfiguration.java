@@ -0,0 +1,65 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Virtual-thread execution mode, switched on with {@code spring.threads.virtual.enabled}.
+ * Spring Boot then runs Tomcat requests, MVC async work (streaming exports) and the
+ * application task executor on virtual threads; this configuration adds the
+ * connection gate that keeps the unbounded request concurrency off the JDBC pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    /**
+     * Wraps the Hikari pool in a semaphore with one permit per pooled connection, and
+     * publishes the semaphore's gauges when metrics are on
+     */
+    @Bean
+    public static ConnectionPermitPostProcessor connectionPermitPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConnectionPermitPostProcessor(meterRegistry);
+    }
+
+    /**
+     * Ordered, so it runs before unordered post-processors that wrap the DataSource
+     * and would hide the Hikari pool from it. Spring sorts post-processors by the
+     * declared bean type, which is why the factory method returns this class.
+     */
+    static final class ConnectionPermitPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        ConnectionPermitPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                ConnectionPermitDataSource gate = new ConnectionPermitDataSource(hikari, hikari.getMaximumPoolSize(),
+                        Duration.ofMillis(hikari.getConnectionTimeout()));
+                MeterRegistry registry = meterRegistry.getIfAvailable();
+                if (registry != null) {
+                    gate.bindTo(registry, hikari.getPoolName() != null ? hikari.getPoolName() : beanName);
+                }
+                return gate;
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
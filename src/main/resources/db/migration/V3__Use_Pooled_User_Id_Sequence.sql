@@ -0,0 +1,3 @@
+-- Hibernate reserves ids in blocks of 50 (pooled optimizer) so inserts can be
+-- JDBC-batched; the sequence increment must match the entity allocationSize.
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
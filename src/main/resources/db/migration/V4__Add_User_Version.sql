@@ -0,0 +1,2 @@
+-- Optimistic-locking version, also the source of user ETags
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
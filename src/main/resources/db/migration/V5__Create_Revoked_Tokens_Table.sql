@@ -0,0 +1,8 @@
+-- Access tokens revoked before their expiry, e.g. on logout
+CREATE TABLE revoked_tokens (
+    token_id VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Expired revocations are purged periodically
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
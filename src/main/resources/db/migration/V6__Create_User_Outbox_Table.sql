@@ -0,0 +1,8 @@
+-- User change events written with the change and drained by the relay;
+-- rows only live until they are relayed, so the primary key is the only index
+CREATE TABLE user_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(16) NOT NULL,
+    user_id BIGINT NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
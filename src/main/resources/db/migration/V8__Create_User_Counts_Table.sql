@@ -0,0 +1,9 @@
+-- Exact user count kept up to date by the transactions that create and delete users.
+-- Writers add their delta to a random shard so they do not all queue on one row lock;
+-- the count is the sum of the shards.
+CREATE TABLE user_counts (
+    shard SMALLINT PRIMARY KEY,
+    user_count BIGINT NOT NULL
+);
+
+INSERT INTO user_counts (shard, user_count) SELECT 0, count(*) FROM users;
@@ -0,0 +1,10 @@
+-- Every instance tails the outbox from a position of its own instead of claiming rows,
+-- so events are kept for a retention period. Rows are read in order of the transaction
+-- that wrote them, and only once every transaction up to it has finished, so a late
+-- commit can never land behind a reader's position.
+ALTER TABLE user_outbox ADD COLUMN tx_id BIGINT NOT NULL DEFAULT (pg_current_xact_id()::text::bigint);
+
+CREATE INDEX idx_user_outbox_tx_id_id ON user_outbox (tx_id, id);
+
+-- Events past the retention period are purged periodically
+CREATE INDEX idx_user_outbox_occurred_at ON user_outbox (occurred_at);
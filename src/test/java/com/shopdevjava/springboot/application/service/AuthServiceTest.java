@@ -0,0 +1,119 @@
+package com.shopdevjava.springboot.application.service;
+
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
+import com.shopdevjava.springboot.application.port.out.TokenIssuer;
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.domain.model.AccessToken;
+import com.shopdevjava.springboot.domain.model.TokenClaims;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.repository.RevokedTokenRepository;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private TokenIssuer tokenIssuer;
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private AuthService authService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordHasher.hash(anyString())).thenReturn("hashed-unknown-user");
+        authService = new AuthService(userRepository, passwordHasher, tokenIssuer, revokedTokenRepository);
+
+        testUser = new User("John", "Doe", "john.doe@example.com", "hashed-password123");
+        testUser.setId(1L);
+    }
+
+    @Test
+    @DisplayName("Login - Issues a token for valid credentials")
+    void login_ValidCredentials_IssuesToken() {
+        // Arrange
+        AccessToken token = new AccessToken("token", new TokenClaims(1L, "id", Instant.now(), Instant.now()));
+        when(userRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordHasher.matches("password123", "hashed-password123")).thenReturn(true);
+        when(tokenIssuer.issue(1L)).thenReturn(token);
+
+        // Act
+        AccessToken result = authService.login("john.doe@example.com", "password123");
+
+        // Assert
+        assertSame(token, result);
+    }
+
+    @Test
+    @DisplayName("Login - Rejects a wrong password")
+    void login_WrongPassword_ThrowsUnauthorized() {
+        // Arrange
+        when(userRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordHasher.matches("wrong", "hashed-password123")).thenReturn(false);
+
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class,
+                () -> authService.login("john.doe@example.com", "wrong"));
+        assertEquals(UserException.UserExceptionType.UNAUTHORIZED, exception.getType());
+        verify(tokenIssuer, never()).issue(anyLong());
+    }
+
+    @Test
+    @DisplayName("Login - Unknown email still costs a password check")
+    void login_UnknownEmail_ChecksPasswordAndThrowsUnauthorized() {
+        // Arrange
+        when(userRepository.findByEmail("nobody@example.com")).thenReturn(Optional.empty());
+        when(passwordHasher.matches("password123", "hashed-unknown-user")).thenReturn(true);
+
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class,
+                () -> authService.login("nobody@example.com", "password123"));
+        assertEquals(UserException.UserExceptionType.UNAUTHORIZED, exception.getType());
+        verify(passwordHasher).matches("password123", "hashed-unknown-user");
+        verify(tokenIssuer, never()).issue(anyLong());
+    }
+
+    @Test
+    @DisplayName("Construction - The unknown-user hash comes from the configured hasher, at its cost")
+    void constructor_HashesUnknownUserPasswordOnce() {
+        // Assert
+        verify(passwordHasher, times(1)).hash(anyString());
+    }
+
+    @Test
+    @DisplayName("Logout - Revokes the token until it expires")
+    void logout_RevokesToken() {
+        // Arrange
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        TokenClaims claims = new TokenClaims(1L, "token-id", Instant.now(), expiresAt);
+
+        // Act
+        authService.logout(claims);
+
+        // Assert
+        verify(revokedTokenRepository).revoke("token-id", expiresAt);
+    }
+}
@@ -0,0 +1,156 @@
+package com.shopdevjava.springboot.application.service;
+
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.repository.ReactiveUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveUserServiceTest {
+
+    @Mock
+    private ReactiveUserRepository userRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @InjectMocks
+    private ReactiveUserService userService;
+
+    private User testUser1;
+    private User testUser2;
+
+    @BeforeEach
+    void setUp() {
+        testUser1 = new User("John", "Doe", "john.doe@example.com", "password123");
+        testUser1.setId(1L);
+        testUser1.setCreatedAt(LocalDateTime.now());
+        testUser1.setVersion(0L);
+
+        testUser2 = new User("Jane", "Smith", "jane.smith@example.com", "password456");
+        testUser2.setId(2L);
+        testUser2.setCreatedAt(LocalDateTime.now());
+        testUser2.setVersion(0L);
+    }
+
+    @Test
+    @DisplayName("List Users - Returns page with cursor when more users exist")
+    void listUsers_MoreUsersExist_ReturnsPageWithCursor() {
+        // Arrange
+        User testUser3 = new User("Jim", "Beam", "jim.beam@example.com", "password789");
+        testUser3.setId(3L);
+        when(userRepository.findPage(null, 3)).thenReturn(Flux.just(testUser1, testUser2, testUser3));
+
+        // Act & Assert
+        StepVerifier.create(userService.listUsers(null, 2))
+                .assertNext(page -> {
+                    assertEquals(List.of(testUser1, testUser2), page.users());
+                    assertEquals(UserCursor.of(testUser2), page.nextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Get User By ID - Errors with not found when user is missing")
+    void getUserById_UserNotFound_ErrorsWithNotFound() {
+        // Arrange
+        when(userRepository.findById(999L)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(userService.getUserById(999L))
+                .expectErrorSatisfies(error -> assertEquals(UserException.UserExceptionType.NOT_FOUND,
+                        ((UserException) error).getType()))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Get Users By IDs - Preserves request order and reports missing ids")
+    void getUsersByIds_ReturnsUsersInRequestOrder() {
+        // Arrange
+        when(userRepository.findAllByIds(anyCollection())).thenReturn(Flux.just(testUser1, testUser2));
+
+        // Act & Assert
+        StepVerifier.create(userService.getUsersByIds(List.of(2L, 9L, 1L)))
+                .assertNext(lookup -> {
+                    assertEquals(List.of(testUser2, testUser1), lookup.users());
+                    assertEquals(List.of(9L), lookup.missingIds());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Create User - Saves user when email is free")
+    void createUser_EmailFree_SavesUser() {
+        // Arrange
+        when(userRepository.existsByEmail(testUser1.getEmail())).thenReturn(Mono.just(false));
+        when(passwordHasher.hash("password123")).thenReturn("hashed-password123");
+        when(userRepository.save(testUser1)).thenReturn(Mono.just(testUser1));
+
+        // Act & Assert
+        StepVerifier.create(userService.createUser(testUser1))
+                .expectNext(testUser1)
+                .verifyComplete();
+        assertEquals("hashed-password123", testUser1.getPassword());
+    }
+
+    @Test
+    @DisplayName("Create User - Errors with duplicate email without saving")
+    void createUser_DuplicateEmail_ErrorsWithoutSaving() {
+        // Arrange
+        when(userRepository.existsByEmail(testUser1.getEmail())).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(userService.createUser(testUser1))
+                .expectErrorSatisfies(error -> assertEquals(UserException.UserExceptionType.DUPLICATE_EMAIL,
+                        ((UserException) error).getType()))
+                .verify();
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Conditional Update - Errors with version conflict when version differs")
+    void updateUserConditionally_StaleVersion_ErrorsWithVersionConflict() {
+        // Arrange
+        when(userRepository.updateIfVersionMatches(eq(1L), any(User.class), eq(2L))).thenReturn(Mono.empty());
+        when(userRepository.existsById(1L)).thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(userService.updateUser(1L, testUser1, 2L))
+                .expectErrorSatisfies(error -> assertEquals(UserException.UserExceptionType.VERSION_CONFLICT,
+                        ((UserException) error).getType()))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Delete User - Errors with not found without deleting")
+    void deleteUser_UserNotFound_ErrorsWithoutDeleting() {
+        // Arrange
+        when(userRepository.existsById(999L)).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(userService.deleteUser(999L))
+                .expectError(UserException.class)
+                .verify();
+        verify(userRepository, never()).deleteById(any());
+    }
+}
@@ -0,0 +1,129 @@
+package com.shopdevjava.springboot.application.service;
+
+import com.shopdevjava.springboot.application.port.out.UserChangeEventSink;
+import com.shopdevjava.springboot.domain.model.UserChangeEvent;
+import com.shopdevjava.springboot.domain.model.UserChangeType;
+import com.shopdevjava.springboot.domain.model.UserOutboxBatch;
+import com.shopdevjava.springboot.domain.model.UserOutboxPosition;
+import com.shopdevjava.springboot.domain.repository.UserOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserEventRelayTest {
+
+    @Mock
+    private UserOutboxRepository userOutboxRepository;
+
+    @Mock
+    private UserChangeEventSink firstSink;
+
+    @Mock
+    private UserChangeEventSink secondSink;
+
+    private UserEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new UserEventRelay(userOutboxRepository, List.of(firstSink, secondSink));
+    }
+
+    @Test
+    @DisplayName("Relay - Reads full batches from the head until a short one and fans out to every sink")
+    void relayPending_ReadsUntilShortBatch() {
+        // Arrange
+        List<UserChangeEvent> full = events(0, UserEventRelay.BATCH_SIZE);
+        List<UserChangeEvent> partial = events(UserEventRelay.BATCH_SIZE, 3);
+        UserOutboxPosition head = new UserOutboxPosition(7, Long.MAX_VALUE);
+        UserOutboxPosition afterFull = new UserOutboxPosition(8, UserEventRelay.BATCH_SIZE - 1);
+        UserOutboxPosition afterPartial = new UserOutboxPosition(9, UserEventRelay.BATCH_SIZE + 2);
+        when(userOutboxRepository.head()).thenReturn(head);
+        when(userOutboxRepository.readAfter(head, UserEventRelay.BATCH_SIZE))
+                .thenReturn(new UserOutboxBatch(full, afterFull));
+        when(userOutboxRepository.readAfter(afterFull, UserEventRelay.BATCH_SIZE))
+                .thenReturn(new UserOutboxBatch(partial, afterPartial));
+
+        // Act
+        int relayed = relay.relayPending();
+
+        // Assert
+        assertEquals(UserEventRelay.BATCH_SIZE + 3, relayed);
+        verify(firstSink).publish(full);
+        verify(firstSink).publish(partial);
+        verify(secondSink).publish(full);
+        verify(secondSink).publish(partial);
+    }
+
+    @Test
+    @DisplayName("Relay - Continues from where the previous relay stopped")
+    void relayPending_ContinuesFromPosition() {
+        // Arrange
+        List<UserChangeEvent> first = events(0, 1);
+        List<UserChangeEvent> second = events(1, 1);
+        UserOutboxPosition head = new UserOutboxPosition(7, Long.MAX_VALUE);
+        UserOutboxPosition afterFirst = new UserOutboxPosition(8, 0);
+        when(userOutboxRepository.head()).thenReturn(head);
+        when(userOutboxRepository.readAfter(head, UserEventRelay.BATCH_SIZE))
+                .thenReturn(new UserOutboxBatch(first, afterFirst));
+        when(userOutboxRepository.readAfter(afterFirst, UserEventRelay.BATCH_SIZE))
+                .thenReturn(new UserOutboxBatch(second, new UserOutboxPosition(9, 1)));
+
+        // Act
+        relay.relayPending();
+        relay.relayPending();
+
+        // Assert
+        verify(userOutboxRepository).head();
+        verify(firstSink).publish(first);
+        verify(firstSink).publish(second);
+    }
+
+    @Test
+    @DisplayName("Relay - Empty outbox publishes nothing")
+    void relayPending_EmptyOutbox_PublishesNothing() {
+        // Arrange
+        UserOutboxPosition head = new UserOutboxPosition(7, Long.MAX_VALUE);
+        when(userOutboxRepository.head()).thenReturn(head);
+        when(userOutboxRepository.readAfter(head, UserEventRelay.BATCH_SIZE))
+                .thenReturn(new UserOutboxBatch(List.of(), head));
+
+        // Act & Assert
+        assertEquals(0, relay.relayPending());
+        verifyNoInteractions(firstSink, secondSink);
+    }
+
+    @Test
+    @DisplayName("Relay - A failing sink keeps the position, so the batch is relayed again")
+    void relayPending_SinkFails_RelaysBatchAgain() {
+        // Arrange
+        List<UserChangeEvent> batch = events(0, 1);
+        UserOutboxPosition head = new UserOutboxPosition(7, Long.MAX_VALUE);
+        when(userOutboxRepository.head()).thenReturn(head);
+        when(userOutboxRepository.readAfter(head, UserEventRelay.BATCH_SIZE))
+                .thenReturn(new UserOutboxBatch(batch, new UserOutboxPosition(8, 0)));
+        doThrow(new IllegalStateException("down")).doNothing().when(firstSink).publish(batch);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> relay.relayPending());
+        verifyNoInteractions(secondSink);
+        assertEquals(1, relay.relayPending());
+        verify(secondSink).publish(batch);
+    }
+
+    private static List<UserChangeEvent> events(long from, int count) {
+        return LongStream.range(from, from + count)
+                .mapToObj(sequence -> new UserChangeEvent(sequence, UserChangeType.CREATED, sequence, Instant.now()))
+                .toList();
+    }
+}
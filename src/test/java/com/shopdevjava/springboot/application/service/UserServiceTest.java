@@ -1,7 +1,20 @@
 package com.shopdevjava.springboot.application.service;
 
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
 import com.shopdevjava.springboot.domain.exception.UserException;
 import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserBatchResult;
+import com.shopdevjava.springboot.domain.model.UserCount;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.model.UserDeletion;
+import com.shopdevjava.springboot.domain.model.UserField;
+import com.shopdevjava.springboot.domain.model.UserLookup;
+import com.shopdevjava.springboot.domain.model.UserPage;
+import com.shopdevjava.springboot.domain.model.UserProjection;
+import com.shopdevjava.springboot.domain.model.UserProjectionPage;
+import com.shopdevjava.springboot.domain.model.UserSearchPage;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
+import com.shopdevjava.springboot.domain.repository.UserCountRepository;
 import com.shopdevjava.springboot.domain.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,14 +24,26 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -28,6 +53,12 @@ public class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCountRepository userCountRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
     @InjectMocks
     private UserService userService;
 
@@ -64,6 +95,108 @@ public class UserServiceTest {
         verify(userRepository).findAll();
     }
 
+    @Test
+    @DisplayName("List Users - Returns page with next cursor when more users exist")
+    void listUsers_MoreUsersExist_ReturnsPageWithCursor() {
+        // Arrange
+        User testUser3 = new User("Jim", "Beam", "jim.beam@example.com", "password789");
+        testUser3.setId(3L);
+        when(userRepository.findPage(null, 3)).thenReturn(Arrays.asList(testUser1, testUser2, testUser3));
+
+        // Act
+        UserPage page = userService.listUsers(null, 2);
+
+        // Assert
+        assertEquals(List.of(testUser1, testUser2), page.users());
+        assertTrue(page.hasNext());
+        assertEquals(UserCursor.of(testUser2), page.nextCursor());
+        verify(userRepository).findPage(null, 3);
+    }
+
+    @Test
+    @DisplayName("List Users - Returns last page without cursor")
+    void listUsers_LastPage_ReturnsPageWithoutCursor() {
+        // Arrange
+        UserCursor after = UserCursor.of(testUser1);
+        when(userRepository.findPage(after, 11)).thenReturn(List.of(testUser2));
+
+        // Act
+        UserPage page = userService.listUsers(after, 10);
+
+        // Assert
+        assertEquals(List.of(testUser2), page.users());
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("List Users - Caps the page size")
+    void listUsers_LimitAboveMaximum_IsCapped() {
+        // Arrange
+        when(userRepository.findPage(null, UserService.MAX_PAGE_SIZE + 1)).thenReturn(List.of());
+
+        // Act
+        UserPage page = userService.listUsers(null, 10_000);
+
+        // Assert
+        assertTrue(page.users().isEmpty());
+        verify(userRepository).findPage(null, UserService.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("List User Fields - Returns projected page with cursor from row position")
+    void listUserFields_MoreUsersExist_ReturnsProjectedPageWithCursor() {
+        // Arrange
+        Set<UserField> fields = EnumSet.of(UserField.EMAIL);
+        UserCursor position1 = new UserCursor(LocalDateTime.now(), 1L);
+        UserCursor position2 = new UserCursor(LocalDateTime.now(), 2L);
+        UserCursor position3 = new UserCursor(LocalDateTime.now(), 3L);
+        when(userRepository.findProjectedPage(null, 3, fields)).thenReturn(List.of(
+                new UserProjection(position1, Map.of("email", "john.doe@example.com")),
+                new UserProjection(position2, Map.of("email", "jane.smith@example.com")),
+                new UserProjection(position3, Map.of("email", "jim.beam@example.com"))));
+
+        // Act
+        UserProjectionPage page = userService.listUsers(null, 2, fields);
+
+        // Assert
+        assertEquals(List.of(Map.of("email", "john.doe@example.com"), Map.of("email", "jane.smith@example.com")),
+                page.users());
+        assertTrue(page.hasNext());
+        assertEquals(position2, page.nextCursor());
+        verify(userRepository, never()).findPage(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("List User Fields - Rejects an empty field selection")
+    void listUserFields_NoFields_ThrowsValidationError() {
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class,
+                () -> userService.listUsers(null, 10, EnumSet.noneOf(UserField.class)));
+        assertEquals(UserException.UserExceptionType.VALIDATION_ERROR, exception.getType());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Export Users - Streams repository rows to the sink")
+    void exportUsers_DelegatesToRepositoryStream() {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<User> action = invocation.getArgument(0);
+            action.accept(testUser1);
+            action.accept(testUser2);
+            return null;
+        }).when(userRepository).streamAll(any());
+        List<User> exported = new ArrayList<>();
+
+        // Act
+        userService.exportUsers(exported::add);
+
+        // Assert
+        assertEquals(List.of(testUser1, testUser2), exported);
+        verify(userRepository).streamAll(any());
+    }
+
     @Test
     @DisplayName("Get User By ID - Returns user when found")
     void getUserById_UserExists_ReturnsUser() {
@@ -94,6 +227,33 @@ public class UserServiceTest {
         verify(userRepository).findById(999L);
     }
 
+    @Test
+    @DisplayName("Get Users By IDs - Preserves request order and reports missing ids")
+    void getUsersByIds_SomeMissing_ReturnsOrderedUsersAndMissingIds() {
+        // Arrange
+        when(userRepository.findAllByIds(anyCollection())).thenReturn(List.of(testUser1, testUser2));
+
+        // Act
+        UserLookup lookup = userService.getUsersByIds(List.of(2L, 99L, 1L, 2L));
+
+        // Assert
+        assertEquals(List.of(testUser2, testUser1), lookup.users());
+        assertEquals(List.of(99L), lookup.missingIds());
+        verify(userRepository).findAllByIds(argThat(ids -> ids.size() == 3));
+    }
+
+    @Test
+    @DisplayName("Get Users By IDs - Throws exception when too many ids are requested")
+    void getUsersByIds_TooManyIds_ThrowsException() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, UserService.MAX_LOOKUP_IDS + 1).boxed().toList();
+
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class, () -> userService.getUsersByIds(ids));
+        assertEquals(UserException.UserExceptionType.VALIDATION_ERROR, exception.getType());
+        verify(userRepository, never()).findAllByIds(anyCollection());
+    }
+
     @Test
     @DisplayName("Get User By Email - Returns user when found")
     void getUserByEmail_UserExists_ReturnsUser() {
@@ -125,6 +285,124 @@ public class UserServiceTest {
         verify(userRepository).findByEmail(email);
     }
 
+    @Test
+    @DisplayName("Search Users - Normalizes the query and returns the next offset when more results exist")
+    void searchUsers_MoreResults_ReturnsNextOffset() {
+        // Arrange
+        when(userRepository.search("john", 20, 2)).thenReturn(List.of(testUser1, testUser2));
+
+        // Act
+        UserSearchPage page = userService.searchUsers("  JOHN ", 20, 1);
+
+        // Assert
+        assertEquals(List.of(testUser1), page.users());
+        assertEquals(21, page.nextOffset());
+    }
+
+    @Test
+    @DisplayName("Search Users - Returns last page without next offset")
+    void searchUsers_LastPage_ReturnsNoNextOffset() {
+        // Arrange
+        when(userRepository.search("smith", 0, 21)).thenReturn(List.of(testUser2));
+
+        // Act
+        UserSearchPage page = userService.searchUsers("smith", 0, 20);
+
+        // Assert
+        assertEquals(List.of(testUser2), page.users());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    @DisplayName("Search Users - Rejects queries too short to use the search indexes")
+    void searchUsers_ShortQuery_ThrowsException() {
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class, () -> userService.searchUsers(" jo ", 0, 20));
+        assertEquals(UserException.UserExceptionType.VALIDATION_ERROR, exception.getType());
+        verify(userRepository, never()).search(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Search Users - Stops paging at the result limit")
+    void searchUsers_AtResultLimit_TrimsLastPageAndRefusesDeeperPages() {
+        // Arrange
+        int offset = UserService.MAX_SEARCH_RESULTS - 5;
+        when(userRepository.search("john", offset, 6)).thenReturn(Collections.nCopies(6, testUser1));
+
+        // Act
+        UserSearchPage page = userService.searchUsers("john", offset, 20);
+
+        // Assert
+        assertEquals(5, page.users().size());
+        assertFalse(page.hasNext());
+        UserException exception = assertThrows(UserException.class,
+                () -> userService.searchUsers("john", UserService.MAX_SEARCH_RESULTS, 20));
+        assertEquals(UserException.UserExceptionType.VALIDATION_ERROR, exception.getType());
+    }
+
+    @Test
+    @DisplayName("Suggest Users - Normalizes the query and caps the limit")
+    void suggestUsers_NormalizesQueryAndCapsLimit() {
+        // Arrange
+        List<UserSuggestion> suggestions = List.of(UserSuggestion.of(testUser1));
+        when(userRepository.suggest("jo", UserService.MAX_SUGGESTIONS)).thenReturn(suggestions);
+
+        // Act & Assert
+        assertEquals(suggestions, userService.suggestUsers(" JO ", 500));
+    }
+
+    @Test
+    @DisplayName("Suggest Users - Rejects a blank query")
+    void suggestUsers_BlankQuery_ThrowsException() {
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class, () -> userService.suggestUsers("  ", 10));
+        assertEquals(UserException.UserExceptionType.VALIDATION_ERROR, exception.getType());
+        verify(userRepository, never()).suggest(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Count Users - Exact mode reads the maintained count")
+    void countUsers_Exact_ReadsMaintainedCount() {
+        // Arrange
+        when(userCountRepository.count()).thenReturn(42L);
+
+        // Act
+        UserCount count = userService.countUsers(true);
+
+        // Assert
+        assertEquals(42L, count.count());
+        assertTrue(count.exact());
+        assertEquals(0L, count.maxError());
+        verify(userCountRepository, never()).estimate();
+    }
+
+    @Test
+    @DisplayName("Count Users - Approximate mode returns the planner estimate with its error bound")
+    void countUsers_Approximate_ReturnsEstimate() {
+        // Arrange
+        UserCount estimate = new UserCount(1000L, false, 25L, Instant.now());
+        when(userCountRepository.estimate()).thenReturn(Optional.of(estimate));
+
+        // Act & Assert
+        assertEquals(estimate, userService.countUsers(false));
+        verify(userCountRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Count Users - Approximate mode falls back to the exact count before statistics exist")
+    void countUsers_ApproximateWithoutStatistics_FallsBackToExact() {
+        // Arrange
+        when(userCountRepository.estimate()).thenReturn(Optional.empty());
+        when(userCountRepository.count()).thenReturn(3L);
+
+        // Act
+        UserCount count = userService.countUsers(false);
+
+        // Assert
+        assertEquals(3L, count.count());
+        assertTrue(count.exact());
+    }
+
     @Test
     @DisplayName("Create User - Returns created user")
     void createUser_ValidUser_ReturnsCreatedUser() {
@@ -134,6 +412,7 @@ public class UserServiceTest {
         savedUser.setId(3L);
 
         when(userRepository.existsByEmail(newUser.getEmail())).thenReturn(false);
+        when(passwordHasher.hash("newpassword")).thenReturn("hashed-newpassword");
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
 
         // Act
@@ -144,7 +423,7 @@ public class UserServiceTest {
         assertEquals(savedUser.getId(), result.getId());
         assertEquals(savedUser.getEmail(), result.getEmail());
         verify(userRepository).existsByEmail(newUser.getEmail());
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).save(argThat(u -> "hashed-newpassword".equals(u.getPassword())));
     }
 
     @Test
@@ -160,6 +439,49 @@ public class UserServiceTest {
         assertTrue(exception.getMessage().contains("already in use"));
         verify(userRepository).existsByEmail(newUser.getEmail());
         verify(userRepository, never()).save(any(User.class));
+        verify(passwordHasher, never()).hash(anyString());
+    }
+
+    @Test
+    @DisplayName("Create Users - Inserts new users and reports duplicates")
+    void createUsers_WithDuplicates_ReportsPerItemResults() {
+        // Arrange
+        User fresh = new User("New", "User", "new.user@example.com", "newpassword");
+        User taken = new User("Johnny", "Doe", "john.doe@example.com", "newpassword");
+        User repeated = new User("Newer", "User", "new.user@example.com", "newpassword");
+        User saved = new User("New", "User", "new.user@example.com", "newpassword");
+        saved.setId(3L);
+
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("john.doe@example.com"));
+        when(userRepository.saveAll(List.of(fresh))).thenReturn(List.of(saved));
+        when(passwordHasher.hashAll(List.of("newpassword"))).thenReturn(List.of("hashed-newpassword"));
+
+        // Act
+        List<UserBatchResult> results = userService.createUsers(List.of(fresh, taken, repeated));
+
+        // Assert
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).succeeded());
+        assertEquals(3L, results.get(0).user().getId());
+        assertEquals(UserException.UserExceptionType.DUPLICATE_EMAIL, results.get(1).errorType());
+        assertEquals(UserException.UserExceptionType.DUPLICATE_EMAIL, results.get(2).errorType());
+        assertEquals("hashed-newpassword", fresh.getPassword());
+        verify(passwordHasher, times(1)).hashAll(List.of("newpassword"));
+        verify(userRepository).findExistingEmails(anyCollection());
+        verify(userRepository).saveAll(List.of(fresh));
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Create Users - Throws exception when batch is too large")
+    void createUsers_OversizedBatch_ThrowsException() {
+        // Arrange
+        List<User> users = Collections.nCopies(UserService.MAX_BATCH_SIZE + 1, testUser1);
+
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class, () -> userService.createUsers(users));
+        assertEquals(UserException.UserExceptionType.VALIDATION_ERROR, exception.getType());
+        verify(userRepository, never()).saveAll(any());
     }
 
     @Test
@@ -167,15 +489,11 @@ public class UserServiceTest {
     void updateUser_ValidUpdate_ReturnsUpdatedUser() {
         // Arrange
         User updatedDetails = new User("John", "Updated", "john.updated@example.com", "newpassword");
-        User existingUser = testUser1; // John Doe
         User savedUser = new User("John", "Updated", "john.updated@example.com", "newpassword");
-        savedUser.setId(existingUser.getId());
-        savedUser.setCreatedAt(existingUser.getCreatedAt());
-        savedUser.setUpdatedAt(LocalDateTime.now());
-
-        when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
-        when(userRepository.existsByEmail("john.updated@example.com")).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
+        savedUser.setId(1L);
+        savedUser.setVersion(4L);
+        when(passwordHasher.hash("newpassword")).thenReturn("hashed-newpassword");
+        when(userRepository.update(eq(1L), any(User.class))).thenReturn(Optional.of(savedUser));
 
         // Act
         User result = userService.updateUser(1L, updatedDetails);
@@ -186,9 +504,25 @@ public class UserServiceTest {
         assertEquals("John", result.getFirstName());
         assertEquals("Updated", result.getLastName());
         assertEquals("john.updated@example.com", result.getEmail());
-        verify(userRepository).findById(1L);
-        verify(userRepository).existsByEmail("john.updated@example.com");
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).update(eq(1L), argThat(u -> "hashed-newpassword".equals(u.getPassword())));
+        verify(userRepository, never()).findById(anyLong());
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Update User - Keeps password when none is provided")
+    void updateUser_EmptyPassword_LeavesPasswordUnchanged() {
+        // Arrange
+        User updatedDetails = new User("John", "Updated", "john.updated@example.com", "");
+        when(userRepository.update(eq(1L), any(User.class))).thenReturn(Optional.of(testUser1));
+
+        // Act
+        userService.updateUser(1L, updatedDetails);
+
+        // Assert
+        verify(userRepository).update(eq(1L), argThat(u -> u.getPassword() == null));
+        verify(passwordHasher, never()).hash(anyString());
     }
 
     @Test
@@ -196,13 +530,11 @@ public class UserServiceTest {
     void updateUser_UserNotFound_ThrowsException() {
         // Arrange
         User updatedDetails = new User("John", "Updated", "john.updated@example.com", "newpassword");
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userRepository.update(eq(999L), any(User.class))).thenReturn(Optional.empty());
 
         // Act & Assert
         UserException exception = assertThrows(UserException.class, () -> userService.updateUser(999L, updatedDetails));
         assertEquals(UserException.UserExceptionType.NOT_FOUND, exception.getType());
-        verify(userRepository).findById(999L);
-        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
@@ -210,42 +542,242 @@ public class UserServiceTest {
     void updateUser_DuplicateEmail_ThrowsException() {
         // Arrange
         User updatedDetails = new User("John", "Updated", "jane.smith@example.com", "newpassword");
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser1));
-        when(userRepository.existsByEmail("jane.smith@example.com")).thenReturn(true);
+        when(userRepository.update(eq(1L), any(User.class))).thenThrow(
+                new UserException("Email already in use", UserException.UserExceptionType.DUPLICATE_EMAIL));
 
         // Act & Assert
         UserException exception = assertThrows(UserException.class, () -> userService.updateUser(1L, updatedDetails));
         assertEquals(UserException.UserExceptionType.DUPLICATE_EMAIL, exception.getType());
-        verify(userRepository).findById(1L);
-        verify(userRepository).existsByEmail("jane.smith@example.com");
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Patch User - Passes only the changed fields to the repository")
+    void patchUser_ChangedFields_UpdatesInSingleCall() {
+        // Arrange
+        User changes = new User();
+        changes.setLastName("Updated");
+        when(userRepository.update(1L, changes)).thenReturn(Optional.of(testUser1));
+
+        // Act
+        User result = userService.patchUser(1L, changes);
+
+        // Assert
+        assertSame(testUser1, result);
+        verify(userRepository).update(1L, changes);
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Patch User - Rejects a patch without changes")
+    void patchUser_NoChanges_ThrowsValidationError() {
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class, () -> userService.patchUser(1L, new User()));
+        assertEquals(UserException.UserExceptionType.VALIDATION_ERROR, exception.getType());
+        verify(userRepository, never()).update(anyLong(), any(User.class));
+    }
+
+    @Test
+    @DisplayName("Patch User - Throws version conflict when version differs")
+    void patchUserConditionally_StaleVersion_ThrowsVersionConflict() {
+        // Arrange
+        User changes = new User();
+        changes.setEmail("john.updated@example.com");
+        when(userRepository.updateIfVersionMatches(1L, changes, 2L)).thenReturn(Optional.empty());
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class, () -> userService.patchUser(1L, changes, 2L));
+        assertEquals(UserException.UserExceptionType.VERSION_CONFLICT, exception.getType());
+    }
+
+    @Test
+    @DisplayName("Get User Fields - Returns projected user")
+    void getUserFieldsById_UserExists_ReturnsProjection() {
+        // Arrange
+        Set<UserField> fields = EnumSet.of(UserField.ID, UserField.EMAIL);
+        Map<String, Object> projection = Map.of("id", 1L, "email", "john.doe@example.com");
+        when(userRepository.findProjectedById(1L, fields)).thenReturn(Optional.of(projection));
+
+        // Act & Assert
+        assertEquals(projection, userService.getUserById(1L, fields));
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Get User Fields - Throws exception when user not found")
+    void getUserFieldsById_UserNotFound_ThrowsException() {
+        // Arrange
+        Set<UserField> fields = EnumSet.of(UserField.EMAIL);
+        when(userRepository.findProjectedById(999L, fields)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class, () -> userService.getUserById(999L, fields));
+        assertEquals(UserException.UserExceptionType.NOT_FOUND, exception.getType());
+    }
+
+    @Test
+    @DisplayName("Get User Version - Returns version without loading the user")
+    void getUserVersion_UserExists_ReturnsVersion() {
+        // Arrange
+        when(userRepository.findVersionById(1L)).thenReturn(Optional.of(7L));
+
+        // Act & Assert
+        assertEquals(7L, userService.getUserVersion(1L));
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Get User Version - Throws exception when user not found")
+    void getUserVersion_UserNotFound_ThrowsException() {
+        // Arrange
+        when(userRepository.findVersionById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class, () -> userService.getUserVersion(999L));
+        assertEquals(UserException.UserExceptionType.NOT_FOUND, exception.getType());
+    }
+
+    @Test
+    @DisplayName("Conditional Update - Returns updated user when version matches")
+    void updateUserConditionally_VersionMatches_ReturnsUpdatedUser() {
+        // Arrange
+        User updatedDetails = new User("John", "Updated", "john.updated@example.com", "");
+        User savedUser = new User("John", "Updated", "john.updated@example.com", "password123");
+        savedUser.setId(1L);
+        savedUser.setVersion(4L);
+        when(userRepository.updateIfVersionMatches(eq(1L), any(User.class), eq(3L))).thenReturn(Optional.of(savedUser));
+
+        // Act
+        User result = userService.updateUser(1L, updatedDetails, 3L);
+
+        // Assert
+        assertEquals(4L, result.getVersion());
+        verify(userRepository).updateIfVersionMatches(eq(1L), argThat(u -> u.getPassword() == null), eq(3L));
+        verify(userRepository, never()).findById(anyLong());
         verify(userRepository, never()).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("Conditional Update - Throws version conflict when version differs")
+    void updateUserConditionally_StaleVersion_ThrowsVersionConflict() {
+        // Arrange
+        User updatedDetails = new User("John", "Updated", "john.updated@example.com", "newpassword");
+        when(userRepository.updateIfVersionMatches(eq(1L), any(User.class), eq(2L))).thenReturn(Optional.empty());
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class, () -> userService.updateUser(1L, updatedDetails, 2L));
+        assertEquals(UserException.UserExceptionType.VERSION_CONFLICT, exception.getType());
+    }
+
+    @Test
+    @DisplayName("Conditional Update - Throws not found when user does not exist")
+    void updateUserConditionally_UserNotFound_ThrowsException() {
+        // Arrange
+        User updatedDetails = new User("John", "Updated", "john.updated@example.com", "newpassword");
+        when(userRepository.updateIfVersionMatches(eq(999L), any(User.class), eq(0L))).thenReturn(Optional.empty());
+        when(userRepository.existsById(999L)).thenReturn(false);
+
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class, () -> userService.updateUser(999L, updatedDetails, 0L));
+        assertEquals(UserException.UserExceptionType.NOT_FOUND, exception.getType());
+    }
+
     @Test
     @DisplayName("Delete User - Successfully deletes user")
     void deleteUser_UserExists_DeletesSuccessfully() {
         // Arrange
-        when(userRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(userRepository).deleteById(1L);
+        when(userRepository.deleteById(1L)).thenReturn(true);
 
         // Act
         userService.deleteUser(1L);
 
         // Assert
-        verify(userRepository).existsById(1L);
         verify(userRepository).deleteById(1L);
+        verify(userRepository, never()).existsById(anyLong());
     }
 
     @Test
     @DisplayName("Delete User - Throws exception when user not found")
     void deleteUser_UserNotFound_ThrowsException() {
         // Arrange
-        when(userRepository.existsById(999L)).thenReturn(false);
+        when(userRepository.deleteById(999L)).thenReturn(false);
 
         // Act & Assert
         UserException exception = assertThrows(UserException.class, () -> userService.deleteUser(999L));
         assertEquals(UserException.UserExceptionType.NOT_FOUND, exception.getType());
-        verify(userRepository).existsById(999L);
-        verify(userRepository, never()).deleteById(anyLong());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Delete Users - Deletes unique ids in bounded chunks")
+    void deleteUsers_ManyIds_DeletesInChunks() {
+        // Arrange
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= UserService.DELETE_CHUNK_SIZE + 10; id++) {
+            ids.add(id);
+        }
+        ids.add(1L);
+        when(userRepository.deleteAllByIds(anyCollection()))
+                .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size() - 1);
+
+        // Act
+        int deleted = userService.deleteUsers(ids);
+
+        // Assert
+        assertEquals(UserService.DELETE_CHUNK_SIZE + 10 - 2, deleted);
+        verify(userRepository).deleteAllByIds(argThat(chunk -> chunk.size() == UserService.DELETE_CHUNK_SIZE));
+        verify(userRepository).deleteAllByIds(argThat(chunk -> chunk.size() == 10));
+    }
+
+    @Test
+    @DisplayName("Delete Users - Rejects too many ids")
+    void deleteUsers_TooManyIds_ThrowsValidationError() {
+        // Arrange
+        List<Long> ids = new ArrayList<>();
+        for (long id = 0; id <= UserService.MAX_DELETE_IDS; id++) {
+            ids.add(id);
+        }
+
+        // Act & Assert
+        UserException exception = assertThrows(UserException.class, () -> userService.deleteUsers(ids));
+        assertEquals(UserException.UserExceptionType.VALIDATION_ERROR, exception.getType());
+        verify(userRepository, never()).deleteAllByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Delete Users Created Before - Repeats until a chunk comes back short")
+    void deleteUsersCreatedBefore_DeletesUntilShortChunk() {
+        // Arrange
+        LocalDateTime cutoff = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Long> fullChunk = Collections.nCopies(UserService.DELETE_CHUNK_SIZE, 1L);
+        when(userRepository.deleteCreatedBefore(cutoff, UserService.DELETE_CHUNK_SIZE))
+                .thenReturn(fullChunk, List.of(1L, 2L));
+
+        // Act
+        UserDeletion deletion = userService.deleteUsersCreatedBefore(cutoff);
+
+        // Assert
+        assertEquals(UserService.DELETE_CHUNK_SIZE + 2, deletion.deletedCount());
+        assertFalse(deletion.moreRemaining());
+        verify(userRepository, times(2)).deleteCreatedBefore(cutoff, UserService.DELETE_CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Delete Users Created Before - Stops at the per-call limit and reports that more remain")
+    void deleteUsersCreatedBefore_LimitReached_ReportsMoreRemaining() {
+        // Arrange
+        LocalDateTime cutoff = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(userRepository.deleteCreatedBefore(eq(cutoff), anyInt()))
+                .thenAnswer(invocation -> Collections.nCopies(invocation.getArgument(1, Integer.class), 1L));
+
+        // Act
+        UserDeletion deletion = userService.deleteUsersCreatedBefore(cutoff);
+
+        // Assert
+        assertEquals(UserService.MAX_DELETE_IDS, deletion.deletedCount());
+        assertTrue(deletion.moreRemaining());
+        verify(userRepository, times(UserService.MAX_DELETE_IDS / UserService.DELETE_CHUNK_SIZE))
+                .deleteCreatedBefore(eq(cutoff), anyInt());
+    }
+}
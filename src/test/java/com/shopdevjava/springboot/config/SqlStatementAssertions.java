@@ -0,0 +1,51 @@
+package com.shopdevjava.springboot.config;
+
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.SqlStatementLog;
+import com.shopdevjava.springboot.infrastructure.adapter.web.SqlStatementFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Pins how many SQL statements an endpoint or a piece of code runs, so an extra query
+ * or an N+1 loop fails a test instead of slipping into production
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Expects the request to have run exactly {@code expected} statements, as reported in
+     * the {@value SqlStatementFilter#STATEMENTS_HEADER} response header
+     */
+    public static ResultMatcher sqlStatements(int expected) {
+        return result -> {
+            String statements = result.getResponse().getHeader(SqlStatementFilter.STATEMENTS_HEADER);
+            assertNotNull(statements, "No " + SqlStatementFilter.STATEMENTS_HEADER + " header; is the filter registered?");
+            assertEquals(expected, Integer.parseInt(statements), () -> result.getRequest().getMethod() + " "
+                    + result.getRequest().getRequestURI() + " ran an unexpected number of SQL statements");
+        };
+    }
+
+    /**
+     * Runs {@code work} on this thread and expects it to run exactly {@code expected}
+     * statements; the failure message lists what it ran
+     */
+    public static <T> T assertSqlStatements(int expected, Supplier<T> work) {
+        SqlStatementLog.begin();
+        T result;
+        SqlStatementLog statements;
+        try {
+            result = work.get();
+        } finally {
+            statements = SqlStatementLog.end();
+        }
+        assertEquals(expected, statements.statementCount(),
+                () -> "Unexpected number of SQL statements: " + statements.repeatedShapes(1));
+        return result;
+    }
+}
@@ -0,0 +1,135 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BloomFilterUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    private BloomFilterUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new BloomFilterUserRepository(delegate, 0.01);
+    }
+
+    @Test
+    @DisplayName("Exists By Email - Queries the database until the filter is built")
+    void existsByEmail_BeforeRebuild_DelegatesToDatabase() {
+        // Arrange
+        when(delegate.existsByEmail("new.user@example.com")).thenReturn(false);
+
+        // Act & Assert
+        assertFalse(repository.isReady());
+        assertFalse(repository.existsByEmail("new.user@example.com"));
+        verify(delegate).existsByEmail("new.user@example.com");
+    }
+
+    @Test
+    @DisplayName("Exists By Email - Skips the database for definitely unknown emails")
+    void existsByEmail_UnknownEmail_SkipsDatabase() {
+        // Arrange
+        rebuildWith("john.doe@example.com");
+
+        // Act & Assert
+        assertFalse(repository.existsByEmail("new.user@example.com"));
+        verify(delegate, never()).existsByEmail("new.user@example.com");
+    }
+
+    @Test
+    @DisplayName("Find By Email - Always queries the database, which may know users the filter does not")
+    void findByEmail_UnknownToFilter_QueriesDatabase() {
+        // Arrange
+        rebuildWith("john.doe@example.com");
+        User addedElsewhere = new User("New", "User", "new.user@example.com", "password123");
+        when(delegate.findByEmail("new.user@example.com")).thenReturn(Optional.of(addedElsewhere));
+
+        // Act & Assert
+        assertEquals(Optional.of(addedElsewhere), repository.findByEmail("new.user@example.com"));
+    }
+
+    @Test
+    @DisplayName("Exists By Email - Confirms possible matches with the database")
+    void existsByEmail_KnownEmail_DelegatesToDatabase() {
+        // Arrange
+        rebuildWith("john.doe@example.com");
+        when(delegate.existsByEmail("john.doe@example.com")).thenReturn(true);
+
+        // Act & Assert
+        assertTrue(repository.existsByEmail("john.doe@example.com"));
+        verify(delegate).existsByEmail("john.doe@example.com");
+    }
+
+    @Test
+    @DisplayName("Save - Adds the saved email to the filter")
+    void save_AddsEmailToFilter() {
+        // Arrange
+        rebuildWith();
+        User user = new User("New", "User", "new.user@example.com", "password123");
+        when(delegate.save(user)).thenReturn(user);
+        when(delegate.existsByEmail("new.user@example.com")).thenReturn(true);
+
+        // Act
+        repository.save(user);
+
+        // Assert
+        assertTrue(repository.existsByEmail("new.user@example.com"));
+    }
+
+    @Test
+    @DisplayName("Find Existing Emails - Only queries emails that might exist")
+    void findExistingEmails_QueriesOnlyCandidates() {
+        // Arrange
+        rebuildWith("john.doe@example.com");
+        when(delegate.findExistingEmails(List.of("john.doe@example.com"))).thenReturn(Set.of("john.doe@example.com"));
+
+        // Act
+        Set<String> existing = repository.findExistingEmails(List.of("john.doe@example.com", "new.user@example.com"));
+
+        // Assert
+        assertEquals(Set.of("john.doe@example.com"), existing);
+    }
+
+    @Test
+    @DisplayName("Find Existing Emails - Skips the database when no email might exist")
+    void findExistingEmails_NoCandidates_SkipsDatabase() {
+        // Arrange
+        rebuildWith();
+
+        // Act & Assert
+        assertTrue(repository.findExistingEmails(List.of("new.user@example.com")).isEmpty());
+        verify(delegate, never()).findExistingEmails(anyCollection());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rebuildWith(String... emails) {
+        when(delegate.count()).thenReturn((long) emails.length);
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(0);
+            for (String email : emails) {
+                action.accept(email);
+            }
+            return null;
+        }).when(delegate).streamAllEmails(any(Consumer.class));
+        repository.rebuild();
+    }
+}
@@ -0,0 +1,79 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingRevokedTokenRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private RevokedTokenRepository delegate;
+
+    private CachingRevokedTokenRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingRevokedTokenRepository(delegate, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Revoke - Visible immediately without a database lookup")
+    void revoke_VisibleImmediately() {
+        // Act
+        repository.revoke("token-1", NOW.plus(Duration.ofHours(1)));
+
+        // Assert
+        assertTrue(repository.isRevoked("token-1"));
+        assertFalse(repository.isRevoked("token-2"));
+        verify(delegate).revoke("token-1", NOW.plus(Duration.ofHours(1)));
+        verify(delegate, never()).isRevoked(any());
+    }
+
+    @Test
+    @DisplayName("Refresh - Picks up revocations made by other instances")
+    void refresh_MergesRevocationsFromDatabase() {
+        // Arrange
+        repository.revoke("local", NOW.plus(Duration.ofHours(1)));
+        when(delegate.findActive(NOW)).thenReturn(Map.of("remote", NOW.plus(Duration.ofHours(1))));
+
+        // Act
+        repository.refresh();
+
+        // Assert
+        assertTrue(repository.isRevoked("remote"));
+        assertTrue(repository.isRevoked("local"));
+        assertEquals(2, repository.size());
+    }
+
+    @Test
+    @DisplayName("Refresh - Forgets revocations of expired tokens")
+    void refresh_DropsExpired() {
+        // Arrange
+        repository.revoke("expired", NOW);
+        when(delegate.findActive(NOW)).thenReturn(Map.of());
+
+        // Act
+        repository.refresh();
+
+        // Assert
+        assertFalse(repository.isRevoked("expired"));
+        assertEquals(0, repository.size());
+    }
+}
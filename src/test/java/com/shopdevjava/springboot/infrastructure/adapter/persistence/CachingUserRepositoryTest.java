@@ -0,0 +1,223 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingUserRepositoryTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+
+    @Mock
+    private UserRepository delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private CachingUserRepository repository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingUserRepository(delegate, 100, TTL, NEGATIVE_TTL, nanos::get);
+
+        testUser = new User("John", "Doe", "john.doe@example.com", "password123");
+        testUser.setId(1L);
+        testUser.setCreatedAt(LocalDateTime.now());
+        testUser.setVersion(0L);
+    }
+
+    @Test
+    @DisplayName("Find By ID - Second lookup is served from the cache")
+    void findById_SecondLookup_IsCached() {
+        // Arrange
+        when(delegate.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // Act
+        repository.findById(1L);
+        Optional<User> result = repository.findById(1L);
+
+        // Assert
+        assertEquals("john.doe@example.com", result.orElseThrow().getEmail());
+        verify(delegate, times(1)).findById(1L);
+        assertEquals(1, repository.stats().hitCount());
+        assertEquals(1, repository.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Find By ID - Callers get copies that cannot corrupt the cache")
+    void findById_MutatingResult_DoesNotChangeCachedUser() {
+        // Arrange
+        when(delegate.findById(1L)).thenReturn(Optional.of(testUser));
+
+        // Act
+        repository.findById(1L).orElseThrow().setFirstName("Changed");
+
+        // Assert
+        assertEquals("John", repository.findById(1L).orElseThrow().getFirstName());
+    }
+
+    @Test
+    @DisplayName("Find By ID - Missing ids are cached until the negative TTL passes")
+    void findById_MissingId_IsNegativelyCached() {
+        // Arrange
+        when(delegate.findById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertTrue(repository.findById(999L).isEmpty());
+        assertFalse(repository.existsById(999L));
+        verify(delegate, times(1)).findById(999L);
+        verify(delegate, never()).existsById(999L);
+
+        nanos.addAndGet(NEGATIVE_TTL.plusSeconds(1).toNanos());
+        assertTrue(repository.findById(999L).isEmpty());
+        verify(delegate, times(2)).findById(999L);
+    }
+
+    @Test
+    @DisplayName("Find By ID - Present users expire after the TTL")
+    void findById_AfterTtl_ReloadsUser() {
+        // Arrange
+        when(delegate.findById(1L)).thenReturn(Optional.of(testUser));
+        repository.findById(1L);
+
+        // Act
+        nanos.addAndGet(NEGATIVE_TTL.plusSeconds(1).toNanos());
+        repository.findById(1L);
+        nanos.addAndGet(TTL.toNanos());
+        repository.findById(1L);
+
+        // Assert
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Find By Email - Uses the email index after an id lookup")
+    void findByEmail_AfterIdLookup_IsCached() {
+        // Arrange
+        when(delegate.findById(1L)).thenReturn(Optional.of(testUser));
+        repository.findById(1L);
+
+        // Act
+        Optional<User> result = repository.findByEmail("john.doe@example.com");
+
+        // Assert
+        assertEquals(1L, result.orElseThrow().getId());
+        assertTrue(repository.existsByEmail("john.doe@example.com"));
+        verify(delegate, never()).findByEmail("john.doe@example.com");
+        verify(delegate, never()).existsByEmail("john.doe@example.com");
+    }
+
+    @Test
+    @DisplayName("Save - Refreshes the cached user and drops the old email")
+    void save_ChangedEmail_RefreshesEntries() {
+        // Arrange
+        when(delegate.findById(1L)).thenReturn(Optional.of(testUser));
+        repository.findById(1L);
+        User updated = new User("John", "Doe", "john.new@example.com", "password123");
+        updated.setId(1L);
+        updated.setVersion(1L);
+        when(delegate.save(updated)).thenReturn(updated);
+        when(delegate.existsByEmail("john.doe@example.com")).thenReturn(false);
+
+        // Act
+        repository.save(updated);
+
+        // Assert
+        assertEquals("john.new@example.com", repository.findById(1L).orElseThrow().getEmail());
+        assertEquals(Optional.of(1L), repository.findVersionById(1L));
+        assertFalse(repository.existsByEmail("john.doe@example.com"));
+        verify(delegate, times(1)).findById(1L);
+        verify(delegate, never()).findVersionById(1L);
+    }
+
+    @Test
+    @DisplayName("Conditional Update - Evicts the cached user when the version is stale")
+    void updateIfVersionMatches_Stale_EvictsUser() {
+        // Arrange
+        when(delegate.findById(1L)).thenReturn(Optional.of(testUser));
+        repository.findById(1L);
+        when(delegate.updateIfVersionMatches(1L, testUser, 5L)).thenReturn(Optional.empty());
+
+        // Act
+        repository.updateIfVersionMatches(1L, testUser, 5L);
+        repository.findById(1L);
+
+        // Assert
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Delete By ID - Evicts the user")
+    void deleteById_EvictsUser() {
+        // Arrange
+        when(delegate.findById(1L)).thenReturn(Optional.of(testUser), Optional.empty());
+        repository.findById(1L);
+
+        // Act
+        repository.deleteById(1L);
+
+        // Assert
+        assertTrue(repository.findById(1L).isEmpty());
+        verify(delegate).deleteById(1L);
+    }
+
+    @Test
+    @DisplayName("Delete Created Before - Evicts the deleted users")
+    void deleteCreatedBefore_EvictsDeletedUsers() {
+        // Arrange
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(delegate.findById(1L)).thenReturn(Optional.of(testUser), Optional.empty());
+        when(delegate.deleteCreatedBefore(cutoff, 10)).thenReturn(List.of(1L));
+        repository.findById(1L);
+
+        // Act
+        repository.deleteCreatedBefore(cutoff, 10);
+
+        // Assert
+        assertTrue(repository.findById(1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Find All By IDs - Only loads the ids that are not cached")
+    void findAllByIds_LoadsOnlyMissingIds() {
+        // Arrange
+        when(delegate.findById(1L)).thenReturn(Optional.of(testUser));
+        repository.findById(1L);
+        User other = new User("Jane", "Smith", "jane.smith@example.com", "password456");
+        other.setId(2L);
+        when(delegate.findAllByIds(anyCollection())).thenReturn(List.of(other));
+
+        // Act
+        List<User> users = repository.findAllByIds(List.of(1L, 2L, 3L));
+
+        // Assert
+        assertEquals(2, users.size());
+        verify(delegate).findAllByIds(argThatContainsExactly(2L, 3L));
+        assertFalse(repository.existsById(3L));
+        verify(delegate, never()).existsById(3L);
+    }
+
+    private static Collection<Long> argThatContainsExactly(Long... ids) {
+        return argThat(c -> c.size() == ids.length && c.containsAll(List.of(ids)));
+    }
+}
@@ -0,0 +1,71 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmailBloomFilterTest {
+
+    @Test
+    @DisplayName("Might Contain - Never misses an added email")
+    void mightContain_AddedEmails_AlwaysTrue() {
+        // Arrange
+        EmailBloomFilter filter = EmailBloomFilter.create(10_000, 0.01);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user" + i + "@example.com");
+        }
+
+        // Assert
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    @DisplayName("Might Contain - Ignores case and surrounding whitespace")
+    void mightContain_DifferentCase_MatchesNormalizedEmail() {
+        // Arrange
+        EmailBloomFilter filter = EmailBloomFilter.create(100, 0.01);
+
+        // Act
+        filter.add("John.Doe@Example.com");
+
+        // Assert
+        assertTrue(filter.mightContain(" john.doe@example.com "));
+    }
+
+    @Test
+    @DisplayName("Might Contain - False positives stay near the configured rate")
+    void mightContain_UnknownEmails_FalsePositiveRateIsBounded() {
+        // Arrange
+        EmailBloomFilter filter = EmailBloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user" + i + "@example.com");
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Create - Sizes bits and hash functions from the expected insertions")
+    void create_SizesFilter() {
+        // Act
+        EmailBloomFilter filter = EmailBloomFilter.create(1_000_000, 0.01);
+
+        // Assert
+        assertEquals(9_585_059, filter.bitCount());
+        assertEquals(7, filter.hashCount());
+    }
+}
@@ -0,0 +1,119 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes against two embedded databases that each know whether they are the primary or the replica
+ */
+public class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(
+                database("primary"), database("replica"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+    }
+
+    @Test
+    @DisplayName("Routing - Read-only transactions go to the replica")
+    void readOnlyTransaction_UsesReplica() {
+        assertEquals("replica", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    @DisplayName("Routing - Read-write transactions and plain statements go to the primary")
+    void readWriteTransaction_UsesPrimary() {
+        assertEquals("primary", readWrite.execute(status -> node()));
+        assertEquals("primary", node());
+    }
+
+    @Test
+    @DisplayName("Read your writes - A write pins later reads of the session to the primary")
+    void write_PinsSessionToPrimary() {
+        // Arrange
+        AtomicInteger writes = new AtomicInteger();
+        ReadYourWrites.begin(false, writes::incrementAndGet);
+        assertEquals("replica", readOnly.execute(status -> node()));
+
+        // Act
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+
+        // Assert
+        assertEquals("primary", readOnly.execute(status -> node()));
+        assertEquals(1, writes.get());
+    }
+
+    @Test
+    @DisplayName("Read your writes - A session pinned by an earlier request reads from the primary")
+    void pinnedSession_ReadsFromPrimary() {
+        // Arrange
+        ReadYourWrites.begin(true, () -> fail("No write expected"));
+
+        // Act & Assert
+        assertEquals("primary", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    @DisplayName("Primary reads - Read-only transactions started inside go to the primary without pinning the session")
+    void readFromPrimary_UsesPrimaryWithoutPinning() {
+        // Arrange
+        ReadYourWrites.begin(false, () -> fail("No write expected"));
+
+        // Act & Assert
+        assertEquals("primary", ReadYourWrites.readFromPrimary(() -> readOnly.execute(status -> node())));
+        assertFalse(ReadYourWrites.isPinnedToPrimary());
+        assertEquals("replica", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    @DisplayName("Read your writes - Transactions without statements take no connection")
+    void emptyTransaction_DoesNotCountAsWrite() {
+        // Arrange
+        ReadYourWrites.begin(false, () -> fail("No write expected"));
+
+        // Act
+        readWrite.executeWithoutResult(status -> { });
+
+        // Assert
+        assertFalse(ReadYourWrites.isPinnedToPrimary());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(16), writes INT)");
+        jdbcTemplate.update("INSERT INTO node VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,78 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SqlStatementLogTest {
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementLog.end();
+    }
+
+    @Test
+    @DisplayName("Begin/End - Binds a log to the thread until it ends")
+    void beginAndEnd_BindLogToThread() {
+        // Act
+        SqlStatementLog log = SqlStatementLog.begin();
+
+        // Assert
+        assertSame(log, SqlStatementLog.current());
+        assertSame(log, SqlStatementLog.end());
+        assertNull(SqlStatementLog.current());
+        assertNull(SqlStatementLog.end());
+    }
+
+    @Test
+    @DisplayName("Record - Sums statements and their time")
+    void record_SumsCountAndTime() {
+        // Arrange
+        SqlStatementLog log = SqlStatementLog.begin();
+
+        // Act
+        log.record("SELECT 1", 1_000);
+        log.record("SELECT 2", 2_000);
+
+        // Assert
+        assertEquals(2, log.statementCount());
+        assertEquals(3_000, log.elapsedNanos());
+    }
+
+    @Test
+    @DisplayName("Shape - Replaces literals and collapses IN lists")
+    void shape_NormalizesLiteralsAndLists() {
+        assertEquals("SELECT * FROM users WHERE email = ? AND id > ?",
+                SqlStatementLog.shape("SELECT * FROM users\n  WHERE email = 'o''brien@example.com' AND id > -42"));
+        assertEquals("SELECT * FROM users WHERE id IN (?)",
+                SqlStatementLog.shape("SELECT * FROM users WHERE id IN (?, ?,?)"));
+        assertEquals("select u1_0.id from users u1_0 limit ?",
+                SqlStatementLog.shape("select u1_0.id from users u1_0 limit 21"));
+    }
+
+    @Test
+    @DisplayName("Repeated Shapes - Groups statements by shape, most frequent first")
+    void repeatedShapes_GroupsByShape() {
+        // Arrange
+        SqlStatementLog log = SqlStatementLog.begin();
+        for (int id = 1; id <= 3; id++) {
+            log.record("SELECT * FROM users WHERE id = " + id, 1);
+        }
+        log.record("SELECT * FROM users WHERE id IN (?, ?)", 1);
+        log.record("SELECT * FROM users WHERE id IN (?, ?, ?)", 1);
+        log.record("SELECT count(*) FROM users", 1);
+
+        // Act
+        Map<String, Integer> repeated = log.repeatedShapes(2);
+
+        // Assert
+        assertEquals(List.of("SELECT * FROM users WHERE id = ?", "SELECT * FROM users WHERE id IN (?)"),
+                List.copyOf(repeated.keySet()));
+        assertEquals(List.of(3, 2), List.copyOf(repeated.values()));
+    }
+}
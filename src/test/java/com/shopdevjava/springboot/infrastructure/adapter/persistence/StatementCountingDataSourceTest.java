@@ -0,0 +1,136 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StatementCountingDataSourceTest {
+
+    private static final String FIND_BY_ID = "SELECT * FROM users WHERE id = ?";
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection targetConnection;
+
+    @Mock
+    private PreparedStatement targetStatement;
+
+    private StatementCountingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new StatementCountingDataSource(targetDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementLog.end();
+    }
+
+    @Test
+    @DisplayName("Get Connection - Hands out the pool's connection when no log is bound")
+    void getConnection_NoLog_ReturnsTargetConnection() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+
+        // Act & Assert
+        assertSame(targetConnection, dataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("Execute - Records prepared statements under the SQL they were prepared with")
+    void execute_PreparedStatement_RecordsSql() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        when(targetConnection.prepareStatement(FIND_BY_ID)).thenReturn(targetStatement);
+        SqlStatementLog log = SqlStatementLog.begin();
+
+        // Act
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FIND_BY_ID)) {
+            for (long id = 1; id <= 3; id++) {
+                statement.setLong(1, id);
+                statement.executeQuery();
+            }
+        }
+
+        // Assert
+        assertEquals(3, log.statementCount());
+        assertEquals(Map.of(FIND_BY_ID, 3), log.repeatedShapes(1));
+        verify(targetStatement, times(3)).executeQuery();
+        verify(targetStatement).close();
+        verify(targetConnection).close();
+    }
+
+    @Test
+    @DisplayName("Execute - Records plain statements, with their literals, as one shape")
+    void execute_PlainStatement_RecordsShape() throws SQLException {
+        // Arrange
+        Statement targetPlainStatement = mock(Statement.class);
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        when(targetConnection.createStatement()).thenReturn(targetPlainStatement);
+        SqlStatementLog log = SqlStatementLog.begin();
+
+        // Act
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT * FROM users WHERE id = 1");
+            statement.execute("SELECT * FROM users WHERE id = 2");
+            statement.executeBatch();
+        }
+
+        // Assert
+        assertEquals(3, log.statementCount());
+        assertEquals(Map.of(FIND_BY_ID, 2), log.repeatedShapes(2));
+    }
+
+    @Test
+    @DisplayName("Execute - Records statements that fail")
+    void execute_Failure_RecordsAndRethrows() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        when(targetConnection.prepareStatement(FIND_BY_ID)).thenReturn(targetStatement);
+        when(targetStatement.executeQuery()).thenThrow(new SQLException("canceling statement due to statement timeout"));
+        SqlStatementLog log = SqlStatementLog.begin();
+
+        // Act & Assert
+        try (Connection connection = dataSource.getConnection()) {
+            PreparedStatement statement = connection.prepareStatement(FIND_BY_ID);
+            assertThrows(SQLException.class, statement::executeQuery);
+        }
+        assertEquals(1, log.statementCount());
+    }
+
+    @Test
+    @DisplayName("Unwrap - Reaches the driver's connection through the wrapper")
+    void unwrap_ForwardsToTarget() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        when(targetConnection.unwrap(Connection.class)).thenReturn(targetConnection);
+        SqlStatementLog.begin();
+
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertNotSame(targetConnection, connection);
+        assertSame(targetConnection, connection.unwrap(Connection.class));
+    }
+}
@@ -0,0 +1,201 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserChangeEvent;
+import com.shopdevjava.springboot.domain.model.UserChangeType;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TypeaheadUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    private TypeaheadUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new TypeaheadUserRepository(delegate);
+    }
+
+    @Test
+    @DisplayName("Suggest - Queries the database until the index is built")
+    void suggest_BeforeRebuild_DelegatesToDatabase() {
+        // Arrange
+        List<UserSuggestion> fromDatabase = List.of(new UserSuggestion(1L, "John", "Doe", "john.doe@example.com"));
+        when(delegate.suggest("jo", 10)).thenReturn(fromDatabase);
+
+        // Act & Assert
+        assertFalse(repository.isReady());
+        assertEquals(fromDatabase, repository.suggest("jo", 10));
+    }
+
+    @Test
+    @DisplayName("Suggest - Answers from the index once built, without the database")
+    void suggest_AfterRebuild_ServedFromIndex() {
+        // Arrange
+        rebuildWith(user(1L, "John", "Doe", 0L), user(2L, "Jane", "Smith", 0L));
+
+        // Act
+        List<UserSuggestion> suggestions = repository.suggest("smi", 10);
+
+        // Assert
+        assertTrue(repository.isReady());
+        assertEquals(2, repository.indexedCount());
+        assertEquals(List.of(new UserSuggestion(2L, "Jane", "Smith", "jane.smith@example.com")), suggestions);
+        verify(delegate, never()).suggest(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Save - Adds the saved user to the index")
+    void save_AddsUserToIndex() {
+        // Arrange
+        rebuildWith();
+        User user = user(3L, "New", "User", 0L);
+        when(delegate.save(user)).thenReturn(user);
+
+        // Act
+        repository.save(user);
+
+        // Assert
+        assertEquals(List.of(3L), ids(repository.suggest("new", 10)));
+    }
+
+    @Test
+    @DisplayName("Update - Replaces the user's entry in the index")
+    void update_ReplacesEntry() {
+        // Arrange
+        rebuildWith(user(1L, "John", "Doe", 0L));
+        User changes = new User();
+        when(delegate.update(1L, changes)).thenReturn(Optional.of(user(1L, "Johnny", "Doe", 1L)));
+
+        // Act
+        repository.update(1L, changes);
+
+        // Assert
+        assertEquals("Johnny", repository.suggest("jo", 10).get(0).firstName());
+        assertEquals(1, repository.indexedCount());
+    }
+
+    @Test
+    @DisplayName("Delete - Removes deleted users from the index")
+    void delete_RemovesUsersFromIndex() {
+        // Arrange
+        rebuildWith(user(1L, "John", "Doe", 0L), user(2L, "Jane", "Doe", 0L), user(3L, "Jim", "Doe", 0L));
+        when(delegate.deleteById(1L)).thenReturn(true);
+        when(delegate.deleteAllByIds(List.of(2L))).thenReturn(1);
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(delegate.deleteCreatedBefore(cutoff, 10)).thenReturn(List.of(3L));
+
+        // Act
+        repository.deleteById(1L);
+        repository.deleteAllByIds(List.of(2L));
+        repository.deleteCreatedBefore(cutoff, 10);
+
+        // Assert
+        assertTrue(repository.suggest("doe", 10).isEmpty());
+        assertEquals(0, repository.indexedCount());
+    }
+
+    @Test
+    @DisplayName("Rebuild - Keeps changes made while streaming over stale streamed rows")
+    void rebuild_ChangesDuringBuild_WinOverSnapshot() {
+        // Arrange
+        User streamed = user(1L, "John", "Doe", 0L);
+        User renamed = user(1L, "Johnny", "Doe", 1L);
+        when(delegate.update(1L, renamed)).thenReturn(Optional.of(renamed));
+        when(delegate.deleteById(2L)).thenReturn(true);
+        doAnswer(invocation -> {
+            Consumer<User> action = invocation.getArgument(0);
+            repository.update(1L, renamed);
+            repository.deleteById(2L);
+            action.accept(streamed);
+            action.accept(user(2L, "Jane", "Doe", 0L));
+            return null;
+        }).when(delegate).streamAll(any());
+
+        // Act
+        repository.rebuild();
+
+        // Assert
+        assertEquals(List.of(new UserSuggestion(1L, "Johnny", "Doe", "johnny.doe@example.com")),
+                repository.suggest("doe", 10));
+    }
+
+    @Test
+    @DisplayName("Publish - Applies changes made through other instances")
+    void publish_OtherInstanceChanges_AppliedToIndex() {
+        // Arrange
+        rebuildWith(user(1L, "John", "Doe", 0L), user(2L, "Jane", "Doe", 0L));
+        when(delegate.findAllByIds(Set.of(1L, 3L)))
+                .thenReturn(List.of(user(1L, "Johnny", "Doe", 1L), user(3L, "Jim", "Doe", 0L)));
+
+        // Act
+        repository.publish(List.of(
+                event(10L, UserChangeType.UPDATED, 1L),
+                event(11L, UserChangeType.CREATED, 3L),
+                event(12L, UserChangeType.DELETED, 2L)));
+
+        // Assert
+        assertEquals(List.of(3L, 1L), ids(repository.suggest("doe", 10)));
+        assertEquals("Johnny", repository.suggest("johnny", 10).get(0).firstName());
+    }
+
+    @Test
+    @DisplayName("Publish - Loads nothing while the index is disabled")
+    void publish_IndexNotBuilt_LoadsNothing() {
+        // Act
+        repository.publish(List.of(event(10L, UserChangeType.CREATED, 1L)));
+
+        // Assert
+        verifyNoInteractions(delegate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rebuildWith(User... users) {
+        doAnswer(invocation -> {
+            Consumer<User> action = invocation.getArgument(0);
+            for (User user : users) {
+                action.accept(user);
+            }
+            return null;
+        }).when(delegate).streamAll(any(Consumer.class));
+        repository.rebuild();
+    }
+
+    private static User user(Long id, String firstName, String lastName, Long version) {
+        User user = new User(firstName, lastName,
+                firstName.toLowerCase() + "." + lastName.toLowerCase() + "@example.com", null);
+        user.setId(id);
+        user.setVersion(version);
+        return user;
+    }
+
+    private static UserChangeEvent event(long sequence, UserChangeType type, long userId) {
+        return new UserChangeEvent(sequence, type, userId, Instant.now());
+    }
+
+    private static List<Long> ids(List<UserSuggestion> suggestions) {
+        return suggestions.stream().map(UserSuggestion::id).toList();
+    }
+}
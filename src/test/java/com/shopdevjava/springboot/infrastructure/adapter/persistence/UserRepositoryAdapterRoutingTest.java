@@ -0,0 +1,180 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
+import com.shopdevjava.springboot.domain.repository.UserCountRepository;
+import com.shopdevjava.springboot.domain.repository.UserOutboxRepository;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.repository.JpaUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the adapter, behind its transactional proxy, against two embedded databases holding
+ * different users, so every read shows whether it went to the primary or the replica.
+ * The replica lags: it still has a user the primary has deleted.
+ */
+@SpringJUnitConfig(UserRepositoryAdapterRoutingTest.RoutingConfiguration.class)
+public class UserRepositoryAdapterRoutingTest {
+
+    private static final String PRIMARY_EMAIL = "primary@example.com";
+    private static final String REPLICA_EMAIL = "replica@example.com";
+
+    /**
+     * Deleted on the primary, still present on the lagging replica
+     */
+    private static final String DELETED_EMAIL = "deleted@example.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+    }
+
+    @Test
+    @DisplayName("Stream All Emails - The email filter is rebuilt from the primary")
+    void streamAllEmails_ReadsPrimary() {
+        // Act
+        List<String> emails = new ArrayList<>();
+        userRepository.streamAllEmails(emails::add);
+
+        // Assert
+        assertEquals(List.of(PRIMARY_EMAIL), emails);
+    }
+
+    @Test
+    @DisplayName("Rebuild - The typeahead index is built from the primary")
+    void typeaheadRebuild_ReadsPrimary() {
+        // Arrange
+        TypeaheadUserRepository typeahead = new TypeaheadUserRepository(userRepository);
+
+        // Act
+        typeahead.rebuild();
+
+        // Assert
+        assertEquals(List.of(PRIMARY_EMAIL), typeahead.suggest("pri", 10).stream()
+                .map(UserSuggestion::email)
+                .toList());
+        assertTrue(typeahead.suggest("rep", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Stream All - The export keeps reading the replica from its read-only transaction")
+    void streamAll_InReadOnlyTransaction_ReadsReplica() {
+        // Arrange
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Act
+        List<String> emails = new ArrayList<>();
+        readOnly.executeWithoutResult(status -> userRepository.streamAll(user -> emails.add(user.getEmail())));
+
+        // Assert
+        assertEquals(List.of(REPLICA_EMAIL, DELETED_EMAIL), emails);
+    }
+
+    @Test
+    @DisplayName("Cache - Misses in read-only transactions are loaded from the primary")
+    void cacheMiss_InReadOnlyTransaction_LoadsFromPrimary() {
+        // Arrange
+        CachingUserRepository cache = new CachingUserRepository(userRepository, 100,
+                Duration.ofMinutes(10), Duration.ofSeconds(30));
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Act
+        Optional<User> user = readOnly.execute(status -> cache.findById(1L));
+        Optional<User> deleted = readOnly.execute(status -> cache.findById(2L));
+        Optional<User> byEmail = readOnly.execute(status -> cache.findByEmail(DELETED_EMAIL));
+        List<User> byIds = readOnly.execute(status -> cache.findAllByIds(List.of(3L, 2L)));
+
+        // Assert
+        assertEquals(PRIMARY_EMAIL, user.orElseThrow().getEmail());
+        assertTrue(deleted.isEmpty());
+        assertTrue(byEmail.isEmpty());
+        assertTrue(byIds.isEmpty());
+        assertFalse(ReadYourWrites.isPinnedToPrimary());
+    }
+
+    @Test
+    @DisplayName("Cache - Reading the primary for a miss does not pin the session")
+    void cacheMiss_DoesNotCountAsWrite() {
+        // Arrange
+        CachingUserRepository cache = new CachingUserRepository(userRepository, 100,
+                Duration.ofMinutes(10), Duration.ofSeconds(30));
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        ReadYourWrites.begin(false, () -> fail("No write expected"));
+
+        // Act
+        readOnly.execute(status -> cache.findById(1L));
+
+        // Assert
+        assertFalse(ReadYourWrites.isPinnedToPrimary());
+        assertEquals(List.of(REPLICA_EMAIL, DELETED_EMAIL), readOnly.execute(status -> {
+            List<String> emails = new ArrayList<>();
+            userRepository.streamAll(u -> emails.add(u.getEmail()));
+            return emails;
+        }));
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class RoutingConfiguration {
+
+        @Bean
+        DataSource dataSource() {
+            return new ReadWriteRoutingDataSource(database(PRIMARY_EMAIL), database(REPLICA_EMAIL, DELETED_EMAIL));
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        UserRepositoryAdapter userRepositoryAdapter(DataSource dataSource) {
+            return new UserRepositoryAdapter(mock(JpaUserRepository.class), new JdbcTemplate(dataSource),
+                    mock(UserOutboxRepository.class), mock(UserCountRepository.class), Duration.ofMillis(500));
+        }
+
+        private static DataSource database(String... emails) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:users" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, first_name VARCHAR(255), "
+                    + "last_name VARCHAR(255), email VARCHAR(255), password VARCHAR(255), "
+                    + "created_at TIMESTAMP, updated_at TIMESTAMP, version BIGINT)");
+            for (int i = 0; i < emails.length; i++) {
+                jdbcTemplate.update("INSERT INTO users VALUES (?, 'First', 'Last', ?, 'hash', "
+                        + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)", i + 1, emails[i]);
+            }
+            return dataSource;
+        }
+    }
+}
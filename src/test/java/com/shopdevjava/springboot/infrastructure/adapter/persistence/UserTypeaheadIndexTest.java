@@ -0,0 +1,157 @@
+package com.shopdevjava.springboot.infrastructure.adapter.persistence;
+
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserTypeaheadIndexTest {
+
+    private UserTypeaheadIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserTypeaheadIndex();
+    }
+
+    @Test
+    @DisplayName("Suggest - Matches word prefixes of names and email")
+    void suggest_WordPrefixes_MatchNamesAndEmail() {
+        // Arrange
+        index.put(user(1L, "John", "Doe", "jd.work@example.com", 0L));
+        index.put(user(2L, "Jane", "Smith", "jane.smith@example.com", 0L));
+
+        // Act & Assert
+        assertEquals(List.of(2L, 1L), ids(index.suggest("j", 10)));
+        assertEquals(List.of(1L), ids(index.suggest("do", 10)));
+        assertEquals(List.of(1L), ids(index.suggest("wor", 10)));
+        assertEquals(List.of(2L), ids(index.suggest("ja sm", 10)));
+        assertEquals(List.of(), ids(index.suggest("oe", 10)));
+    }
+
+    @Test
+    @DisplayName("Suggest - Returns the display fields of the match")
+    void suggest_ReturnsDisplayFields() {
+        // Arrange
+        index.put(user(7L, "Sơn", "Trần", "son.tran@example.com", 0L));
+
+        // Act
+        List<UserSuggestion> suggestions = index.suggest("so", 10);
+
+        // Assert
+        assertEquals(List.of(new UserSuggestion(7L, "Sơn", "Trần", "son.tran@example.com")), suggestions);
+    }
+
+    @Test
+    @DisplayName("Suggest - Ignores case and accents")
+    void suggest_AccentsAndCase_AreFolded() {
+        // Arrange
+        index.put(user(1L, "Đức", "Nguyễn", "duc@example.com", 0L));
+
+        // Act & Assert
+        assertEquals(List.of(1L), ids(index.suggest("NGUYEN", 10)));
+        assertEquals(List.of(1L), ids(index.suggest("đức", 10)));
+        assertEquals(List.of(1L), ids(index.suggest("duc ng", 10)));
+    }
+
+    @Test
+    @DisplayName("Suggest - Checks query words longer than the indexed prefixes")
+    void suggest_LongWord_VerifiedAgainstWholeWords() {
+        // Arrange
+        index.put(user(1L, "Jonathan", "Smith", "jonathan@example.com", 0L));
+        index.put(user(2L, "Jonathon", "Smith", "jonathon@example.com", 0L));
+
+        // Act & Assert
+        assertEquals(List.of(1L), ids(index.suggest("jonatha", 10)));
+        assertEquals(List.of(2L), ids(index.suggest("jonathon", 10)));
+    }
+
+    @Test
+    @DisplayName("Suggest - Matches the email domain only after an @")
+    void suggest_EmailDomain_MatchedAfterAt() {
+        // Arrange
+        index.put(user(1L, "John", "Doe", "john@gmail.com", 0L));
+        index.put(user(2L, "John", "Roe", "john@yahoo.com", 0L));
+
+        // Act & Assert
+        assertEquals(List.of(1L), ids(index.suggest("john@gm", 10)));
+        assertEquals(List.of(), ids(index.suggest("gmail", 10)));
+    }
+
+    @Test
+    @DisplayName("Suggest - Ranks whole-word matches first, then newest first, up to the limit")
+    void suggest_RanksWholeWordsFirst() {
+        // Arrange
+        index.put(user(1L, "Jon", "Snow", "snow@example.com", 0L));
+        index.put(user(2L, "Jonas", "Berg", "berg@example.com", 0L));
+        index.put(user(3L, "Jonathan", "Lee", "lee@example.com", 0L));
+
+        // Act & Assert
+        assertEquals(List.of(1L, 3L, 2L), ids(index.suggest("jon", 10)));
+        assertEquals(List.of(1L, 3L), ids(index.suggest("jon", 2)));
+    }
+
+    @Test
+    @DisplayName("Put - Replaces a user's entry, ignoring older versions")
+    void put_NewerVersion_ReplacesEntry() {
+        // Arrange
+        index.put(user(1L, "John", "Doe", "john@example.com", 1L));
+
+        // Act
+        index.put(user(1L, "Johnny", "Doe", "johnny@example.com", 2L));
+        index.put(user(1L, "John", "Doe", "john@example.com", 1L));
+
+        // Assert
+        assertEquals(1, index.size());
+        assertEquals(List.of(new UserSuggestion(1L, "Johnny", "Doe", "johnny@example.com")), index.suggest("jo", 10));
+    }
+
+    @Test
+    @DisplayName("Remove - Drops the user and ignores it being put back")
+    void remove_DropsUserForGood() {
+        // Arrange
+        index.put(user(1L, "John", "Doe", "john@example.com", 1L));
+
+        // Act
+        index.remove(1L);
+        index.put(user(1L, "John", "Doe", "john@example.com", 1L));
+
+        // Assert
+        assertEquals(0, index.size());
+        assertTrue(index.suggest("john", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Trim To Size - Keeps the index usable for further changes")
+    void trimToSize_ThenPut_StillIndexes() {
+        // Arrange
+        for (long id = 1; id <= 2000; id++) {
+            index.put(user(id, "User", "Number" + id, "user" + id + "@example.com", 0L));
+        }
+
+        // Act
+        index.trimToSize();
+        index.put(user(2001L, "Trimmed", "User", "trimmed@example.com", 0L));
+
+        // Assert
+        assertEquals(2001, index.size());
+        assertEquals(List.of(2001L), ids(index.suggest("trim", 10)));
+        assertEquals(List.of(1234L), ids(index.suggest("number1234", 10)));
+    }
+
+    private static User user(Long id, String firstName, String lastName, String email, Long version) {
+        User user = new User(firstName, lastName, email, null);
+        user.setId(id);
+        user.setVersion(version);
+        return user;
+    }
+
+    private static List<Long> ids(List<UserSuggestion> suggestions) {
+        return suggestions.stream().map(UserSuggestion::id).toList();
+    }
+}
@@ -0,0 +1,165 @@
+package com.shopdevjava.springboot.infrastructure.adapter.security;
+
+import com.shopdevjava.springboot.application.exception.CapacityExceededException;
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordHasherTest {
+
+    private BoundedPasswordHasher hasher;
+    private ExecutorService callers;
+
+    @AfterEach
+    void tearDown() {
+        if (hasher != null) {
+            hasher.shutdown();
+        }
+        if (callers != null) {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Hash - Produces BCrypt hashes that match the raw password")
+    void hash_BCrypt_MatchesRawPassword() {
+        // Arrange
+        hasher = new BoundedPasswordHasher(new BCryptPasswordHasher(4), 2, 4);
+
+        // Act
+        String hash = hasher.hash("password123");
+
+        // Assert
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(hasher.matches("password123", hash));
+        assertFalse(hasher.matches("wrongpassword", hash));
+    }
+
+    @Test
+    @DisplayName("Hash - Runs on the dedicated pool, not the calling thread")
+    void hash_RunsOnHasherPool() {
+        // Arrange
+        PasswordHasher threadNameHasher = new PasswordHasher() {
+            @Override
+            public String hash(String rawPassword) {
+                return Thread.currentThread().getName();
+            }
+
+            @Override
+            public boolean matches(String rawPassword, String hash) {
+                return false;
+            }
+        };
+        hasher = new BoundedPasswordHasher(threadNameHasher, 1, 1);
+
+        // Act & Assert
+        assertTrue(hasher.hash("password123").startsWith("password-hasher-"));
+    }
+
+    @Test
+    @DisplayName("Hash - Rejects immediately once the queue is full")
+    void hash_Saturated_FailsFast() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHasher blockingHasher = new PasswordHasher() {
+            @Override
+            public String hash(String rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(String rawPassword, String hash) {
+                return false;
+            }
+        };
+        hasher = new BoundedPasswordHasher(blockingHasher, 1, 1);
+        callers = Executors.newFixedThreadPool(2);
+
+        // Occupy the only thread, then the only queue slot
+        callers.submit(() -> hasher.hash("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> hasher.hash("second"));
+        while (hasher.queueDepth() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Act & Assert
+        assertThrows(CapacityExceededException.class, () -> hasher.hash("third"));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Hash - Propagates failures of the delegate")
+    void hash_DelegateFails_RethrowsCause() {
+        // Arrange
+        hasher = new BoundedPasswordHasher(new BCryptPasswordHasher(4), 1, 1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> hasher.hash(null));
+    }
+
+    @Test
+    @DisplayName("Hash All - Hashes in parallel, one per pool thread")
+    void hashAll_UsesEveryPoolThread() {
+        // Arrange
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        PasswordHasher slowHasher = new PasswordHasher() {
+            @Override
+            public String hash(String rawPassword) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return "hashed-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(String rawPassword, String hash) {
+                return false;
+            }
+        };
+        // A queue smaller than the batch, as deep as the pool: the batch must not overflow it
+        hasher = new BoundedPasswordHasher(slowHasher, 3, 3);
+
+        // Act
+        List<String> hashes = hasher.hashAll(List.of("a", "b", "c", "d", "e", "f", "g"));
+
+        // Assert
+        assertEquals(List.of("hashed-a", "hashed-b", "hashed-c", "hashed-d", "hashed-e", "hashed-f", "hashed-g"),
+                hashes);
+        assertEquals(3, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("Hash All - Propagates the first failure")
+    void hashAll_DelegateFails_RethrowsCause() {
+        // Arrange
+        hasher = new BoundedPasswordHasher(new BCryptPasswordHasher(4), 2, 1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> hasher.hashAll(Arrays.asList("password123", null, "password456")));
+    }
+}
@@ -0,0 +1,152 @@
+package com.shopdevjava.springboot.infrastructure.adapter.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.domain.model.AccessToken;
+import com.shopdevjava.springboot.domain.model.TokenClaims;
+import com.shopdevjava.springboot.domain.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private JwtCodec codec;
+    private JwtAuthenticationFilter filter;
+    private MockFilterChain chain;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        codec = new JwtCodec(SECRET, Duration.ofHours(1));
+        filter = new JwtAuthenticationFilter(codec, revokedTokenRepository, new ObjectMapper().findAndRegisterModules());
+        chain = new MockFilterChain();
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("Filter - Valid token passes with its claims")
+    void doFilter_ValidToken_PassesClaims() throws Exception {
+        // Arrange
+        AccessToken token = codec.issue(1L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/users/1");
+        request.addHeader("Authorization", "Bearer " + token.value());
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        TokenClaims claims = (TokenClaims) request.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE);
+        assertEquals(token.claims().tokenId(), claims.tokenId());
+    }
+
+    @Test
+    @DisplayName("Filter - Missing token returns 401")
+    void doFilter_MissingToken_Rejects() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/users/1");
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(401, response.getStatus());
+        assertEquals("Bearer", response.getHeader("WWW-Authenticate"));
+        assertTrue(response.getContentAsString().contains("\"success\":false"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Filter - Invalid token returns 401")
+    void doFilter_InvalidToken_Rejects() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/users/1");
+        request.addHeader("Authorization", "Bearer not-a-token");
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Filter - Revoked token returns 401")
+    void doFilter_RevokedToken_Rejects() throws Exception {
+        // Arrange
+        AccessToken token = codec.issue(1L);
+        when(revokedTokenRepository.isRevoked(token.claims().tokenId())).thenReturn(true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/users/1");
+        request.addHeader("Authorization", "Bearer " + token.value());
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Filter - Sign-up is allowed without a token")
+    void doFilter_SignUp_Passes() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/api/users");
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    @DisplayName("Filter - Checking an email before signing up is allowed without a token")
+    void doFilter_EmailCheck_Passes() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("HEAD", "/v1/api/users");
+        request.setParameter("email", "john.doe@example.com");
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("Filter - HEAD on the user list still needs a token")
+    void doFilter_HeadWithoutEmail_ReturnsUnauthorized() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("HEAD", "/v1/api/users");
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+}
@@ -0,0 +1,125 @@
+package com.shopdevjava.springboot.infrastructure.adapter.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.domain.model.AccessToken;
+import com.shopdevjava.springboot.domain.model.TokenClaims;
+import com.shopdevjava.springboot.domain.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtAuthenticationWebFilterTest {
+
+    private static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private JwtCodec codec;
+    private JwtAuthenticationWebFilter filter;
+    private AtomicBoolean passed;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        codec = new JwtCodec(SECRET, Duration.ofHours(1));
+        filter = new JwtAuthenticationWebFilter(codec, revokedTokenRepository, new ObjectMapper().findAndRegisterModules());
+        passed = new AtomicBoolean();
+        chain = exchange -> {
+            passed.set(true);
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    @DisplayName("Web Filter - Valid token passes with its claims")
+    void filter_ValidToken_PassesClaims() {
+        // Arrange
+        AccessToken token = codec.issue(1L);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/users/1")
+                .header("Authorization", "Bearer " + token.value()));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertTrue(passed.get());
+        TokenClaims claims = exchange.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE);
+        assertEquals(token.claims().tokenId(), claims.tokenId());
+    }
+
+    @Test
+    @DisplayName("Web Filter - Missing token returns 401")
+    void filter_MissingToken_Rejects() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/users/1"));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertEquals("Bearer", exchange.getResponse().getHeaders().getFirst("WWW-Authenticate"));
+        assertTrue(exchange.getResponse().getBodyAsString().block().contains("\"success\":false"));
+        assertFalse(passed.get());
+    }
+
+    @Test
+    @DisplayName("Web Filter - Revoked token returns 401")
+    void filter_RevokedToken_Rejects() {
+        // Arrange
+        AccessToken token = codec.issue(1L);
+        when(revokedTokenRepository.isRevoked(token.claims().tokenId())).thenReturn(true);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/v1/api/users")
+                .header("Authorization", "Bearer " + token.value()));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertFalse(passed.get());
+    }
+
+    @Test
+    @DisplayName("Web Filter - Sign-up is allowed without a token")
+    void filter_SignUp_Passes() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/v1/api/users"));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertTrue(passed.get());
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    @DisplayName("Web Filter - Paths outside the user endpoints are not filtered")
+    void filter_OtherPath_Passes() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertTrue(passed.get());
+    }
+}
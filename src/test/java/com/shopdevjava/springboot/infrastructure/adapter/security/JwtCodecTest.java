@@ -0,0 +1,97 @@
+package com.shopdevjava.springboot.infrastructure.adapter.security;
+
+import com.shopdevjava.springboot.domain.model.AccessToken;
+import com.shopdevjava.springboot.domain.model.TokenClaims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtCodecTest {
+
+    private static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final JwtCodec codec = new JwtCodec(SECRET, Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("Verify - Accepts tokens it issued")
+    void verify_IssuedToken_ReturnsClaims() {
+        // Arrange
+        AccessToken token = codec.issue(42L);
+
+        // Act
+        Optional<TokenClaims> claims = codec.verify(token.value());
+
+        // Assert
+        assertTrue(claims.isPresent());
+        assertEquals(42L, claims.get().userId());
+        assertEquals(token.claims().tokenId(), claims.get().tokenId());
+        assertEquals(NOW, claims.get().issuedAt());
+        assertEquals(NOW.plus(Duration.ofHours(1)), claims.get().expiresAt());
+    }
+
+    @Test
+    @DisplayName("Verify - Rejects tokens whose payload was changed")
+    void verify_TamperedPayload_ReturnsEmpty() {
+        // Arrange
+        String[] parts = codec.issue(42L).value().split("\\.");
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.US_ASCII)
+                        .replace("\"42\"", "\"1\"").getBytes(StandardCharsets.US_ASCII));
+
+        // Act & Assert
+        assertTrue(codec.verify(parts[0] + "." + forged + "." + parts[2]).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify - Rejects tokens signed with another key")
+    void verify_OtherKey_ReturnsEmpty() {
+        // Arrange
+        JwtCodec other = new JwtCodec("00".repeat(32), Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Act & Assert
+        assertTrue(codec.verify(other.issue(42L).value()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify - Rejects expired tokens")
+    void verify_Expired_ReturnsEmpty() {
+        // Arrange
+        String token = codec.issue(42L).value();
+        JwtCodec later = new JwtCodec(SECRET, Duration.ofHours(1),
+                Clock.fixed(NOW.plus(Duration.ofHours(1)), ZoneOffset.UTC));
+
+        // Act & Assert
+        assertTrue(later.verify(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Verify - Rejects malformed tokens")
+    void verify_Malformed_ReturnsEmpty() {
+        // Arrange
+        String token = codec.issue(42L).value();
+
+        // Act & Assert
+        assertTrue(codec.verify("").isEmpty());
+        assertTrue(codec.verify("not-a-token").isEmpty());
+        assertTrue(codec.verify(token + ".extra").isEmpty());
+        assertTrue(codec.verify(token.substring(0, token.lastIndexOf('.') + 1) + "%%%").isEmpty());
+        assertTrue(codec.verify("eyJhbGciOiJub25lIn0" + token.substring(token.indexOf('.'))).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Create - Rejects secrets shorter than 256 bits")
+    void create_ShortSecret_Throws() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new JwtCodec("abcd", Duration.ofHours(1)));
+    }
+}
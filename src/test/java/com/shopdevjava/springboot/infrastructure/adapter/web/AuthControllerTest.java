@@ -0,0 +1,94 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.application.port.in.AuthUseCase;
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.domain.model.AccessToken;
+import com.shopdevjava.springboot.domain.model.TokenClaims;
+import com.shopdevjava.springboot.infrastructure.adapter.security.JwtAuthenticationFilter;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.LoginRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AuthController.class)
+public class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private AuthUseCase authUseCase;
+
+    @Test
+    @DisplayName("POST /v1/api/auth/login - Returns access token")
+    void login_ValidCredentials_ReturnsToken() throws Exception {
+        // Arrange
+        Instant expiresAt = Instant.parse("2024-01-02T00:00:00Z");
+        when(authUseCase.login("john.doe@example.com", "password123")).thenReturn(
+                new AccessToken("header.payload.signature", new TokenClaims(1L, "id", Instant.now(), expiresAt)));
+
+        // Act & Assert
+        mockMvc.perform(post("/v1/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("john.doe@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.accessToken").value("header.payload.signature"))
+                .andExpect(jsonPath("$.data.tokenType").value("Bearer"));
+    }
+
+    @Test
+    @DisplayName("POST /v1/api/auth/login - Invalid credentials return 401")
+    void login_InvalidCredentials_ReturnsUnauthorized() throws Exception {
+        // Arrange
+        when(authUseCase.login("john.doe@example.com", "wrong")).thenThrow(
+                new UserException("Invalid email or password", UserException.UserExceptionType.UNAUTHORIZED));
+
+        // Act & Assert
+        mockMvc.perform(post("/v1/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("john.doe@example.com", "wrong"))))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Invalid email or password"));
+    }
+
+    @Test
+    @DisplayName("POST /v1/api/auth/logout - Revokes the authenticated token")
+    void logout_Authenticated_RevokesToken() throws Exception {
+        // Arrange
+        TokenClaims claims = new TokenClaims(1L, "id", Instant.now(), Instant.now().plusSeconds(60));
+
+        // Act & Assert
+        mockMvc.perform(post("/v1/api/auth/logout")
+                        .requestAttr(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE, claims))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Logged out successfully"));
+
+        verify(authUseCase).logout(claims);
+    }
+
+    @Test
+    @DisplayName("POST /v1/api/auth/logout - Unauthenticated request returns 401")
+    void logout_Unauthenticated_ReturnsUnauthorized() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/v1/api/auth/logout"))
+                .andExpect(status().isUnauthorized());
+
+        verify(authUseCase, never()).logout(any());
+    }
+}
@@ -0,0 +1,206 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.application.port.in.ReactiveUserUseCase;
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.model.UserPage;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(ReactiveUserController.class)
+@ActiveProfiles("reactive")
+public class ReactiveUserControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveUserUseCase userUseCase;
+
+    private User testUser1;
+    private User testUser2;
+
+    @BeforeEach
+    void setUp() {
+        testUser1 = new User("John", "Doe", "john.doe@example.com", "password123");
+        testUser1.setId(1L);
+        testUser1.setCreatedAt(LocalDateTime.now());
+        testUser1.setUpdatedAt(LocalDateTime.now());
+        testUser1.setVersion(3L);
+
+        testUser2 = new User("Jane", "Smith", "jane.smith@example.com", "password456");
+        testUser2.setId(2L);
+        testUser2.setCreatedAt(LocalDateTime.now());
+        testUser2.setUpdatedAt(LocalDateTime.now());
+        testUser2.setVersion(0L);
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users - List Users (first page)")
+    void listUsers_FirstPage_ReturnsPageOfUsers() {
+        // Arrange
+        when(userUseCase.listUsers(null, 2))
+                .thenReturn(Mono.just(new UserPage(List.of(testUser1, testUser2), UserCursor.of(testUser2))));
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/api/users?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.items.length()").isEqualTo(2)
+                .jsonPath("$.data.items[0].email").isEqualTo("john.doe@example.com")
+                .jsonPath("$.data.items[0].password").doesNotExist()
+                .jsonPath("$.data.hasMore").isEqualTo(true)
+                .jsonPath("$.data.nextCursor").isEqualTo(CursorCodec.encode(UserCursor.of(testUser2)));
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users - Invalid cursor returns 400")
+    void listUsers_InvalidCursor_ReturnsBadRequest() {
+        // Act & Assert
+        webTestClient.get().uri("/v1/api/users?cursor=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(false);
+
+        verifyNoInteractions(userUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/export - Streams users as NDJSON")
+    void exportUsers_StreamsNdjson() {
+        // Arrange
+        when(userUseCase.exportUsers()).thenReturn(Flux.just(testUser1, testUser2));
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/api/users/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .value(body -> {
+                    String[] lines = body.trim().split("\n");
+                    assertEquals(2, lines.length);
+                    assertTrue(lines[1].contains("jane.smith@example.com"));
+                });
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/{id} - Returns user with ETag")
+    void getUserById_ReturnsUserWithETag() {
+        // Arrange
+        when(userUseCase.getUserById(1L)).thenReturn(Mono.just(testUser1));
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/api/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"3\"")
+                .expectBody()
+                .jsonPath("$.data.firstName").isEqualTo("John");
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/{id} - If-None-Match with current ETag returns 304")
+    void getUserById_MatchingIfNoneMatch_ReturnsNotModified() {
+        // Arrange
+        when(userUseCase.getUserVersion(1L)).thenReturn(Mono.just(3L));
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/api/users/1")
+                .header("If-None-Match", "\"3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", "\"3\"");
+
+        verify(userUseCase, never()).getUserById(anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/{id} - Not found returns 404")
+    void getUserById_UserNotFound_ReturnsNotFound() {
+        // Arrange
+        when(userUseCase.getUserById(999L)).thenReturn(Mono.error(
+                new UserException("User not found with id: 999", UserException.UserExceptionType.NOT_FOUND)));
+
+        // Act & Assert
+        webTestClient.get().uri("/v1/api/users/999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("User not found with id: 999");
+    }
+
+    @Test
+    @DisplayName("POST /v1/api/users - Create User")
+    void createUser_ValidRequest_ReturnsCreated() {
+        // Arrange
+        User savedUser = new User("New", "User", "new.user@example.com", "newpassword123");
+        savedUser.setId(3L);
+        savedUser.setVersion(0L);
+        when(userUseCase.createUser(any(User.class))).thenReturn(Mono.just(savedUser));
+
+        // Act & Assert
+        webTestClient.post().uri("/v1/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UserRequest("New", "User", "new.user@example.com", "newpassword123"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals("ETag", "\"0\"")
+                .expectBody()
+                .jsonPath("$.data.id").isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("POST /v1/api/users - Invalid request returns 400")
+    void createUser_InvalidRequest_ReturnsBadRequest() {
+        // Act & Assert
+        webTestClient.post().uri("/v1/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UserRequest("", "", "invalid-email", "123"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.BAD_REQUEST)
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(false);
+
+        verify(userUseCase, never()).createUser(any(User.class));
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/api/users/{id} - Delete User")
+    void deleteUser_ExistingUser_ReturnsSuccess() {
+        // Arrange
+        when(userUseCase.deleteUser(anyLong())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        webTestClient.delete().uri("/v1/api/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("User deleted successfully");
+    }
+}
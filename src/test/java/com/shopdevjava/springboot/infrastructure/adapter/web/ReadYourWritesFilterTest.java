@@ -0,0 +1,117 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.ReadYourWrites;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
+
+    private final ReadYourWritesFilter filter = filterAt(NOW);
+
+    @Test
+    @DisplayName("Filter - A write sets the read-your-writes cookie")
+    void doFilter_Write_SetsCookie() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("POST", "/v1/api/users"), response,
+                chainRunning(ReadYourWrites::recordWrite));
+
+        // Assert
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertNotNull(cookie);
+        assertTrue(cookie.getValue().startsWith(NOW.plusSeconds(5).toEpochMilli() + "."));
+        assertEquals(5, cookie.getMaxAge());
+        assertFalse(ReadYourWrites.isPinnedToPrimary());
+    }
+
+    @Test
+    @DisplayName("Filter - Reads set no cookie")
+    void doFilter_ReadOnly_SetsNoCookie() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/api/users"), response, chainRunning(() -> { }));
+
+        // Assert
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+    }
+
+    @Test
+    @DisplayName("Filter - A cookie within its window pins reads to the primary")
+    void doFilter_CookieWithinWindow_PinsToPrimary() throws Exception {
+        assertTrue(pinnedWithCookie(cookieIssuedAt(NOW.minusSeconds(4))));
+    }
+
+    @Test
+    @DisplayName("Filter - Expired or malformed cookies are ignored")
+    void doFilter_ExpiredOrMalformedCookie_ReadsFromReplica() throws Exception {
+        assertFalse(pinnedWithCookie(cookieIssuedAt(NOW.minusSeconds(6))));
+        assertFalse(pinnedWithCookie("garbage"));
+        assertFalse(pinnedWithCookie("garbage.garbage"));
+    }
+
+    @Test
+    @DisplayName("Filter - Forged cookies and windows longer than the server grants are ignored")
+    void doFilter_ForgedOrOverlongCookie_ReadsFromReplica() throws Exception {
+        String signed = cookieIssuedAt(NOW);
+        String signature = signed.substring(signed.indexOf('.'));
+        
+        assertFalse(pinnedWithCookie("9999999999999"));
+        assertFalse(pinnedWithCookie("9999999999999" + signature));
+        assertFalse(pinnedWithCookie(cookieIssuedAt(NOW.plusSeconds(3600))));
+    }
+
+    /**
+     * Value of the cookie a write at {@code issuedAt} would have set
+     */
+    private static String cookieIssuedAt(Instant issuedAt) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filterAt(issuedAt).doFilter(new MockHttpServletRequest("POST", "/v1/api/users"), response,
+                chainRunning(ReadYourWrites::recordWrite));
+        return response.getCookie(ReadYourWritesFilter.COOKIE_NAME).getValue();
+    }
+
+    private static ReadYourWritesFilter filterAt(Instant now) {
+        return new ReadYourWritesFilter(Duration.ofSeconds(5), SECRET, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private boolean pinnedWithCookie(String value) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/users");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, value));
+        AtomicBoolean pinned = new AtomicBoolean();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                chainRunning(() -> pinned.set(ReadYourWrites.isPinnedToPrimary())));
+        return pinned.get();
+    }
+
+    private static MockFilterChain chainRunning(Runnable action) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                action.run();
+            }
+        });
+    }
+}
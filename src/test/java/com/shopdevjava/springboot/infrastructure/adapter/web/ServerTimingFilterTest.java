@@ -0,0 +1,117 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.SqlStatementLog;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServerTimingFilterTest {
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementLog.end();
+    }
+
+    @Test
+    @DisplayName("Filter - Reports the time spent in each layer")
+    void doFilter_Sampled_SetsServerTimingHeader() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        new ServerTimingFilter(1.0).doFilter(new MockHttpServletRequest("GET", "/v1/api/users/1"), response,
+                chainRunning(() -> {
+                    RequestTimings.handlerStarted();
+                    RequestTimings.record(RequestTimings.Layer.SERVICE, TimeUnit.MILLISECONDS.toNanos(3));
+                    RequestTimings.record(RequestTimings.Layer.REPOSITORY, TimeUnit.MICROSECONDS.toNanos(1500));
+                    RequestTimings.record(RequestTimings.Layer.REPOSITORY, TimeUnit.MICROSECONDS.toNanos(42));
+                }));
+
+        // Assert
+        String header = response.getHeader(ServerTimingFilter.HEADER);
+        assertNotNull(header);
+        assertTrue(header.startsWith("app;dur="), header);
+        assertTrue(header.contains(", controller;dur="), header);
+        assertTrue(header.contains(", service;dur=3.000, repository;dur=1.542"), header);
+        assertFalse(header.contains("db;"), "No statement log is bound: " + header);
+        assertTrue(duration(header, "app") >= duration(header, "controller"), header);
+        assertEquals("ok", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Filter - Adds statement and pool time from the statement log")
+    void doFilter_StatementLogBound_ReportsDbAndPool() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        SqlStatementLog.begin();
+
+        // Act
+        new ServerTimingFilter(1.0).doFilter(new MockHttpServletRequest("GET", "/v1/api/users"), response,
+                chainRunning(() -> { }));
+
+        // Assert
+        String header = response.getHeader(ServerTimingFilter.HEADER);
+        assertTrue(header.contains(", db;dur=0.000;desc=\"0 statements\", pool;dur=0.000"), header);
+    }
+
+    @Test
+    @DisplayName("Filter - Requests outside the sample pass through untimed")
+    void doFilter_NotSampled_SetsNoHeader() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        new ServerTimingFilter(0).doFilter(new MockHttpServletRequest("GET", "/v1/api/users/1"), response,
+                chainRunning(() -> RequestTimings.record(RequestTimings.Layer.SERVICE, 1)));
+
+        // Assert
+        assertNull(response.getHeader(ServerTimingFilter.HEADER));
+        assertEquals("ok", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Filter - Unbinds the timings when the request ends")
+    void doFilter_UnbindsTimings() throws Exception {
+        // Arrange
+        new ServerTimingFilter(1.0).doFilter(new MockHttpServletRequest("GET", "/v1/api/users/1"),
+                new MockHttpServletResponse(), chainRunning(() -> { }));
+        RequestTimings.record(RequestTimings.Layer.SERVICE, TimeUnit.SECONDS.toNanos(1));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        new ServerTimingFilter(1.0).doFilter(new MockHttpServletRequest("GET", "/v1/api/users/1"), response,
+                chainRunning(() -> { }));
+
+        // Assert
+        assertTrue(response.getHeader(ServerTimingFilter.HEADER).contains(", service;dur=0.000"));
+    }
+
+    private static double duration(String header, String name) {
+        Matcher matcher = Pattern.compile(name + ";dur=([0-9.]+)").matcher(header);
+        assertTrue(matcher.find(), header);
+        return Double.parseDouble(matcher.group(1));
+    }
+
+    private static MockFilterChain chainRunning(Runnable action) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                action.run();
+                resp.getWriter().write("ok");
+            }
+        });
+    }
+}
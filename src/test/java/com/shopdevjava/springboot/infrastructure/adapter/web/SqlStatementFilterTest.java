@@ -0,0 +1,170 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.SqlStatementLog;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.StatementCountingDataSource;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SqlStatementFilterTest {
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource targetDataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenAnswer(invocation -> mock(Statement.class));
+        dataSource = new StatementCountingDataSource(targetDataSource);
+    }
+
+    @Test
+    @DisplayName("Filter - Reports the request's statements in response headers")
+    void doFilter_SetsStatementHeaders() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        new SqlStatementFilter(10, 5, true).doFilter(new MockHttpServletRequest("GET", "/v1/api/users"), response,
+                chainRunning(2, 0));
+
+        // Assert
+        assertEquals("2", response.getHeader(SqlStatementFilter.STATEMENTS_HEADER));
+        assertNotNull(response.getHeader(SqlStatementFilter.TIME_HEADER));
+        assertEquals("ok", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Filter - Headers reflect the statements run before the body was written")
+    void doFilter_StatementsWhileStreaming_MissHeaders() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        new SqlStatementFilter(10, 5, true).doFilter(new MockHttpServletRequest("GET", "/v1/api/users/export"),
+                response, chainRunning(1, 3));
+
+        // Assert
+        assertEquals("1", response.getHeader(SqlStatementFilter.STATEMENTS_HEADER));
+    }
+
+    @Test
+    @DisplayName("Filter - Counts requests with no statements and no body")
+    void doFilter_NoStatementsNoBody_SetsZero() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        new SqlStatementFilter(10, 5, true).doFilter(new MockHttpServletRequest("HEAD", "/v1/api/users"), response,
+                new MockFilterChain());
+
+        // Assert
+        assertEquals("0", response.getHeader(SqlStatementFilter.STATEMENTS_HEADER));
+    }
+
+    @Test
+    @DisplayName("Filter - Leaves headers out when disabled")
+    void doFilter_HeadersDisabled_SetsNoHeaders() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        new SqlStatementFilter(10, 5, false).doFilter(new MockHttpServletRequest("GET", "/v1/api/users"), response,
+                chainRunning(2, 0));
+
+        // Assert
+        assertNull(response.getHeader(SqlStatementFilter.STATEMENTS_HEADER));
+        assertNull(response.getHeader(SqlStatementFilter.TIME_HEADER));
+    }
+
+    @Test
+    @DisplayName("Filter - Counts statements an async handler runs on the task executor")
+    void doFilter_AsyncHandler_CarriesLogToTaskAndAsyncDispatch() throws Exception {
+        // Arrange
+        SqlStatementFilter filter = new SqlStatementFilter(10, 5, true);
+        SqlStatementTaskDecorator decorator = new SqlStatementTaskDecorator();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/users/export");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicInteger countOnAsyncDispatch = new AtomicInteger(-1);
+
+        // Act
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                execute(1);
+                req.startAsync();
+                Thread worker = new Thread(decorator.decorate(() -> {
+                    execute(2);
+                    try {
+                        resp.getWriter().write("ok");
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }));
+                worker.start();
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }));
+        request.setAsyncStarted(false);
+        request.setDispatcherType(DispatcherType.ASYNC);
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                countOnAsyncDispatch.set(SqlStatementLog.current().statementCount());
+            }
+        }));
+
+        // Assert
+        assertEquals("3", response.getHeader(SqlStatementFilter.STATEMENTS_HEADER));
+        assertEquals(3, countOnAsyncDispatch.get());
+        assertNull(SqlStatementLog.current());
+    }
+
+    /**
+     * A handler that executes {@code before} statements, writes its body, then executes
+     * {@code after} more
+     */
+    private MockFilterChain chainRunning(int before, int after) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                execute(before);
+                resp.getWriter().write("ok");
+                execute(after);
+            }
+        });
+    }
+
+    private void execute(int statements) {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (int i = 0; i < statements; i++) {
+                statement.execute("SELECT " + i);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
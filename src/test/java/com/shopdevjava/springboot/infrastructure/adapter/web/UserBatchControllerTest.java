@@ -0,0 +1,86 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.application.port.in.UserUseCase;
+import com.shopdevjava.springboot.domain.exception.UserException;
+import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserBatchResult;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.BatchCreateUsersRequest;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(UserBatchController.class)
+public class UserBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private UserUseCase userUseCase;
+
+    @Test
+    @DisplayName("POST /v1/api/users:batch - Reports per-item results")
+    void createUsers_MixedBatch_ReturnsPerItemResults() throws Exception {
+        // Arrange
+        UserRequest valid = new UserRequest("New", "User", "new.user@example.com", "newpassword123");
+        UserRequest invalid = new UserRequest("", "User", "not-an-email", "pwd");
+        UserRequest duplicate = new UserRequest("John", "Doe", "john.doe@example.com", "password123");
+
+        User created = new User("New", "User", "new.user@example.com", "newpassword123");
+        created.setId(10L);
+        created.setCreatedAt(LocalDateTime.now());
+        when(userUseCase.createUsers(any())).thenReturn(List.of(
+                UserBatchResult.success(0, created),
+                UserBatchResult.failure(1, UserException.UserExceptionType.DUPLICATE_EMAIL, "Email already in use")));
+
+        // Act & Assert
+        mockMvc.perform(post("/v1/api/users:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new BatchCreateUsersRequest(List.of(valid, invalid, duplicate)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("Batch processed: 1 created, 2 failed"))
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].success").value(true))
+                .andExpect(jsonPath("$.data[0].user.id").value(10))
+                .andExpect(jsonPath("$.data[1].index").value(1))
+                .andExpect(jsonPath("$.data[1].success").value(false))
+                .andExpect(jsonPath("$.data[1].error").value("VALIDATION_ERROR"))
+                .andExpect(jsonPath("$.data[2].index").value(2))
+                .andExpect(jsonPath("$.data[2].success").value(false))
+                .andExpect(jsonPath("$.data[2].error").value("DUPLICATE_EMAIL"));
+
+        // Only the two valid items reach the use case
+        verify(userUseCase).createUsers(argThat(users -> users.size() == 2));
+    }
+
+    @Test
+    @DisplayName("POST /v1/api/users:batch - Empty batch is rejected")
+    void createUsers_EmptyBatch_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/v1/api/users:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchCreateUsersRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verify(userUseCase, never()).createUsers(any());
+    }
+}
@@ -1,8 +1,21 @@
 package com.shopdevjava.springboot.infrastructure.adapter.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.application.exception.CapacityExceededException;
 import com.shopdevjava.springboot.application.port.in.UserUseCase;
+import com.shopdevjava.springboot.domain.exception.UserException;
 import com.shopdevjava.springboot.domain.model.User;
+import com.shopdevjava.springboot.domain.model.UserChangeEvent;
+import com.shopdevjava.springboot.domain.model.UserChangeType;
+import com.shopdevjava.springboot.domain.model.UserCount;
+import com.shopdevjava.springboot.domain.model.UserCursor;
+import com.shopdevjava.springboot.domain.model.UserDeletion;
+import com.shopdevjava.springboot.domain.model.UserField;
+import com.shopdevjava.springboot.domain.model.UserLookup;
+import com.shopdevjava.springboot.domain.model.UserPage;
+import com.shopdevjava.springboot.domain.model.UserProjectionPage;
+import com.shopdevjava.springboot.domain.model.UserSearchPage;
+import com.shopdevjava.springboot.domain.model.UserSuggestion;
 import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,12 +25,24 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -35,6 +60,9 @@ public class UserControllerTest {
     @MockBean
     private UserUseCase userUseCase;
 
+    @MockBean
+    private UserEventStream userEventStream;
+
     private User testUser1;
     private User testUser2;
     private UserRequest userRequest;
@@ -46,39 +74,231 @@ public class UserControllerTest {
         testUser1.setId(1L);
         testUser1.setCreatedAt(LocalDateTime.now());
         testUser1.setUpdatedAt(LocalDateTime.now());
+        testUser1.setVersion(3L);
 
         testUser2 = new User("Jane", "Smith", "jane.smith@example.com", "password456");
         testUser2.setId(2L);
         testUser2.setCreatedAt(LocalDateTime.now());
         testUser2.setUpdatedAt(LocalDateTime.now());
+        testUser2.setVersion(0L);
 
         // Create user request for POST/PUT tests
         userRequest = new UserRequest("New", "User", "new.user@example.com", "newpassword123");
     }
 
     @Test
-    @DisplayName("GET /v1/api/users - Get All Users")
-    void getAllUsers_ReturnsListOfUsers() throws Exception {
+    @DisplayName("GET /v1/api/users - List Users (first page)")
+    void listUsers_FirstPage_ReturnsPageOfUsers() throws Exception {
         // Arrange
-        List<User> users = Arrays.asList(testUser1, testUser2);
-        when(userUseCase.getAllUsers()).thenReturn(users);
+        UserPage page = new UserPage(Arrays.asList(testUser1, testUser2), UserCursor.of(testUser2));
+        when(userUseCase.listUsers(null, 2)).thenReturn(page);
 
         // Act & Assert
-        mockMvc.perform(get("/v1/api/users"))
+        mockMvc.perform(get("/v1/api/users").param("limit", "2"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Users retrieved successfully"))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(jsonPath("$.data.items[0].id").value(testUser1.getId()))
+                .andExpect(jsonPath("$.data.items[0].firstName").value(testUser1.getFirstName()))
+                .andExpect(jsonPath("$.data.items[0].email").value(testUser1.getEmail()))
+                .andExpect(jsonPath("$.data.items[1].id").value(testUser2.getId()))
+                .andExpect(jsonPath("$.data.items[1].firstName").value(testUser2.getFirstName()))
+                .andExpect(jsonPath("$.data.items[1].email").value(testUser2.getEmail()))
+                .andExpect(jsonPath("$.data.hasMore").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").isString());
+
+        verify(userUseCase).listUsers(null, 2);
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users - List Users (next page from cursor)")
+    void listUsers_WithCursor_PassesDecodedCursor() throws Exception {
+        // Arrange
+        UserCursor cursor = UserCursor.of(testUser1);
+        when(userUseCase.listUsers(null, 1)).thenReturn(new UserPage(List.of(testUser1), cursor));
+        when(userUseCase.listUsers(cursor, 1)).thenReturn(new UserPage(List.of(testUser2), null));
+
+        String firstPage = mockMvc.perform(get("/v1/api/users").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).path("data").path("nextCursor").asText();
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/users").param("limit", "1").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].id").value(testUser2.getId()))
+                .andExpect(jsonPath("$.data.hasMore").value(false))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+
+        verify(userUseCase).listUsers(cursor, 1);
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users - Invalid Cursor")
+    void listUsers_InvalidCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/api/users").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Invalid pagination cursor"));
+
+        verify(userUseCase, never()).listUsers(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users?ids= - Get Users By IDs")
+    void getUsersByIds_ReturnsUsersAndMissingIds() throws Exception {
+        // Arrange
+        when(userUseCase.getUsersByIds(List.of(2L, 1L, 99L)))
+                .thenReturn(new UserLookup(List.of(testUser2, testUser1), List.of(99L)));
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/users").param("ids", "2,1,99"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.users.length()").value(2))
+                .andExpect(jsonPath("$.data.users[0].id").value(testUser2.getId()))
+                .andExpect(jsonPath("$.data.users[1].id").value(testUser1.getId()))
+                .andExpect(jsonPath("$.data.missingIds[0]").value(99));
+
+        verify(userUseCase).getUsersByIds(List.of(2L, 1L, 99L));
+        verify(userUseCase, never()).listUsers(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/export - Export Users as NDJSON")
+    void exportUsers_StreamsOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<User> sink = invocation.getArgument(0);
+            sink.accept(testUser1);
+            sink.accept(testUser2);
+            return null;
+        }).when(userUseCase).exportUsers(any());
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/v1/api/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(UserController.APPLICATION_NDJSON_VALUE))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(testUser1.getEmail(), objectMapper.readTree(lines[0]).path("email").asText());
+        assertEquals(testUser2.getEmail(), objectMapper.readTree(lines[1]).path("email").asText());
+        assertFalse(lines[0].contains("password"));
+        assertTrue(lines[1].startsWith("{"));
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/search - Returns ranked page with continuation cursor")
+    void searchUsers_ReturnsPageWithCursor() throws Exception {
+        // Arrange
+        when(userUseCase.searchUsers("john", 0, 1)).thenReturn(new UserSearchPage(List.of(testUser1), 1));
+        when(userUseCase.searchUsers("john", 1, 1)).thenReturn(new UserSearchPage(List.of(testUser2), null));
+
+        // Act
+        String response = mockMvc.perform(get("/v1/api/users/search").param("q", "john").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].email").value(testUser1.getEmail()))
+                .andExpect(jsonPath("$.data.items[0].password").doesNotExist())
+                .andExpect(jsonPath("$.data.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(response).path("data").path("nextCursor").asText();
+
+        // Assert
+        mockMvc.perform(get("/v1/api/users/search").param("q", "john").param("limit", "1").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].email").value(testUser2.getEmail()))
+                .andExpect(jsonPath("$.data.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/search - Listing cursors are not search cursors")
+    void searchUsers_InvalidCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/api/users/search").param("q", "john").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid pagination cursor"));
+        
+        verify(userUseCase, never()).searchUsers(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/count - Returns an approximate count with its error bound")
+    void countUsers_Approximate_ReturnsEstimate() throws Exception {
+        // Arrange
+        Instant asOf = Instant.parse("2026-01-01T00:00:00Z");
+        when(userUseCase.countUsers(false)).thenReturn(new UserCount(1000L, false, 25L, asOf));
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/users/count").param("mode", "approximate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.count").value(1000))
+                .andExpect(jsonPath("$.data.exact").value(false))
+                .andExpect(jsonPath("$.data.maxError").value(25));
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/count - Rejects an unknown mode")
+    void countUsers_UnknownMode_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/users/count").param("mode", "roughly"))
+                .andExpect(status().isBadRequest());
+        verify(userUseCase, never()).countUsers(anyBoolean());
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/typeahead - Returns suggestions without timestamps or passwords")
+    void suggestUsers_ReturnsSuggestions() throws Exception {
+        // Arrange
+        when(userUseCase.suggestUsers("jo", 10)).thenReturn(List.of(UserSuggestion.of(testUser1)));
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/users/typeahead").param("q", "jo"))
+                .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data[0].id").value(testUser1.getId()))
-                .andExpect(jsonPath("$.data[0].firstName").value(testUser1.getFirstName()))
                 .andExpect(jsonPath("$.data[0].email").value(testUser1.getEmail()))
-                .andExpect(jsonPath("$.data[1].id").value(testUser2.getId()))
-                .andExpect(jsonPath("$.data[1].firstName").value(testUser2.getFirstName()))
-                .andExpect(jsonPath("$.data[1].email").value(testUser2.getEmail()));
+                .andExpect(jsonPath("$.data[0].createdAt").doesNotExist())
+                .andExpect(jsonPath("$.data[0].password").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/events - Streams user change events")
+    void streamUserEvents_PushesPublishedEvents() throws Exception {
+        // Arrange
+        UserEventStream stream = new UserEventStream(1, 10, Runnable::run);
+        when(userEventStream.subscribe()).thenAnswer(invocation -> stream.subscribe());
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/v1/api/users/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        stream.publish(List.of(new UserChangeEvent(7L, UserChangeType.CREATED, 1L, Instant.now())));
 
-        verify(userUseCase).getAllUsers();
+        // Assert
+        String body = started.getResponse().getContentAsString();
+        assertTrue(MediaType.TEXT_EVENT_STREAM.isCompatibleWith(MediaType.parseMediaType(started.getResponse().getContentType())));
+        assertTrue(body.contains("id:7\n"));
+        assertTrue(body.contains("event:user.created\n"));
+        assertTrue(body.contains("\"userId\":1"));
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/events - Too many subscribers returns 503")
+    void streamUserEvents_AtCapacity_ReturnsServiceUnavailable() throws Exception {
+        // Arrange
+        when(userEventStream.subscribe()).thenThrow(new CapacityExceededException("Too many event stream subscribers"));
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/users/events"))
+                .andExpect(status().isServiceUnavailable());
     }
 
     @Test
@@ -101,6 +321,122 @@ public class UserControllerTest {
         verify(userUseCase).getUserById(1L);
     }
 
+    @Test
+    @DisplayName("GET /v1/api/users?fields= - Returns only the selected fields")
+    void listUserFields_ReturnsProjectedUsers() throws Exception {
+        // Arrange
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1L);
+        row.put("email", "john.doe@example.com");
+        when(userUseCase.listUsers(null, 20, EnumSet.of(UserField.ID, UserField.EMAIL)))
+                .thenReturn(new UserProjectionPage(List.of(row), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/users").param("fields", "email, id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].id").value(1))
+                .andExpect(jsonPath("$.data.items[0].email").value("john.doe@example.com"))
+                .andExpect(jsonPath("$.data.items[0].firstName").doesNotExist())
+                .andExpect(jsonPath("$.data.hasMore").value(false));
+
+        verify(userUseCase, never()).listUsers(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users?fields= - Unknown field returns 400")
+    void listUserFields_UnknownField_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/users").param("fields", "id,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        verifyNoInteractions(userUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/{id}?fields= - Returns only the selected fields")
+    void getUserFieldsById_ReturnsProjectedUser() throws Exception {
+        // Arrange
+        when(userUseCase.getUserById(1L, EnumSet.of(UserField.FIRST_NAME)))
+                .thenReturn(Map.of("firstName", "John"));
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/users/1").param("fields", "firstName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.firstName").value("John"))
+                .andExpect(jsonPath("$.data.email").doesNotExist());
+
+        verify(userUseCase, never()).getUserById(1L);
+    }
+
+    @Test
+    @DisplayName("HEAD /v1/api/users?email= - Registered email returns 200")
+    void checkEmail_Registered_ReturnsOk() throws Exception {
+        // Arrange
+        when(userUseCase.isEmailRegistered("john.doe@example.com")).thenReturn(true);
+
+        // Act & Assert
+        mockMvc.perform(head("/v1/api/users").param("email", "john.doe@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+
+        verify(userUseCase, never()).listUsers(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("HEAD /v1/api/users?email= - Available email returns 404")
+    void checkEmail_Available_ReturnsNotFound() throws Exception {
+        // Arrange
+        when(userUseCase.isEmailRegistered("new.user@example.com")).thenReturn(false);
+
+        // Act & Assert
+        mockMvc.perform(head("/v1/api/users").param("email", "new.user@example.com"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/{id} - Returns ETag from version")
+    void getUserById_ReturnsETag() throws Exception {
+        // Arrange
+        when(userUseCase.getUserById(1L)).thenReturn(testUser1);
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/users/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.data.version").value(3));
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/{id} - If-None-Match with current ETag returns 304")
+    void getUserById_MatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+        // Arrange
+        when(userUseCase.getUserVersion(1L)).thenReturn(3L);
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/users/1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(userUseCase).getUserVersion(1L);
+        verify(userUseCase, never()).getUserById(anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/{id} - If-None-Match with stale ETag returns user")
+    void getUserById_StaleIfNoneMatch_ReturnsUser() throws Exception {
+        // Arrange
+        when(userUseCase.getUserVersion(1L)).thenReturn(3L);
+        when(userUseCase.getUserById(1L)).thenReturn(testUser1);
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/api/users/1").header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.data.id").value(testUser1.getId()));
+    }
+
     @Test
     @DisplayName("POST /v1/api/users - Create User")
     void createUser_ReturnsCreatedUser() throws Exception {
@@ -120,6 +456,7 @@ public class UserControllerTest {
         savedUser.setId(3L);
         savedUser.setCreatedAt(LocalDateTime.now());
         savedUser.setUpdatedAt(LocalDateTime.now());
+        savedUser.setVersion(0L);
 
         when(userUseCase.createUser(any(User.class))).thenReturn(savedUser);
 
@@ -151,6 +488,7 @@ public class UserControllerTest {
         updatedUser.setId(1L);
         updatedUser.setCreatedAt(testUser1.getCreatedAt());
         updatedUser.setUpdatedAt(LocalDateTime.now());
+        updatedUser.setVersion(4L);
 
         when(userUseCase.updateUser(eq(1L), any(User.class))).thenReturn(updatedUser);
 
@@ -169,6 +507,96 @@ public class UserControllerTest {
         verify(userUseCase).updateUser(eq(1L), any(User.class));
     }
 
+    @Test
+    @DisplayName("PUT /v1/api/users/{id} - If-Match performs conditional update")
+    void updateUser_WithIfMatch_UpdatesConditionally() throws Exception {
+        // Arrange
+        User updatedUser = new User("New", "User", "new.user@example.com", "newpassword123");
+        updatedUser.setId(1L);
+        updatedUser.setVersion(4L);
+        when(userUseCase.updateUser(eq(1L), any(User.class), eq(3L))).thenReturn(updatedUser);
+
+        // Act & Assert
+        mockMvc.perform(put("/v1/api/users/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequest)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+
+        verify(userUseCase).updateUser(eq(1L), any(User.class), eq(3L));
+        verify(userUseCase, never()).updateUser(eq(1L), any(User.class));
+    }
+
+    @Test
+    @DisplayName("PUT /v1/api/users/{id} - If-Match with stale ETag returns 412")
+    void updateUser_StaleIfMatch_ReturnsPreconditionFailed() throws Exception {
+        // Arrange
+        when(userUseCase.updateUser(eq(1L), any(User.class), eq(2L))).thenThrow(
+                new UserException("User was modified by another request", UserException.UserExceptionType.VERSION_CONFLICT));
+
+        // Act & Assert
+        mockMvc.perform(put("/v1/api/users/1")
+                        .header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("PATCH /v1/api/users/{id} - Updates only the given fields")
+    void patchUser_ReturnsUpdatedUser() throws Exception {
+        // Arrange
+        User updatedUser = new User("John", "Updated", "john.doe@example.com", "password123");
+        updatedUser.setId(1L);
+        updatedUser.setVersion(4L);
+        when(userUseCase.patchUser(eq(1L), any(User.class))).thenReturn(updatedUser);
+
+        // Act & Assert
+        mockMvc.perform(patch("/v1/api/users/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"lastName\":\"Updated\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.data.lastName").value("Updated"));
+
+        verify(userUseCase).patchUser(eq(1L), argThat(u -> "Updated".equals(u.getLastName())
+                && u.getFirstName() == null && u.getEmail() == null && u.getPassword() == null));
+    }
+
+    @Test
+    @DisplayName("PATCH /v1/api/users/{id} - If-Match performs conditional update")
+    void patchUser_WithIfMatch_UpdatesConditionally() throws Exception {
+        // Arrange
+        User updatedUser = new User("John", "Doe", "john.new@example.com", "password123");
+        updatedUser.setId(1L);
+        updatedUser.setVersion(4L);
+        when(userUseCase.patchUser(eq(1L), any(User.class), eq(3L))).thenReturn(updatedUser);
+
+        // Act & Assert
+        mockMvc.perform(patch("/v1/api/users/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"john.new@example.com\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+
+        verify(userUseCase, never()).patchUser(eq(1L), any(User.class));
+    }
+
+    @Test
+    @DisplayName("PATCH /v1/api/users/{id} - Blank field returns 400")
+    void patchUser_BlankField_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch("/v1/api/users/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\" \"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(userUseCase, never()).patchUser(anyLong(), any(User.class));
+    }
+
     @Test
     @DisplayName("DELETE /v1/api/users/{id} - Delete User")
     void deleteUser_ReturnsSuccessMessage() throws Exception {
@@ -185,6 +613,59 @@ public class UserControllerTest {
         verify(userUseCase).deleteUser(1L);
     }
 
+    @Test
+    @DisplayName("DELETE /v1/api/users?ids= - Deletes users in bulk")
+    void deleteUsers_ReturnsDeletedCount() throws Exception {
+        // Arrange
+        when(userUseCase.deleteUsers(List.of(1L, 2L, 3L))).thenReturn(2);
+
+        // Act & Assert
+        mockMvc.perform(delete("/v1/api/users").param("ids", "1,2,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Users deleted successfully"))
+                .andExpect(jsonPath("$.data.deletedCount").value(2));
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/api/users?createdBefore= - Deletes users created before the cutoff")
+    void deleteUsersCreatedBefore_ReturnsDeletedCount() throws Exception {
+        // Arrange
+        when(userUseCase.deleteUsersCreatedBefore(LocalDateTime.of(2024, 1, 1, 0, 0)))
+                .thenReturn(new UserDeletion(1000, true));
+
+        // Act & Assert
+        mockMvc.perform(delete("/v1/api/users").param("createdBefore", "2024-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.deletedCount").value(1000))
+                .andExpect(jsonPath("$.data.moreRemaining").value(true));
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/api/users?createdBefore= - Malformed timestamp returns 400")
+    void deleteUsersCreatedBefore_MalformedTimestamp_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/v1/api/users").param("createdBefore", "yesterday"))
+                .andExpect(status().isBadRequest());
+
+        verify(userUseCase, never()).deleteUsersCreatedBefore(any());
+    }
+
+    @Test
+    @DisplayName("POST /v1/api/users - Saturated password hashing returns 503")
+    void createUser_HashingSaturated_ReturnsServiceUnavailable() throws Exception {
+        // Arrange
+        when(userUseCase.createUser(any(User.class))).thenThrow(
+                new CapacityExceededException("Password hashing is saturated, try again later"));
+
+        // Act & Assert
+        mockMvc.perform(post("/v1/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
     @Test
     @DisplayName("POST /v1/api/users - Validation Error")
     void createUser_ValidationError_ReturnsBadRequest() throws Exception {
@@ -0,0 +1,83 @@
+package com.shopdevjava.springboot.infrastructure.adapter.web;
+
+import com.shopdevjava.springboot.application.exception.CapacityExceededException;
+import com.shopdevjava.springboot.domain.model.UserChangeEvent;
+import com.shopdevjava.springboot.domain.model.UserChangeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserEventStreamTest {
+
+    private static final List<UserChangeEvent> EVENTS =
+            List.of(new UserChangeEvent(1L, UserChangeType.CREATED, 42L, Instant.now()));
+
+    @Test
+    @DisplayName("Subscribe - Refuses subscribers beyond the limit")
+    void subscribe_BeyondLimit_Throws() {
+        // Arrange
+        UserEventStream stream = new UserEventStream(2, 10, Runnable::run);
+        stream.subscribe();
+        stream.subscribe();
+
+        // Act & Assert
+        assertThrows(CapacityExceededException.class, stream::subscribe);
+        assertEquals(2, stream.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Publish - Keeps live subscribers and drops closed ones")
+    void publish_ClosedSubscriber_IsDropped() {
+        // Arrange
+        UserEventStream stream = new UserEventStream(10, 10, Runnable::run);
+        stream.subscribe();
+        SseEmitter closed = stream.subscribe();
+        closed.complete();
+
+        // Act
+        stream.publish(EVENTS);
+
+        // Assert
+        assertEquals(1, stream.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Publish - Only queues the events; sending is left to the sender threads")
+    void publish_HandsOffToSender() {
+        // Arrange
+        List<Runnable> sends = new ArrayList<>();
+        UserEventStream stream = new UserEventStream(10, 10, sends::add);
+        stream.subscribe();
+
+        // Act
+        stream.publish(EVENTS);
+        stream.publish(EVENTS);
+
+        // Assert
+        assertEquals(1, sends.size());
+        assertEquals(1, stream.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Publish - Disconnects a subscriber that falls behind instead of waiting for it")
+    void publish_SlowSubscriber_IsDropped() {
+        // Arrange
+        List<Runnable> sends = new ArrayList<>();
+        UserEventStream stream = new UserEventStream(10, 2, sends::add);
+        stream.subscribe();
+        stream.publish(EVENTS);
+        stream.publish(EVENTS);
+
+        // Act
+        stream.publish(EVENTS);
+
+        // Assert
+        assertEquals(0, stream.subscriberCount());
+    }
+}
@@ -0,0 +1,162 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ConnectionPermitDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection targetConnection;
+
+    private ConnectionPermitDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionPermitDataSource(targetDataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Get Connection - Holds a permit until the connection is closed")
+    void getConnection_HoldsPermitUntilClosed() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertEquals(1, dataSource.availablePermits());
+        connection.close();
+        assertEquals(2, dataSource.availablePermits());
+        verify(targetConnection).close();
+    }
+
+    @Test
+    @DisplayName("Get Connection - Closing twice releases the permit once")
+    void getConnection_ClosedTwice_ReleasesPermitOnce() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        // Act
+        first.close();
+        first.close();
+
+        // Assert
+        assertEquals(1, dataSource.availablePermits());
+        second.close();
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Get Connection - Times out when all permits are taken")
+    void getConnection_NoPermitsLeft_TimesOut() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Act & Assert
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Get Connection - Returns the permit when the pool fails")
+    void getConnection_TargetFails_ReleasesPermit() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // Act & Assert
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Get Connection - Delegates other calls to the pooled connection")
+    void getConnection_DelegatesToTarget() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        when(targetConnection.getAutoCommit()).thenReturn(false);
+
+        // Act & Assert
+        try (Connection connection = dataSource.getConnection()) {
+            assertFalse(connection.getAutoCommit());
+        }
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Bind To - Publishes permits in use and callers waiting")
+    void bindTo_PublishesSaturationGauges() throws Exception {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dataSource = new ConnectionPermitDataSource(targetDataSource, 2, Duration.ofSeconds(5));
+        dataSource.bindTo(registry, "primary");
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try (Connection ignored = dataSource.getConnection()) {
+                acquired.countDown();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Act
+        waiter.start();
+        while (dataSource.waitingCallers() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Assert
+        assertEquals(2, registry.get("jdbc.connections.permits.active").tag("pool", "primary").gauge().value());
+        assertEquals(1, registry.get("jdbc.connections.permits.pending").tag("pool", "primary").gauge().value());
+        assertEquals(2, registry.get("jdbc.connections.permits.max").tag("pool", "primary").gauge().value());
+        first.close();
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        waiter.join();
+        assertEquals(0, registry.get("jdbc.connections.permits.pending").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Bind To - Times permit waits and counts timeouts")
+    void bindTo_TimesWaitsAndCountsTimeouts() throws SQLException {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dataSource.bindTo(registry, "primary");
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Act
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+
+        // Assert
+        assertEquals(3, registry.get("jdbc.connections.permits.acquire").tag("pool", "primary").timer().count());
+        assertEquals(1, registry.get("jdbc.connections.permits.timeout").tag("pool", "primary").counter().count());
+    }
+}
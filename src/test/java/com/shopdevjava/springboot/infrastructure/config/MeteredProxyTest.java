@@ -0,0 +1,87 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
+import com.shopdevjava.springboot.domain.exception.UserException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MeteredProxyTest {
+
+    private MeterRegistry registry;
+    private PasswordHasher hasher;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        PasswordHasher target = new PasswordHasher() {
+            @Override
+            public String hash(String rawPassword) {
+                if (rawPassword.isEmpty()) {
+                    throw new UserException("Password is required", UserException.UserExceptionType.VALIDATION_ERROR);
+                }
+                return "hashed:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(String rawPassword, String hash) {
+                throw new IllegalStateException("Hasher is shut down");
+            }
+        };
+        hasher = MeteredProxy.create(PasswordHasher.class, target, registry, "test.hasher");
+    }
+
+    @Test
+    @DisplayName("Create - Registers a success timer per method up front")
+    void create_RegistersTimerPerMethod() {
+        // Assert
+        assertEquals(0, timer("hash", "none").count());
+        assertEquals(0, timer("matches", "none").count());
+    }
+
+    @Test
+    @DisplayName("Invoke - Returns the target's result and times the call")
+    void invoke_Success_ReturnsResultAndRecordsTimer() {
+        // Act
+        String hash = hasher.hash("password123");
+
+        // Assert
+        assertEquals("hashed:password123", hash);
+        assertEquals(1, timer("hash", "none").count());
+        assertEquals(0, timer("matches", "none").count());
+    }
+
+    @Test
+    @DisplayName("Invoke - Rethrows the target's exception and tags the timer with it")
+    void invoke_Failure_RethrowsAndTagsException() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> hasher.matches("password123", "hash"));
+        assertEquals(1, timer("matches", "IllegalStateException").count());
+        assertEquals(0, timer("matches", "none").count());
+        assertNull(registry.find("test.hasher.exceptions").counter());
+    }
+
+    @Test
+    @DisplayName("Invoke - Counts user exceptions by type")
+    void invoke_UserException_CountsByType() {
+        // Act
+        UserException exception = assertThrows(UserException.class, () -> hasher.hash(""));
+
+        // Assert
+        assertEquals(UserException.UserExceptionType.VALIDATION_ERROR, exception.getType());
+        assertEquals(1, timer("hash", "UserException").count());
+        assertEquals(1, registry.get("test.hasher.exceptions")
+                .tag("method", "hash")
+                .tag("type", "VALIDATION_ERROR")
+                .counter().count());
+    }
+
+    private Timer timer(String method, String exception) {
+        return registry.get("test.hasher").tag("method", method).tag("exception", exception).timer();
+    }
+}
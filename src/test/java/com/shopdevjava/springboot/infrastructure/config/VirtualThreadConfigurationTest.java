@@ -0,0 +1,42 @@
+package com.shopdevjava.springboot.infrastructure.config;
+
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.StatementCountingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.annotation.UserConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VirtualThreadConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(UserConfigurations.of(SqlStatementConfiguration.class, VirtualThreadConfiguration.class))
+            .withBean("dataSource", HikariDataSource.class, HikariDataSource::new)
+            .withPropertyValues("spring.threads.virtual.enabled=true");
+
+    @Test
+    @DisplayName("Connection Gate - Wraps the pool before statement counting does")
+    void dataSource_GateSitsBetweenCountingAndPool() {
+        contextRunner.run(context -> {
+            DataSource dataSource = context.getBean("dataSource", DataSource.class);
+
+            assertInstanceOf(StatementCountingDataSource.class, dataSource);
+            ConnectionPermitDataSource gate = dataSource.unwrap(ConnectionPermitDataSource.class);
+            assertInstanceOf(HikariDataSource.class, gate.getTargetDataSource());
+        });
+    }
+
+    @Test
+    @DisplayName("Connection Gate - Off without virtual threads")
+    void dataSource_VirtualThreadsOff_NoGate() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=false").run(context -> {
+            DataSource dataSource = context.getBean("dataSource", DataSource.class);
+
+            assertFalse(dataSource.isWrapperFor(ConnectionPermitDataSource.class));
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package com.shopdevjava.springboot.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.application.port.out.PasswordHasher;
+import com.shopdevjava.springboot.config.TestConfig;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.BloomFilterUserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.LoginRequest;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "security.jwt.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+public class AuthApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BloomFilterUserRepository emailFilteredUserRepository;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userRepository.deleteAll();
+        
+        // Signing up needs no token
+        mockMvc.perform(post("/v1/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new UserRequest("John", "Doe", "john.doe@example.com", "password123"))))
+                .andExpect(status().isCreated());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Public endpoints answer without a token, the rest need one")
+    void endpoints_WithoutToken_OnlyPublicOnesAnswer() throws Exception {
+        // Signing up (setUp), checking an email and logging in are public
+        mockMvc.perform(head("/v1/api/users").param("email", "john.doe@example.com"))
+                .andExpect(status().isOk());
+        mockMvc.perform(head("/v1/api/users").param("email", "nobody@example.com"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/v1/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest("john.doe@example.com", "password123"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(head("/v1/api/users"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/v1/api/users/{id}", 1))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/v1/api/users:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"users\":[]}"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/v1/api/auth/logout"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users - Requires a token")
+    void listUsers_WithoutToken_ReturnsUnauthorized() throws Exception {
+        mockMvc.perform(get("/v1/api/users"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string("WWW-Authenticate", "Bearer"));
+    }
+
+    @Test
+    @DisplayName("POST /v1/api/auth/login - Users added behind the email filter's back can log in")
+    void login_UserInsertedBehindEmailFilter_ReturnsToken() throws Exception {
+        emailFilteredUserRepository.rebuild();
+        // As another instance, a bulk load or the reactive adapter would
+        jdbcTemplate.update("INSERT INTO users (id, first_name, last_name, email, password, created_at, updated_at, version) "
+                + "VALUES (nextval('users_id_seq'), 'Bulk', 'Import', 'bulk@example.com', ?, now(), now(), 0)",
+                passwordHasher.hash("password123"));
+
+        mockMvc.perform(post("/v1/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest("bulk@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.accessToken").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("Login, use the token, log out, then the token is refused")
+    void loginAndLogout_TokenLifecycle() throws Exception {
+        String response = mockMvc.perform(post("/v1/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest("john.doe@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(response).path("data").path("accessToken").asText();
+        
+        mockMvc.perform(get("/v1/api/users").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        
+        mockMvc.perform(post("/v1/api/auth/logout").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        
+        mockMvc.perform(get("/v1/api/users").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("POST /v1/api/auth/login - Wrong password returns 401")
+    void login_WrongPassword_ReturnsUnauthorized() throws Exception {
+        mockMvc.perform(post("/v1/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest("john.doe@example.com", "wrongpassword"))))
+                .andExpect(status().isUnauthorized());
+    }
+}
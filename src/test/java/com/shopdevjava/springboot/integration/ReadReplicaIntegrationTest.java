@@ -0,0 +1,89 @@
+package com.shopdevjava.springboot.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.ReadWriteRoutingDataSource;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.StatementCountingDataSource;
+import com.shopdevjava.springboot.infrastructure.adapter.web.ReadYourWritesFilter;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserRequest;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs the API with replica routing switched on; the test database doubles as the replica
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.url=${spring.datasource.url}",
+        "datasource.replica.username=${spring.datasource.username}",
+        "datasource.replica.password=${spring.datasource.password}"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReadReplicaIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Routing DataSource is the one used by the application")
+    void dataSource_IsRouting() throws SQLException {
+        // Behind the statement-counting wrapper
+        assertInstanceOf(StatementCountingDataSource.class, dataSource);
+        assertTrue(dataSource.isWrapperFor(ReadWriteRoutingDataSource.class));
+    }
+
+    @Test
+    @DisplayName("POST then GET - The write pins the client to the primary")
+    void createThenRead_SetsReadYourWritesCookie() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(post("/v1/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new UserRequest("John", "Doe", "john.doe@example.com", "password123"))))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE_NAME))
+                .andReturn().getResponse();
+        long id = objectMapper.readTree(response.getContentAsString()).path("data").path("id").asLong();
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        
+        mockMvc.perform(get("/v1/api/users/{id}", id).cookie(cookie))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.email").value("john.doe@example.com"))
+                .andExpect(cookie().doesNotExist(ReadYourWritesFilter.COOKIE_NAME));
+    }
+}
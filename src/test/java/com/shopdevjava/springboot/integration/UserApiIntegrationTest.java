@@ -2,29 +2,42 @@ package com.shopdevjava.springboot.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shopdevjava.springboot.config.TestConfig;
+import com.shopdevjava.springboot.domain.repository.UserCountRepository;
 import com.shopdevjava.springboot.domain.repository.UserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.persistence.TypeaheadUserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.web.ServerTimingFilter;
+import com.shopdevjava.springboot.infrastructure.adapter.web.SqlStatementFilter;
 import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.shopdevjava.springboot.config.SqlStatementAssertions.assertSqlStatements;
+import static com.shopdevjava.springboot.config.SqlStatementAssertions.sqlStatements;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
 @ActiveProfiles("test")
 @Import(TestConfig.class)
 public class UserApiIntegrationTest {
@@ -38,6 +51,15 @@ public class UserApiIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TypeaheadUserRepository typeaheadUserRepository;
+
+    @Autowired
+    private UserCountRepository userCountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Long testUserId;
 
     @BeforeEach
@@ -68,18 +90,161 @@ public class UserApiIntegrationTest {
     }
 
     @Test
-    @DisplayName("GET /v1/api/users - Get All Users")
-    void getAllUsers_ReturnsUsers() throws Exception {
+    @DisplayName("GET /v1/api/users - List Users")
+    void listUsers_ReturnsUsers() throws Exception {
         mockMvc.perform(get("/v1/api/users"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Users retrieved successfully"))
-                .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items", hasSize(1)))
+                .andExpect(jsonPath("$.data.items[0].firstName").value("John"))
+                .andExpect(jsonPath("$.data.items[0].lastName").value("Doe"))
+                .andExpect(jsonPath("$.data.items[0].email").value("john.doe@example.com"))
+                .andExpect(jsonPath("$.data.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users - Paginate with cursor")
+    void listUsers_WithCursor_ReturnsNextPage() throws Exception {
+        UserRequest secondUser = new UserRequest("Jane", "Smith", "jane.smith@example.com", "password456");
+        mockMvc.perform(post("/v1/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(secondUser)))
+                .andExpect(status().isCreated());
+
+        MvcResult firstPage = mockMvc.perform(get("/v1/api/users").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(1)))
+                .andExpect(jsonPath("$.data.items[0].email").value("john.doe@example.com"))
+                .andExpect(jsonPath("$.data.hasMore").value(true))
+                .andReturn();
+        String nextCursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                .path("data").path("nextCursor").asText();
+
+        mockMvc.perform(get("/v1/api/users").param("limit", "1").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(1)))
+                .andExpect(jsonPath("$.data.items[0].email").value("jane.smith@example.com"))
+                .andExpect(jsonPath("$.data.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/export - Export Users as NDJSON")
+    void exportUsers_StreamsAllUsers() throws Exception {
+        MvcResult started = mockMvc.perform(get("/v1/api/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(1, lines.length);
+        assertEquals("john.doe@example.com", objectMapper.readTree(lines[0]).path("email").asText());
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users?fields= - Selected fields only")
+    void listUsers_WithFields_ReturnsOnlySelectedFields() throws Exception {
+        mockMvc.perform(get("/v1/api/users").param("fields", "id,email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(1)))
+                .andExpect(jsonPath("$.data.items[0].id").value(testUserId))
+                .andExpect(jsonPath("$.data.items[0].email").value("john.doe@example.com"))
+                .andExpect(jsonPath("$.data.items[0].firstName").doesNotExist())
+                .andExpect(jsonPath("$.data.items[0].password").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/search - Prefix matches rank first, typos still match")
+    void searchUsers_RanksPrefixMatchesAndToleratesTypos() throws Exception {
+        for (UserRequest request : List.of(
+                new UserRequest("Mary", "Blacksmith", "mary.b@example.com", "password123"),
+                new UserRequest("Jonathan", "Smith", "jonathan@example.com", "password123"))) {
+            mockMvc.perform(post("/v1/api/users")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+        
+        mockMvc.perform(get("/v1/api/users/search").param("q", "SMITH"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(2)))
+                .andExpect(jsonPath("$.data.items[0].lastName").value("Smith"))
+                .andExpect(jsonPath("$.data.items[1].lastName").value("Blacksmith"));
+        
+        mockMvc.perform(get("/v1/api/users/search").param("q", "jonathon"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(1)))
+                .andExpect(jsonPath("$.data.items[0].firstName").value("Jonathan"));
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/count - Tracks creates and deletes, and reconciles rows written behind its back")
+    void countUsers_TracksChangesAndReconciles() throws Exception {
+        mockMvc.perform(post("/v1/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new UserRequest("Jane", "Smith", "jane.smith@example.com", "password123"))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/v1/api/users/count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.count").value(2))
+                .andExpect(jsonPath("$.data.exact").value(true));
+        
+        userRepository.deleteById(testUserId);
+        jdbcTemplate.update("INSERT INTO users (id, first_name, last_name, email, password, created_at, updated_at, version) "
+                + "VALUES (nextval('users_id_seq'), 'Bulk', 'Import', 'bulk@example.com', 'x', now(), now(), 0)");
+        assertEquals(1L, userCountRepository.count());
+        assertEquals(1L, userCountRepository.reconcile());
+        assertEquals(0L, userCountRepository.reconcile());
+        
+        jdbcTemplate.execute("ANALYZE users");
+        mockMvc.perform(get("/v1/api/users/count").param("mode", "approximate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.count").value(2))
+                .andExpect(jsonPath("$.data.exact").value(false))
+                .andExpect(jsonPath("$.data.maxError").value(0));
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/typeahead - Suggests from the database, then from the index once built")
+    void suggestUsers_DatabaseThenIndex() throws Exception {
+        mockMvc.perform(post("/v1/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new UserRequest("Nguyễn", "Văn An", "an.nguyen@example.com", "password123"))))
+                .andExpect(status().isCreated());
+        
+        mockMvc.perform(get("/v1/api/users/typeahead").param("q", "an.ng"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].email").value("an.nguyen@example.com"));
+        
+        typeaheadUserRepository.rebuild();
+        mockMvc.perform(get("/v1/api/users/typeahead").param("q", "nguyen an"))
+                .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].firstName").value("John"))
-                .andExpect(jsonPath("$.data[0].lastName").value("Doe"))
-                .andExpect(jsonPath("$.data[0].email").value("john.doe@example.com"));
+                .andExpect(jsonPath("$.data[0].firstName").value("Nguyễn"));
+        
+        userRepository.deleteById(testUserId);
+        mockMvc.perform(get("/v1/api/users/typeahead").param("q", "john"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/search - Wildcards in the query are matched literally")
+    void searchUsers_Wildcards_MatchLiterally() throws Exception {
+        mockMvc.perform(get("/v1/api/users/search").param("q", "%%%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(0)));
+        
+        mockMvc.perform(get("/v1/api/users/search").param("q", "jo"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -165,6 +330,45 @@ public class UserApiIntegrationTest {
         assertEquals(1, userRepository.count());
     }
 
+    @Test
+    @DisplayName("PATCH /v1/api/users/{id} - Updates only the given fields")
+    void patchUser_PartialUpdate_KeepsOtherFields() throws Exception {
+        mockMvc.perform(patch("/v1/api/users/" + testUserId)
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"lastName\":\"Updated\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.data.firstName").value("John"))
+                .andExpect(jsonPath("$.data.lastName").value("Updated"))
+                .andExpect(jsonPath("$.data.email").value("john.doe@example.com"));
+        
+        // The stale version no longer matches
+        mockMvc.perform(patch("/v1/api/users/" + testUserId)
+                .header("If-Match", "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"firstName\":\"Johnny\"}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("PATCH /v1/api/users/{id} - Email of another user is rejected")
+    void patchUser_DuplicateEmail_ReturnsBadRequest() throws Exception {
+        UserRequest otherUser = new UserRequest("Jane", "Smith", "jane.smith@example.com", "password123");
+        mockMvc.perform(post("/v1/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(otherUser)))
+                .andExpect(status().isCreated());
+        
+        mockMvc.perform(patch("/v1/api/users/" + testUserId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"jane.smith@example.com\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Email already in use"));
+        
+        assertEquals("Doe", userRepository.findByEmail("john.doe@example.com").orElseThrow().getLastName());
+    }
+
     @Test
     @DisplayName("DELETE /v1/api/users/{id} - Delete User")
     void deleteUser_ExistingUser_ReturnsSuccess() throws Exception {
@@ -178,6 +382,121 @@ public class UserApiIntegrationTest {
         assertEquals(0, userRepository.count());
     }
 
+    @Test
+    @DisplayName("DELETE /v1/api/users/{id} - Unknown user returns 404")
+    void deleteUser_UnknownUser_ReturnsNotFound() throws Exception {
+        mockMvc.perform(delete("/v1/api/users/" + (testUserId + 1000)))
+                .andExpect(status().isNotFound());
+        
+        assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/api/users?ids= - Deletes only existing users")
+    void deleteUsers_ByIds_ReturnsDeletedCount() throws Exception {
+        mockMvc.perform(delete("/v1/api/users")
+                .param("ids", testUserId + "," + (testUserId + 1000)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.deletedCount").value(1));
+        
+        assertEquals(0, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/api/users?createdBefore= - Deletes users older than the cutoff")
+    void deleteUsers_CreatedBefore_ReturnsDeletedCount() throws Exception {
+        mockMvc.perform(delete("/v1/api/users")
+                .param("createdBefore", "2000-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.deletedCount").value(0));
+        
+        mockMvc.perform(delete("/v1/api/users")
+                .param("createdBefore", LocalDateTime.now().plusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.deletedCount").value(1))
+                .andExpect(jsonPath("$.data.moreRemaining").value(false));
+        
+        assertEquals(0, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("SQL statements - Each endpoint runs the statements it is expected to")
+    void endpoints_RunExpectedSqlStatements() throws Exception {
+        // The user created in setUp is served from the cache
+        mockMvc.perform(get("/v1/api/users/{id}", testUserId))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(0));
+        mockMvc.perform(get("/v1/api/users/{id}", 999999))
+                .andExpect(status().isNotFound())
+                .andExpect(sqlStatements(1));
+        mockMvc.perform(get("/v1/api/users"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(1))
+                .andExpect(header().exists(SqlStatementFilter.TIME_HEADER));
+        // Statement timeout, then the query
+        mockMvc.perform(get("/v1/api/users/search").param("q", "john"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(2));
+        mockMvc.perform(get("/v1/api/users/count"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(1));
+        // Update returning the row, and its outbox event
+        mockMvc.perform(patch("/v1/api/users/{id}", testUserId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"firstName\":\"Johnny\"}"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(2));
+        // Delete, its outbox event and the count update; no SELECT first
+        mockMvc.perform(delete("/v1/api/users/{id}", testUserId))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(3));
+    }
+
+    @Test
+    @DisplayName("SQL statements - Repository calls are counted on the calling thread")
+    void repository_CountsSqlStatements() {
+        assertSqlStatements(1, () -> userRepository.findPage(null, 21));
+        assertSqlStatements(0, () -> userRepository.existsByEmail("nobody@example.com"));
+    }
+
+    @Test
+    @DisplayName("GET /v1/api/users/{id} - Breaks the request down by layer in Server-Timing")
+    void getUserById_ReturnsServerTiming() throws Exception {
+        String serverTiming = mockMvc.perform(get("/v1/api/users/{id}", 999999))
+                .andExpect(status().isNotFound())
+                .andReturn().getResponse().getHeader(ServerTimingFilter.HEADER);
+
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.startsWith("app;dur="), serverTiming);
+        assertTrue(serverTiming.contains(", controller;dur="), serverTiming);
+        assertTrue(serverTiming.contains(", service;dur="), serverTiming);
+        assertTrue(serverTiming.contains(", repository;dur="), serverTiming);
+        assertTrue(serverTiming.contains(", db;dur="), serverTiming);
+        assertTrue(serverTiming.contains(";desc=\"1 statements\", pool;dur="), serverTiming);
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - Exposes use case, repository and JVM metrics")
+    void prometheus_ExposesMetrics() throws Exception {
+        mockMvc.perform(get("/v1/api/users/{id}", testUserId)).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/api/users/{id}", 999999)).andExpect(status().isNotFound());
+
+        String metrics = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> samples = metrics.lines().filter(line -> !line.startsWith("#")).toList();
+        assertTrue(samples.stream().anyMatch(line -> line.startsWith("user_usecase_seconds_count{")
+                && line.contains("exception=\"none\"") && line.contains("method=\"getUserById\"")));
+        assertTrue(samples.stream().anyMatch(line -> line.startsWith("user_usecase_seconds_bucket{")
+                && line.contains("method=\"getUserById\"")));
+        assertTrue(samples.stream().anyMatch(line -> line.startsWith("user_usecase_exceptions_total{")
+                && line.contains("method=\"getUserById\"") && line.contains("type=\"NOT_FOUND\"")));
+        assertTrue(samples.stream().anyMatch(line -> line.startsWith("user_repository_seconds_count{")
+                && line.contains("method=\"findById\"")));
+        assertTrue(samples.stream().anyMatch(line -> line.startsWith("jvm_memory_used_bytes{")));
+    }
+
     @Test
     @DisplayName("POST /v1/api/users - Validation Error")
     void createUser_InvalidRequest_ReturnsBadRequest() throws Exception {
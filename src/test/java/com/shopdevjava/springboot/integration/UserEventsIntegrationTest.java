@@ -0,0 +1,209 @@
+package com.shopdevjava.springboot.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shopdevjava.springboot.application.port.out.UserChangeEventSink;
+import com.shopdevjava.springboot.application.service.UserEventRelay;
+import com.shopdevjava.springboot.config.TestConfig;
+import com.shopdevjava.springboot.domain.model.UserChangeEvent;
+import com.shopdevjava.springboot.domain.model.UserChangeType;
+import com.shopdevjava.springboot.domain.model.UserOutboxPosition;
+import com.shopdevjava.springboot.domain.repository.UserOutboxRepository;
+import com.shopdevjava.springboot.domain.repository.UserRepository;
+import com.shopdevjava.springboot.infrastructure.adapter.web.dto.UserRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Relays the outbox by hand; the test profile only runs the scheduled relay at startup
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import({TestConfig.class, UserEventsIntegrationTest.RecordingSinkConfig.class})
+public class UserEventsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserOutboxRepository userOutboxRepository;
+
+    @Autowired
+    private UserEventRelay userEventRelay;
+
+    @Autowired
+    private RecordingSink recordingSink;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        userEventRelay.relayPending();
+        recordingSink.events.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Create, patch and delete publish one event each, in order")
+    void userLifecycle_PublishesEventsInOrder() throws Exception {
+        long id = createUser("john.doe@example.com");
+        mockMvc.perform(patch("/v1/api/users/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"firstName\":\"Johnny\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/v1/api/users/{id}", id))
+                .andExpect(status().isOk());
+        
+        assertEquals(3, userEventRelay.relayPending());
+        
+        List<UserChangeEvent> events = recordingSink.events;
+        assertEquals(List.of(UserChangeType.CREATED, UserChangeType.UPDATED, UserChangeType.DELETED),
+                events.stream().map(UserChangeEvent::type).toList());
+        assertTrue(events.stream().allMatch(event -> event.userId() == id));
+        assertTrue(events.get(0).sequence() < events.get(1).sequence()
+                && events.get(1).sequence() < events.get(2).sequence());
+        assertEquals(0, userEventRelay.relayPending());
+    }
+
+    @Test
+    @DisplayName("Failed writes publish nothing")
+    void duplicateEmail_PublishesNothing() throws Exception {
+        createUser("john.doe@example.com");
+        userEventRelay.relayPending();
+        recordingSink.events.clear();
+        
+        mockMvc.perform(post("/v1/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new UserRequest("Jane", "Doe", "john.doe@example.com", "password123"))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/v1/api/users").param("ids", "999999"))
+                .andExpect(status().isOk());
+        
+        assertEquals(0, userEventRelay.relayPending());
+        assertTrue(recordingSink.events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("A batch a sink failed on is relayed again")
+    void failedRelay_RelaysAgain() throws Exception {
+        FailingOnceSink sink = new FailingOnceSink();
+        UserEventRelay relay = new UserEventRelay(userOutboxRepository, List.of(sink));
+        relay.relayPending();
+        long id = createUser("john.doe@example.com");
+        
+        assertThrows(IllegalStateException.class, relay::relayPending);
+        
+        assertEquals(1, relay.relayPending());
+        assertEquals(id, sink.events.get(0).userId());
+    }
+
+    @Test
+    @DisplayName("Every relay receives every event, as each instance does")
+    void twoRelays_BothReceiveEveryEvent() throws Exception {
+        RecordingSink firstSink = new RecordingSink();
+        RecordingSink secondSink = new RecordingSink();
+        UserEventRelay firstRelay = new UserEventRelay(userOutboxRepository, List.of(firstSink));
+        UserEventRelay secondRelay = new UserEventRelay(userOutboxRepository, List.of(secondSink));
+        firstRelay.relayPending();
+        secondRelay.relayPending();
+        
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(createUser("user" + i + "@example.com"));
+            firstRelay.relayPending();
+        }
+        mockMvc.perform(delete("/v1/api/users/{id}", ids.get(0)))
+                .andExpect(status().isOk());
+        
+        assertEquals(1, firstRelay.relayPending());
+        assertEquals(6, secondRelay.relayPending());
+        assertEquals(firstSink.events, secondSink.events);
+        assertEquals(ids, secondSink.events.stream()
+                .filter(event -> event.type() == UserChangeType.CREATED)
+                .map(UserChangeEvent::userId).toList());
+        assertEquals(ids.get(0), secondSink.events.get(5).userId());
+    }
+
+    @Test
+    @DisplayName("Events past the retention period are purged")
+    void purge_DeletesEventsBeforeCutoff() throws Exception {
+        createUser("john.doe@example.com");
+        
+        assertEquals(0, userOutboxRepository.deleteOccurredBefore(Instant.now().minusSeconds(60)));
+        assertTrue(userOutboxRepository.deleteOccurredBefore(Instant.now().plusSeconds(1)) >= 1);
+        
+        assertTrue(userOutboxRepository.readAfter(new UserOutboxPosition(0, 0), 10).events().isEmpty());
+    }
+
+    private long createUser(String email) throws Exception {
+        String response = mockMvc.perform(post("/v1/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UserRequest("John", "Doe", email, "password123"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).path("data").path("id").asLong();
+    }
+
+    static class RecordingSink implements UserChangeEventSink {
+
+        final List<UserChangeEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(List<UserChangeEvent> batch) {
+            events.addAll(batch);
+        }
+    }
+
+    static class FailingOnceSink extends RecordingSink {
+
+        private boolean failed;
+
+        @Override
+        public void publish(List<UserChangeEvent> batch) {
+            if (!failed) {
+                failed = true;
+                throw new IllegalStateException("Sink unavailable");
+            }
+            super.publish(batch);
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingSinkConfig {
+
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+}